@@ -0,0 +1,379 @@
+package com.accountease.amazonseller.core;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.filters.ReportCatalog;
+import com.accountease.amazonseller.core.processor.DateFilter;
+import com.accountease.amazonseller.core.reader.IncrementalLoader;
+import com.accountease.amazonseller.core.reader.MultiFileReader;
+import com.accountease.amazonseller.core.table.AggregateCube;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class Dataset
+ *
+ * A dataset is the data one set of reports is evaluated against, such as the transaction report of one seller
+ * for one period. {@link ReportSetting#processReport(Dataset)} computes a report over any dataset, so a single
+ * process may hold the data of several sellers or periods at once, each in its own `Dataset`.
+ *
+ * Method of(filePath, headerRowIndex):
+ * - Creates a dataset for a report file or a directory of report files. Nothing is read until the table is
+ *   first needed; creating a dataset is free.
+ * - Loads the file the same way the application always did:
+ *   - A directory is read by `MultiFileReader`, which merges all report files in it.
+ *   - With `FilterConstants.INCREMENTAL_LOADING`, the file is loaded by an `IncrementalLoader` owned by the
+ *     dataset, so `reload()` only parses rows appended to the file since the previous load.
+ *   - Otherwise (the default) a CSV/TSV file is parsed, and for an Excel file the binary snapshot written next to
+ *     it by `TableSnapshotCache` is reused if the file is unchanged.
+ * - With `FilterConstants.COLUMN_PROJECTION` (off by default), only the columns used by the reports of `ReportCatalog`
+ *   are loaded. Reports using any other column then fail with an `IllegalArgumentException`, and the rows of
+ *   `getRows()` only contain the loaded columns.
+ *
+ * Method of(table):
+ * - Wraps a table that is already in memory, e.g. one built by a test or merged from other datasets.
+ *
+ * Method getTable:
+ * - Returns the table, loading it on the first call. Concurrent first calls load the file only once.
+ * - Throws a `RuntimeException` if there is an error reading the file, and an `IllegalStateException`
+ *   once the dataset is closed.
+ *
+ * Method reload:
+ * - Loads the data again and returns the new table. Tables returned earlier stay valid.
+ *
+ * Method dateWindow:
+ * - Returns the rows of the table whose date lies within a range, as an immutable {@link DateWindow}.
+ * - Windows are cached per dataset, keyed by date column, range and date format: only the first report of a run
+ *   filters by date, all later reports with the same range reuse the window. Reports running concurrently wait
+ *   for the first one to compute it instead of filtering by date themselves.
+ * - The cache belongs to the loaded table; when `reload()` replaces the table or the dataset is closed, all
+ *   windows are dropped, and windows handed out earlier keep referring to the table they were computed on.
+ *
+ * Method getCube:
+ * - Returns the {@link AggregateCube} of the table over `FilterConstants.DATE_COLUMN_EXCEL`, built on the first
+ *   call and kept with the loaded table like the date windows; `null` if the table has no parsed date column.
+ *
+ * Method setAggregateCube:
+ * - Switches answering reports from the cube on or off for this dataset; the default is
+ *   `FilterConstants.AGGREGATE_CUBE`, i.e. off unless the JVM runs with `-Daccountease.aggregateCube=true`.
+ * - Clears the result cache when the setting changes, as totals from the cube may differ in the last digits.
+ *
+ * Method getResultCache:
+ * - Returns the {@link ReportCache} of the dataset, in which `ReportSetting.processReport` and `ReportBatch.process`
+ *   keep the totals they computed, keyed by the report's filters, date range and the table version.
+ * - Cleared when `reload()` replaces the table or the dataset is closed.
+ *
+ * Method close:
+ * - Releases the table. Reports evaluated afterwards fail instead of silently loading the file again.
+ *
+ * Key Features:
+ * - Lazy: touching `ReportSetting` or a filter class no longer reads any file.
+ * - Independent: every dataset has its own table and loader; closing one does not affect the others.
+ * - `getVersion()` changes whenever the table of the dataset is (re)loaded, so results derived from a table
+ *   can tell whether they are still current.
+ *
+ * Parameters:
+ * param filePath       The path to the report file or directory.
+ * param headerRowIndex The index of the row containing column headers (0-based).
+ *
+ * Example Usage:
+ * ```
+ * try (Dataset january = Dataset.of("january.xlsx", 7); Dataset february = Dataset.of("february.xlsx", 7)) {
+ *     ReportSetting report = StandardFilters.getTotalSalesSumAmazon();
+ *     Double januaryTotal = report.processReport(january);
+ *     Double februaryTotal = report.processReport(february);
+ * }
+ * ```
+ *
+ * Significance:
+ * - Decouples the report definitions from the data they are computed on, which used to be a single file fixed
+ *   by `FilterConstants.FILE_PATH` and loaded as soon as the class was touched.
+ */
+public final class Dataset implements AutoCloseable {
+
+    private final String filePath;
+    private final int headerRowIndex;
+
+    private final ReportCache results = new ReportCache(FilterConstants.RESULT_CACHE_SIZE);
+
+    private volatile TableSchema schema;
+    private IncrementalLoader loader;
+    private volatile Loaded loaded;
+    private volatile long version;
+    private volatile boolean closed;
+    private volatile boolean aggregateCube = FilterConstants.AGGREGATE_CUBE;
+
+    private Dataset(String filePath, int headerRowIndex, ColumnTable table) {
+        this.filePath = filePath;
+        this.headerRowIndex = headerRowIndex;
+        if (table != null) {
+            this.version = 1;
+            this.loaded = new Loaded(table, version);
+        }
+    }
+
+    public static Dataset of(String filePath, int headerRowIndex) {
+        return new Dataset(filePath, headerRowIndex, null);
+    }
+
+    public static Dataset of(ColumnTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table must not be null");
+        }
+        return new Dataset(null, 0, table);
+    }
+
+    /**
+     * Returns the dataset of `FilterConstants.FILE_PATH`, which `ReportSetting.processReport()` uses.
+     * It is created, not loaded, on the first call.
+     */
+    public static Dataset defaultDataset() {
+        return DefaultHolder.DATASET;
+    }
+
+    public ColumnTable getTable() {
+        return current().table;
+    }
+
+    /**
+     * Returns the rows whose value in `dateColumn`, parsed with `dateFormat`, lies within `startDate` and `endDate`
+     * (both parsed with `dateFormat` as well), computed once per table and range.
+     */
+    public DateWindow dateWindow(String dateColumn, String startDate, String endDate, SimpleDateFormat dateFormat) {
+        Loaded current = current();
+        return current.windows.computeIfAbsent(new WindowKey(dateColumn, startDate, endDate, dateFormat), key -> {
+            try {
+                DateFilter filter = new DateFilter(dateColumn, startDate, endDate, dateFormat);
+                return new DateWindow(current.table, filter.filter(current.table, current.table.allRows()), current.version);
+            } catch (ParseException e) {
+                throw new IllegalArgumentException("Invalid date range: " + startDate + " - " + endDate, e);
+            }
+        });
+    }
+
+    /**
+     * Returns the sums and counts of the numeric columns per dictionary values and day; built once per table.
+     */
+    public AggregateCube getCube() {
+        Loaded current = current();
+        synchronized (current) {
+            if (!current.cubeBuilt) {
+                current.cube = AggregateCube.build(current.table, FilterConstants.DATE_COLUMN_EXCEL);
+                current.cubeBuilt = true;
+            }
+            return current.cube;
+        }
+    }
+
+    public List<Map<String, String>> getRows() {
+        return getTable().asRowList();
+    }
+
+    /**
+     * Loads the data again; with `INCREMENTAL_LOADING`, only rows added to the file since the last load are parsed.
+     * A dataset wrapping an in-memory table keeps its table.
+     */
+    public synchronized ColumnTable reload() {
+        checkOpen();
+        if (filePath == null) {
+            return loaded.table;
+        }
+        ColumnTable reloaded = load();
+        if (loaded == null || reloaded != loaded.table) {
+            version++;
+            loaded = new Loaded(reloaded, version);
+            results.clear();
+        }
+        return reloaded;
+    }
+
+    public boolean isLoaded() {
+        return loaded != null;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public ReportCache getResultCache() {
+        return results;
+    }
+
+    /**
+     * Returns `true` if reports take their totals from the cube of this dataset where it can answer them.
+     */
+    public boolean usesAggregateCube() {
+        return aggregateCube;
+    }
+
+    public synchronized void setAggregateCube(boolean enabled) {
+        if (aggregateCube != enabled) {
+            aggregateCube = enabled;
+            results.clear();
+        }
+    }
+
+    /**
+     * Returns the version of the table reports are currently evaluated on, loading it if necessary.
+     */
+    long currentVersion() {
+        return current().version;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        loaded = null;
+        loader = null;
+        results.clear();
+    }
+
+    private Loaded current() {
+        Loaded current = loaded;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            checkOpen();
+            if (loaded == null) {
+                ColumnTable table = load();
+                version++;
+                loaded = new Loaded(table, version);
+            }
+            return loaded;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Dataset is closed" + (filePath != null ? ": " + filePath : ""));
+        }
+    }
+
+    private ColumnTable load() {
+        try {
+            TableSchema schema = getSchema();
+            if (Files.isDirectory(Path.of(filePath))) {
+                return MultiFileReader.readDirectory(filePath, headerRowIndex, schema);
+            }
+            if (FilterConstants.INCREMENTAL_LOADING) {
+                if (loader == null) {
+                    loader = new IncrementalLoader(filePath, headerRowIndex, schema);
+                }
+                return loader.load();
+            }
+            return MultiFileReader.readFile(filePath, headerRowIndex, schema);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading Excel file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the schema the file is loaded with, or `null` for a dataset wrapping an in-memory table.
+     */
+    private TableSchema getSchema() {
+        if (filePath == null) {
+            return null;
+        }
+        TableSchema current = schema;
+        if (current == null) {
+            current = TableSchema.transactionReport();
+            if (FilterConstants.COLUMN_PROJECTION) {
+                current = current.withProjection(ReportCatalog.getRequiredColumns());
+            }
+            schema = current;
+        }
+        return current;
+    }
+
+    /**
+     * Throws an `IllegalArgumentException` if one of the columns is left out of the table by the column projection
+     * (`FilterConstants.COLUMN_PROJECTION`). A left-out column would read as empty, so a report using it would
+     * silently give a wrong total. Does not load the table.
+     */
+    void requireColumns(Collection<String> columns) {
+        TableSchema current = getSchema();
+        if (current == null) {
+            return;
+        }
+        for (String column : columns) {
+            if (!current.isProjected(column)) {
+                throw new IllegalArgumentException("Column '" + column + "' is not loaded, as no report of ReportCatalog"
+                        + " uses it (see FilterConstants.COLUMN_PROJECTION)");
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Dataset{filePath='" + filePath + '\'' + ", loaded=" + isLoaded() + ", version=" + version + '}';
+    }
+
+    /**
+     * A loaded table together with the date windows and the cube computed on it; replaced as a whole when the table changes.
+     */
+    private static final class Loaded {
+        private final ColumnTable table;
+        private final long version;
+        private final Map<WindowKey, DateWindow> windows = new ConcurrentHashMap<>();
+        private AggregateCube cube;
+        private boolean cubeBuilt;
+
+        private Loaded(ColumnTable table, long version) {
+            this.table = table;
+            this.version = version;
+        }
+    }
+
+    private static final class WindowKey {
+        private final String dateColumn;
+        private final String startDate;
+        private final String endDate;
+        private final String pattern;
+        private final TimeZone timeZone;
+        private final boolean lenient;
+
+        private WindowKey(String dateColumn, String startDate, String endDate, SimpleDateFormat dateFormat) {
+            this.dateColumn = dateColumn;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.pattern = dateFormat.toPattern();
+            this.timeZone = dateFormat.getTimeZone();
+            this.lenient = dateFormat.isLenient();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof WindowKey)) return false;
+            WindowKey other = (WindowKey) o;
+            return dateColumn.equals(other.dateColumn) && startDate.equals(other.startDate)
+                    && endDate.equals(other.endDate) && pattern.equals(other.pattern) && timeZone.equals(other.timeZone)
+                    && lenient == other.lenient;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dateColumn, startDate, endDate, pattern, timeZone, lenient);
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final Dataset DATASET = of(FilterConstants.FILE_PATH, FilterConstants.HEADER_ROW_INDEX);
+    }
+}
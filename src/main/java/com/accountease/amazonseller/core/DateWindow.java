@@ -0,0 +1,52 @@
+package com.accountease.amazonseller.core;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowBitmap;
+import com.accountease.amazonseller.core.table.RowSelection;
+
+/**
+ * Class DateWindow
+ *
+ * The rows of a dataset's table whose date lies within a range, as returned by {@link Dataset#dateWindow}.
+ * The window keeps the table it was computed on, so its rows always refer to that table, even after the
+ * dataset has been reloaded.
+ *
+ * Key Points:
+ * - Immutable and shared by all reports evaluated over the same range.
+ * - `getVersion()` is the dataset version of the table; a window of an older version is no longer handed out.
+ * - `getBitmap()` returns the rows as a {@link RowBitmap}, converted once on first use, for filters
+ *   evaluated with bitmap operations.
+ */
+public final class DateWindow {
+    private final ColumnTable table;
+    private final RowSelection rows;
+    private final long version;
+    private volatile RowBitmap bitmap;
+
+    DateWindow(ColumnTable table, RowSelection rows, long version) {
+        this.table = table;
+        this.rows = rows;
+        this.version = version;
+    }
+
+    public ColumnTable getTable() {
+        return table;
+    }
+
+    public RowSelection getRows() {
+        return rows;
+    }
+
+    public RowBitmap getBitmap() {
+        RowBitmap rowBitmap = bitmap;
+        if (rowBitmap == null) {
+            rowBitmap = RowBitmap.of(rows);
+            bitmap = rowBitmap;
+        }
+        return rowBitmap;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,309 @@
+package com.accountease.amazonseller.core;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.table.Column;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.DictionaryColumn;
+import com.accountease.amazonseller.core.table.NumericColumn;
+import com.accountease.amazonseller.core.table.RowSelection;
+import com.accountease.amazonseller.core.table.Utf8Column;
+import com.accountease.amazonseller.core.table.Utf8Set;
+
+import java.util.*;
+
+/**
+ * Class ReportBatch
+ *
+ * Computes the totals of many {@link ReportSetting}s in a single pass over the rows of a dataset, instead of
+ * running the date filter, the column filters and the summation once per report.
+ *
+ * Method of:
+ * - Compiles the reports into one plan: every distinct column filter (column and filter values, including
+ *   `!exclude` filters) and every distinct numeric column becomes a single entry, however many reports use it.
+ * - Each report keeps the indexes of its filters and numeric columns within the plan.
+ *
+ * Method process:
+ * - Totals already in the {@link ReportCache} of the dataset are reused, and if the dataset uses its cube, reports
+ *   the {@link com.accountease.amazonseller.core.table.AggregateCube} of the dataset can answer are taken
+ *   from the cube, as `processReport` does; the remaining reports are computed in one pass and stored in the cache:
+ * 1. Takes the rows within `FilterConstants.START_DATE` and `END_DATE` from the date window of the dataset;
+ *    it is the same for every report and shared with `ReportSetting.processReport`.
+ * 2. Resolves every filter against the table, with the same strategies as `MultiColumnFilter`:
+ *    accepted dictionary codes for a `DictionaryColumn`, raw bytes for a `Utf8Column`, trimmed strings otherwise.
+ * 3. Visits each row in the date range once: evaluates every distinct filter and reads every distinct numeric
+ *    column once, then adds the values to the totals of the reports whose filters all match.
+ * - Returns the totals in the order of the reports.
+ *
+ * Key Features:
+ * - One scan for the whole monthly close instead of one per report, and no intermediate row selections.
+ * - The totals are identical to those of {@link ReportSetting#processReport(Dataset)}: values of each numeric
+ *   column are added in row order and the column sums are added up per report, as `SummationProcessor` does.
+ *   If the dataset uses its cube (`Dataset.setAggregateCube`), both take the same totals from it, which may
+ *   differ from a row-by-row scan in the last digits.
+ * - Invalid values of text columns are reported once per row, not once per report using them.
+ *
+ * Parameters:
+ * param reports The reports to compute; a report may appear more than once.
+ *
+ * Example Usage:
+ * ```
+ * ReportBatch batch = ReportBatch.of(ReportCatalog.getReports());
+ * Map<ReportSetting, Double> totals = batch.process(dataset);
+ * ```
+ */
+public final class ReportBatch {
+
+    private final List<ReportSetting> reports;
+    private final List<String> filterColumns = new ArrayList<>();
+    private final List<List<String>> filterValues = new ArrayList<>();
+    private final List<String> numericColumns = new ArrayList<>();
+    private final int[][] reportFilters;
+    private final int[][] reportNumerics;
+
+    private ReportBatch(List<ReportSetting> reports) {
+        this.reports = reports;
+        this.reportFilters = new int[reports.size()][];
+        this.reportNumerics = new int[reports.size()][];
+
+        Map<String, Integer> filterIndexes = new HashMap<>();
+        Map<String, Integer> numericIndexes = new HashMap<>();
+        for (int r = 0; r < reports.size(); r++) {
+            ReportSetting report = reports.get(r);
+
+            List<Integer> filters = new ArrayList<>();
+            if (report.getColumnFilters() != null) {
+                for (Map.Entry<String, List<String>> entry : report.getColumnFilters().entrySet()) {
+                    if (entry.getValue() == null || entry.getValue().isEmpty()) continue;
+
+                    String key = entry.getKey() + '\u0000' + new TreeSet<>(entry.getValue());
+                    filters.add(filterIndexes.computeIfAbsent(key, k -> {
+                        filterColumns.add(entry.getKey());
+                        filterValues.add(entry.getValue());
+                        return filterColumns.size() - 1;
+                    }));
+                }
+            }
+            reportFilters[r] = filters.stream().mapToInt(Integer::intValue).toArray();
+
+            List<String> columns = report.getNumericColumns() != null ? report.getNumericColumns() : List.of();
+            reportNumerics[r] = new int[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                reportNumerics[r][i] = numericIndexes.computeIfAbsent(columns.get(i), column -> {
+                    numericColumns.add(column);
+                    return numericColumns.size() - 1;
+                });
+            }
+        }
+    }
+
+    public static ReportBatch of(Collection<ReportSetting> reports) {
+        return new ReportBatch(List.copyOf(reports));
+    }
+
+    public List<ReportSetting> getReports() {
+        return reports;
+    }
+
+    /**
+     * Computes all totals over the table of the dataset; the map iterates in the order of the reports.
+     */
+    public Map<ReportSetting, Double> process(Dataset dataset) {
+        for (ReportSetting report : reports) {
+            dataset.requireColumns(report.getColumns());
+        }
+        ReportCache cache = dataset.getResultCache();
+        ReportCache.Key[] keys = new ReportCache.Key[reports.size()];
+        Double[] totals = new Double[reports.size()];
+        List<ReportSetting> remaining = new ArrayList<>();
+        try {
+            long version = dataset.currentVersion();
+            for (int r = 0; r < reports.size(); r++) {
+                keys[r] = reports.get(r).cacheKey(version);
+                totals[r] = cache.get(keys[r]);
+                if (totals[r] == null) {
+                    totals[r] = reports.get(r).sumFromCube(dataset);
+                    cache.put(keys[r], totals[r]);
+                }
+                if (totals[r] == null) {
+                    remaining.add(reports.get(r));
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Error processing the reports: " + e.getMessage(), e);
+        }
+
+        if (!remaining.isEmpty()) {
+            double[] scanned;
+            try {
+                DateWindow window = dataset.dateWindow(
+                        FilterConstants.DATE_COLUMN_EXCEL,
+                        FilterConstants.START_DATE,
+                        FilterConstants.END_DATE,
+                        FilterConstants.newDateFormat()
+                );
+                ReportBatch batch = remaining.size() == reports.size() ? this : of(remaining);
+                scanned = batch.calculateTotals(window.getTable(), window.getRows());
+            } catch (Exception e) {
+                throw new RuntimeException("Error processing the reports: " + e.getMessage(), e);
+            }
+            for (int r = 0, next = 0; r < totals.length; r++) {
+                if (totals[r] == null) {
+                    totals[r] = scanned[next++];
+                    cache.put(keys[r], totals[r]);
+                }
+            }
+        }
+
+        Map<ReportSetting, Double> result = new LinkedHashMap<>();
+        for (int r = 0; r < reports.size(); r++) {
+            result.put(reports.get(r), totals[r]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the totals of all reports over the selected rows of a table, in a single pass.
+     *
+     * @return The total of every report, in the order of the reports.
+     */
+    public double[] calculateTotals(ColumnTable table, RowSelection selection) {
+        RowFilter[] filters = new RowFilter[filterColumns.size()];
+        for (int f = 0; f < filters.length; f++) {
+            filters[f] = RowFilter.of(table.getColumn(filterColumns.get(f)), filterValues.get(f));
+        }
+        Column[] columns = new Column[numericColumns.size()];
+        for (int n = 0; n < columns.length; n++) {
+            columns[n] = table.getColumn(numericColumns.get(n));
+        }
+
+        boolean[] matched = new boolean[filters.length];
+        double[] values = new double[columns.length];
+        boolean[] present = new boolean[columns.length];
+        double[][] columnSums = new double[reports.size()][];
+        for (int r = 0; r < columnSums.length; r++) {
+            columnSums[r] = new double[reportNumerics[r].length];
+        }
+
+        for (int i = 0; i < selection.size(); i++) {
+            int row = selection.get(i);
+            for (int f = 0; f < filters.length; f++) {
+                matched[f] = filters[f].matches(row);
+            }
+            boolean valuesRead = false;
+
+            for (int r = 0; r < columnSums.length; r++) {
+                if (!matchesAll(reportFilters[r], matched)) continue;
+
+                if (!valuesRead) {
+                    readValues(columns, row, values, present);
+                    valuesRead = true;
+                }
+                int[] numerics = reportNumerics[r];
+                for (int k = 0; k < numerics.length; k++) {
+                    if (present[numerics[k]]) {
+                        columnSums[r][k] += values[numerics[k]];
+                    }
+                }
+            }
+        }
+
+        double[] totals = new double[columnSums.length];
+        for (int r = 0; r < totals.length; r++) {
+            for (double sum : columnSums[r]) {
+                totals[r] += sum;
+            }
+        }
+        return totals;
+    }
+
+    private static boolean matchesAll(int[] filters, boolean[] matched) {
+        for (int filter : filters) {
+            if (!matched[filter]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readValues(Column[] columns, int row, double[] values, boolean[] present) {
+        for (int n = 0; n < columns.length; n++) {
+            Column column = columns[n];
+            present[n] = false;
+            if (column == null) continue;
+
+            if (column instanceof NumericColumn) {
+                NumericColumn numeric = (NumericColumn) column;
+                if (numeric.isPresent(row)) {
+                    values[n] = numeric.getDouble(row);
+                    present[n] = true;
+                }
+                continue;
+            }
+
+            String valueStr = column.getString(row).replace(",", ".").trim();
+            if (valueStr.isEmpty()) continue;
+
+            try {
+                values[n] = Double.parseDouble(valueStr);
+                present[n] = true;
+            } catch (NumberFormatException e) {
+                System.err.println("Error converting value \"" + valueStr + "\" in column \"" + numericColumns.get(n) + "\".");
+            }
+        }
+    }
+
+    /**
+     * A column filter resolved against the columns of a table; same semantics as in `MultiColumnFilter`.
+     */
+    private abstract static class RowFilter {
+
+        abstract boolean matches(int row);
+
+        static RowFilter of(Column column, List<String> filterValues) {
+            boolean isExcludeFilter = filterValues.contains("!exclude");
+            Set<String> values = new HashSet<>(filterValues);
+            if (isExcludeFilter) {
+                values.remove("!exclude");
+            }
+
+            if (column instanceof DictionaryColumn) {
+                DictionaryColumn dictionary = (DictionaryColumn) column;
+                boolean[] acceptedCodes = new boolean[dictionary.getDictionarySize()];
+                for (int code = 0; code < acceptedCodes.length; code++) {
+                    acceptedCodes[code] = values.contains(dictionary.getDictionaryValue(code).trim()) != isExcludeFilter;
+                }
+                return new RowFilter() {
+                    @Override
+                    boolean matches(int row) {
+                        return acceptedCodes[dictionary.getCode(row)];
+                    }
+                };
+            }
+            if (column instanceof Utf8Column) {
+                Utf8Column utf8 = (Utf8Column) column;
+                Utf8Set utf8Values = Utf8Set.of(values);
+                return new RowFilter() {
+                    @Override
+                    boolean matches(int row) {
+                        return utf8Values.contains(utf8, row) != isExcludeFilter;
+                    }
+                };
+            }
+            if (column == null) {
+                boolean matchesEmpty = values.contains("") != isExcludeFilter;
+                return new RowFilter() {
+                    @Override
+                    boolean matches(int row) {
+                        return matchesEmpty;
+                    }
+                };
+            }
+            return new RowFilter() {
+                @Override
+                boolean matches(int row) {
+                    return values.contains(column.getString(row).trim()) != isExcludeFilter;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.accountease.amazonseller.core;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * Class ReportCache
+ *
+ * Remembers the totals of reports already computed on a dataset, so asking for the same report again over
+ * unchanged data returns the stored total instead of filtering and summing the rows again.
+ *
+ * Method get / put:
+ * - Look up and store a total under a {@link Key}. Each {@link Dataset} owns a cache, which
+ *   `ReportSetting.processReport` and `ReportBatch.process` consult before evaluating a report.
+ *
+ * Method Key.of:
+ * - Builds the canonical form of a report evaluation: the column filters (in any order, with their values as a set,
+ *   ignoring filters without values), the numeric columns (in order, since they are summed in order), the date
+ *   column, the date range and format, and the version of the dataset's table.
+ * - Two reports with different names but the same filters therefore share one entry.
+ *
+ * Key Features:
+ * - Bounded: holds at most `maxSize` totals and evicts the least recently used one when full.
+ * - Invalidation: the key contains the table version, so a reload makes all earlier entries unreachable;
+ *   `Dataset.reload()` also clears the cache to release them.
+ * - `getHits()` and `getMisses()` count lookups since the cache was created; they survive `clear()`.
+ * - Thread-safe; concurrent misses on the same key may both compute the total, which is harmless.
+ *
+ * Parameters:
+ * param maxSize The maximum number of totals kept (`FilterConstants.RESULT_CACHE_SIZE` for datasets).
+ */
+public final class ReportCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<Key, Double> totals;
+    private long hits;
+    private long misses;
+
+    public ReportCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.totals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+                return size() > ReportCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the stored total, or `null` (counted as a miss) if there is none.
+     */
+    public synchronized Double get(Key key) {
+        Double total = totals.get(key);
+        if (total != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return total;
+    }
+
+    public synchronized void put(Key key, Double total) {
+        if (total != null && maxSize > 0) {
+            totals.put(key, total);
+        }
+    }
+
+    public synchronized void clear() {
+        totals.clear();
+    }
+
+    public synchronized int size() {
+        return totals.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ReportCache{size=" + totals.size() + ", maxSize=" + maxSize + ", hits=" + hits + ", misses=" + misses + '}';
+    }
+
+    /**
+     * The canonical form of one report evaluated over one version of a dataset.
+     */
+    public static final class Key {
+        private final Map<String, Set<String>> columnFilters;
+        private final List<String> numericColumns;
+        private final String dateColumn;
+        private final String startDate;
+        private final String endDate;
+        private final String pattern;
+        private final TimeZone timeZone;
+        private final boolean lenient;
+        private final long version;
+        private final int hashCode;
+
+        private Key(Map<String, Set<String>> columnFilters, List<String> numericColumns, String dateColumn,
+                    String startDate, String endDate, SimpleDateFormat dateFormat, long version) {
+            this.columnFilters = columnFilters;
+            this.numericColumns = numericColumns;
+            this.dateColumn = dateColumn;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.pattern = dateFormat.toPattern();
+            this.timeZone = dateFormat.getTimeZone();
+            this.lenient = dateFormat.isLenient();
+            this.version = version;
+            this.hashCode = Objects.hash(columnFilters, numericColumns, dateColumn, startDate, endDate, pattern,
+                    timeZone, lenient, version);
+        }
+
+        public static Key of(ReportSetting report, String dateColumn, String startDate, String endDate,
+                             SimpleDateFormat dateFormat, long version) {
+            Map<String, Set<String>> filters = new TreeMap<>();
+            if (report.getColumnFilters() != null) {
+                for (Map.Entry<String, List<String>> entry : report.getColumnFilters().entrySet()) {
+                    if (entry.getValue() == null || entry.getValue().isEmpty()) continue;
+                    filters.put(entry.getKey(), new TreeSet<>(entry.getValue()));
+                }
+            }
+            List<String> numericColumns = report.getNumericColumns() != null
+                    ? new ArrayList<>(report.getNumericColumns())
+                    : List.of();
+            return new Key(filters, numericColumns, dateColumn, startDate, endDate, dateFormat, version);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return version == other.version && lenient == other.lenient && hashCode == other.hashCode
+                    && columnFilters.equals(other.columnFilters) && numericColumns.equals(other.numericColumns)
+                    && dateColumn.equals(other.dateColumn) && startDate.equals(other.startDate)
+                    && endDate.equals(other.endDate) && pattern.equals(other.pattern) && timeZone.equals(other.timeZone);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
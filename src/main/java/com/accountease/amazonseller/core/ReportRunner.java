@@ -0,0 +1,128 @@
+package com.accountease.amazonseller.core;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Class ReportRunner
+ *
+ * Evaluates many {@link ReportSetting}s concurrently, each with `processReport(dataset)` on its own thread,
+ * so a full set of reports finishes in about the time of the slowest one.
+ *
+ * Method create:
+ * - Runs reports on virtual threads, one per report, if the JVM provides them (Java 21 and later).
+ * - Otherwise runs them on a pool of `FilterConstants.REPORT_THREADS` daemon threads.
+ * - The runner owns the executor and shuts it down on `close()`.
+ *
+ * Method using(executor):
+ * - Runs reports on the given executor, which the caller keeps ownership of; `close()` leaves it running.
+ *
+ * Method submit:
+ * - Starts every report and returns its future, in the order of the reports. A report that fails completes
+ *   its future exceptionally with the `RuntimeException` of `processReport`; the other reports are not affected.
+ *
+ * Method runAll:
+ * - Runs every report and waits for all of them; the map iterates in the order of the reports.
+ * - Throws the `RuntimeException` of the first failed report in the order of the reports (not the first to fail),
+ *   after all reports have finished.
+ *
+ * Key Features:
+ * - Shared state on the report path is safe to use concurrently: the dataset loads its table, computes each date
+ *   window and builds its cube once, while the other reports wait for it; every report creates its own date format
+ *   (`FilterConstants.newDateFormat()`); the result cache, the column statistics and the timestamp index are synchronized.
+ * - Reports that appear more than once are evaluated once.
+ *
+ * Example Usage:
+ * ```
+ * try (ReportRunner runner = ReportRunner.create()) {
+ *     Map<ReportSetting, Double> totals = runner.runAll(ReportCatalog.getReports(), dataset);
+ * }
+ * ```
+ */
+public final class ReportRunner implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    private ReportRunner(ExecutorService executor, boolean ownsExecutor) {
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public static ReportRunner create() {
+        ExecutorService virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            return new ReportRunner(virtualThreads, true);
+        }
+        return new ReportRunner(Executors.newFixedThreadPool(Math.max(1, FilterConstants.REPORT_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "report-runner");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    public static ReportRunner using(ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        return new ReportRunner(executor, false);
+    }
+
+    /**
+     * Starts all reports over the dataset and returns their futures without waiting.
+     */
+    public Map<ReportSetting, CompletableFuture<Double>> submit(Collection<ReportSetting> reports, Dataset dataset) {
+        Map<ReportSetting, CompletableFuture<Double>> futures = new LinkedHashMap<>();
+        for (ReportSetting report : reports) {
+            futures.computeIfAbsent(report, r -> CompletableFuture.supplyAsync(() -> r.processReport(dataset), executor));
+        }
+        return futures;
+    }
+
+    /**
+     * Runs all reports over the dataset and returns their totals once every report has finished.
+     */
+    public Map<ReportSetting, Double> runAll(Collection<ReportSetting> reports, Dataset dataset) {
+        Map<ReportSetting, CompletableFuture<Double>> futures = submit(reports, dataset);
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+
+        Map<ReportSetting, Double> totals = new LinkedHashMap<>();
+        for (Map.Entry<ReportSetting, CompletableFuture<Double>> entry : futures.entrySet()) {
+            try {
+                totals.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return totals;
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns an executor starting a virtual thread per task, or `null` if the JVM has none; looked up
+     * reflectively, so the application still builds and runs on Java 17.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null; // Not available, or a preview feature that is not enabled
+        }
+    }
+}
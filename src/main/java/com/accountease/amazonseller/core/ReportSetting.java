@@ -1,13 +1,19 @@
 package com.accountease.amazonseller.core;
 
 import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.pipeline.RowPipeline;
 import com.accountease.amazonseller.core.processor.DateFilter;
+import com.accountease.amazonseller.core.processor.ExactAmount;
 import com.accountease.amazonseller.core.processor.MultiColumnFilter;
 import com.accountease.amazonseller.core.processor.SummationProcessor;
 import com.accountease.amazonseller.core.reader.ExcelReader;
+import com.accountease.amazonseller.core.table.AggregateCube;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowBitmap;
 
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.*;
-import java.io.IOException;
 
 /**
  * Class ReportSetting
@@ -20,23 +26,53 @@ import java.io.IOException;
  *    - `name`: A unique identifier for the report.
  *    - `columnFilters`: A map where keys represent column names and values are lists of allowed values for filtering.
  *    - `numericColumns`: A list of numeric column names for summation.
- * 2. The data is statically initialized by reading from an Excel file via the `ExcelReader` class.
+ * 2. No data is read when a report is created; reports are evaluated against a {@link Dataset}.
  *
- * Method initData:
- * - Reads data from the Excel file specified by `FilterConstants.FILE_PATH` and `FilterConstants.HEADER_ROW_INDEX`.
- * - Converts the data into a list of maps, where each map represents a row, with keys as column headers.
- * - Throws a `RuntimeException` if there is an error reading the file.
+ * Data:
+ * - The data lives in a `Dataset`, which loads its file lazily (see {@link Dataset} for how files, directories,
+ *   snapshots and incremental loading are handled) and can be closed when it is no longer needed.
+ * - `getTable()`, `getData()` and `reloadData()` use the default dataset of `FilterConstants.FILE_PATH`,
+ *   which is only read when one of them or `processReport()` is called.
+ * - The data is held in a `ColumnTable`, which stores the values column by column.
+ *   Low-cardinality columns (`FilterConstants.DICTIONARY_COLUMNS`) are dictionary-encoded, amounts
+ *   (`FilterConstants.NUMERIC_COLUMNS`) are parsed into numbers and `DATE_COLUMN_EXCEL` into timestamps.
  *
- * Method processReport:
- * - Executes the report processing logic in the following steps:
- *   1. Filters the data by date using `DateFilter`.
- *   2. Applies multi-column filters using `MultiColumnFilter`.
- *   3. Calculates the total sum of numeric columns using `SummationProcessor`.
- * - Returns the calculated total as a `Double`.
- * - Throws a `RuntimeException` if an error occurs during processing.
+ * Method processReport(dataset):
+ * - If the dataset uses its cube (`Dataset.setAggregateCube`, off by default), the total is first looked up in
+ *   the {@link AggregateCube} of the dataset, which holds the daily sums per `Typ`, `Versand` and `Beschreibung`.
+ *   Reports filtering other columns (such as order number lists) or ranges starting or ending within a day fall
+ *   back to the steps below.
+ *   Totals from the cube are added day by day, so they may differ in the last digits from the row-by-row totals
+ *   of the steps below and of `processReport(filePath, headerRowIndex)`.
+ * - Otherwise executes the report processing logic over the table of the dataset in the following steps:
+ *   1. Takes the rows within `START_DATE` and `END_DATE` from the date window of the dataset; the window is
+ *      computed by `DateFilter` for the first report and reused by all later ones until the data changes.
+ *   2. Applies multi-column filters using `MultiColumnFilter`; the rows are kept as a `RowBitmap`, so filters on
+ *      dictionary-encoded columns become bitmap AND/ANDNOT operations on the column's bitmap index.
+ *   3. Calculates the total sum of numeric columns over the bitmap using `SummationProcessor`.
+ * - Returns the calculated total as a `Double`. The total is kept in the {@link ReportCache} of the dataset, so
+ *   asking for the same filters, numeric columns and date range again returns it until the dataset is reloaded.
+ * - Throws a `RuntimeException` if an error occurs during processing, or if the dataset is closed, and an
+ *   `IllegalArgumentException` if the report uses a column the dataset did not load (`FilterConstants.COLUMN_PROJECTION`).
+ * - `processReport()` does the same for the default dataset.
+ *
+ * Method processReportExact(dataset):
+ * - Filters the same rows as `processReport` and returns the total as an {@link ExactAmount} of whole cents,
+ *   added up with `SummationProcessor.calculateExactSum` instead of as `double` values; not cached.
+ *
+ * Method processReports(reports, dataset):
+ * - Computes the totals of many reports in a single pass over the dataset via {@link ReportBatch},
+ *   instead of filtering and summing the whole dataset once per report. Totals are the same as those of `processReport`.
+ *
+ * Method processReport(filePath, headerRowIndex):
+ * - Computes the same total in a single pass over the given file, without loading it: the reader pushes
+ *   every row through a `RowPipeline` of the date filter, the column filters and the summation.
+ * - The pipeline adds the values row by row, while `processReport(dataset)` adds up each numeric column first;
+ *   for reports with several numeric columns the totals may differ in the last digits.
+ * - Suited for one-off reports over huge files; memory use does not grow with the file.
  *
  * Key Features:
- * - Static initialization of Excel data ensures consistent data availability across instances.
+ * - Report definitions are independent of the data: one report can be evaluated against many datasets.
  * - Flexible filtering using customizable date and column filters.
  * - Efficient summation of numeric data for quick report generation.
  *
@@ -76,22 +112,12 @@ public class ReportSetting {
     private final Map<String, List<String>> columnFilters;
     private final List<String> numericColumns;
 
-    private static final List<Map<String, String>> data = initData();
-
     public ReportSetting(String name, Map<String,List<String>> columnFilters, List<String> numericColumns) {
         this.name = name;
         this.columnFilters = columnFilters;
         this.numericColumns = numericColumns;
     }
 
-    private static List<Map<String, String>> initData() {
-        try {
-            return ExcelReader.readExcel(FilterConstants.FILE_PATH, FilterConstants.HEADER_ROW_INDEX);
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading Excel file: " + e.getMessage(), e);
-        }
-    }
-
     public String getName() {
         return name;
     }
@@ -101,28 +127,160 @@ public class ReportSetting {
     public List<String> getNumericColumns() {
         return numericColumns;
     }
+
+    /**
+     * Returns the columns the report reads: the date column, the filtered columns and the numeric columns.
+     */
+    public Set<String> getColumns() {
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add(FilterConstants.DATE_COLUMN_EXCEL);
+        if (columnFilters != null) {
+            columns.addAll(columnFilters.keySet());
+        }
+        if (numericColumns != null) {
+            columns.addAll(numericColumns);
+        }
+        return columns;
+    }
     public static List<Map<String, String>> getData() {
-        return data;
+        return Dataset.defaultDataset().getRows();
+    }
+    public static ColumnTable getTable() {
+        return Dataset.defaultDataset().getTable();
+    }
+
+    /**
+     * Loads the default dataset again; with `INCREMENTAL_LOADING`, only rows added to the file since the last load are parsed.
+     */
+    public static ColumnTable reloadData() {
+        return Dataset.defaultDataset().reload();
     }
 
 
 
     public Double processReport() {
+        return processReport(Dataset.defaultDataset());
+    }
+
+
+    public Double processReport(Dataset dataset) {
+        dataset.requireColumns(getColumns());
+        ReportCache.Key key;
         try {
+            key = cacheKey(dataset.currentVersion());
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Error processing the report: " + e.getMessage(), e);
+        }
+        Double cached = dataset.getResultCache().get(key);
+        if (cached != null) {
+            return cached;
+        }
 
-            DateFilter dateFilter = new DateFilter(
+        Double total = evaluate(dataset);
+        dataset.getResultCache().put(key, total);
+        return total;
+    }
+
+    private Double evaluate(Dataset dataset) {
+        try {
+            Double cubeTotal = sumFromCube(dataset);
+            if (cubeTotal != null) {
+                return cubeTotal;
+            }
+
+            DateWindow window = dataset.dateWindow(
                     FilterConstants.DATE_COLUMN_EXCEL,
                     FilterConstants.START_DATE,
                     FilterConstants.END_DATE,
-                    FilterConstants.DATE_FORMAT
+                    FilterConstants.newDateFormat()
             );
-            List<Map<String, String>> dateFilteredData = dateFilter.filter(data);
+            ColumnTable table = window.getTable();
+            RowBitmap dateFilteredRows = window.getBitmap();
 
             MultiColumnFilter filter = new MultiColumnFilter();
-            List<Map<String, String>> filteredData = filter.filterByColumns(columnFilters, dateFilteredData);
+            RowBitmap filteredRows = filter.filterByColumns(columnFilters, table, dateFilteredRows);
 
             SummationProcessor processor = new SummationProcessor();
-            return processor.calculateTotalSum(filteredData, numericColumns);
+            return processor.calculateTotalSum(table, filteredRows, numericColumns);
+        } catch (Exception e) {
+            throw new RuntimeException("Error processing the report: " + e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * Computes the total like {@link #processReport(Dataset)}, but added up in whole cents, so it is exact to the cent.
+     */
+    public ExactAmount processReportExact(Dataset dataset) {
+        dataset.requireColumns(getColumns());
+        try {
+            DateWindow window = dataset.dateWindow(
+                    FilterConstants.DATE_COLUMN_EXCEL,
+                    FilterConstants.START_DATE,
+                    FilterConstants.END_DATE,
+                    FilterConstants.newDateFormat()
+            );
+            ColumnTable table = window.getTable();
+            RowBitmap filteredRows = new MultiColumnFilter().filterByColumns(columnFilters, table, window.getBitmap());
+
+            return new SummationProcessor().calculateExactSum(table, filteredRows, numericColumns);
+        } catch (Exception e) {
+            throw new RuntimeException("Error processing the report: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the key of this report over the given table version in the result cache of a dataset.
+     */
+    ReportCache.Key cacheKey(long version) {
+        return ReportCache.Key.of(this, FilterConstants.DATE_COLUMN_EXCEL, FilterConstants.START_DATE,
+                FilterConstants.END_DATE, FilterConstants.newDateFormat(), version);
+    }
+
+    /**
+     * Returns the total of this report from the cube of the dataset, or `null` if the cube cannot answer it.
+     */
+    Double sumFromCube(Dataset dataset) {
+        if (!dataset.usesAggregateCube()) {
+            return null;
+        }
+        AggregateCube cube = dataset.getCube();
+        SimpleDateFormat dateFormat = FilterConstants.newDateFormat();
+        if (cube == null || !cube.isParsedWith(dateFormat)) {
+            return null;
+        }
+        try {
+            long startMillis = dateFormat.parse(FilterConstants.START_DATE).getTime();
+            long endMillis = dateFormat.parse(FilterConstants.END_DATE).getTime();
+            return cube.sum(columnFilters, numericColumns, startMillis, endMillis);
+        } catch (ParseException e) {
+            return null; // The date filter reports the invalid range
+        }
+    }
+
+
+    public static Map<ReportSetting, Double> processReports(Collection<ReportSetting> reports, Dataset dataset) {
+        return ReportBatch.of(reports).process(dataset);
+    }
+
+
+    public Double processReport(String filePath, int headerRowIndex) {
+        try {
+            DateFilter dateFilter = new DateFilter(
+                    FilterConstants.DATE_COLUMN_EXCEL,
+                    FilterConstants.START_DATE,
+                    FilterConstants.END_DATE,
+                    FilterConstants.newDateFormat()
+            );
+            SummationProcessor.SumStage sum = new SummationProcessor().sumStage(numericColumns);
+            RowPipeline pipeline = RowPipeline.of(
+                    dateFilter.asStage(),
+                    new MultiColumnFilter().asStage(columnFilters),
+                    sum
+            );
+
+            ExcelReader.readRows(filePath, headerRowIndex, pipeline);
+            return sum.getTotalSum();
         } catch (Exception e) {
             throw new RuntimeException("Error processing the report: " + e.getMessage(), e);
         }
@@ -26,12 +26,40 @@ public class FilterConstants {
     public static final String FILE_PATH = "/Users/GiorUg/Desktop/Desktop PC bis 2023/2024CompleteReportTransaktions.xlsx";
     public static final int HEADER_ROW_INDEX = 7;
 
+    // Load only the rows added to FILE_PATH since the previous run (see IncrementalLoader); writes state files next to FILE_PATH
+    public static final boolean INCREMENTAL_LOADING = false;
+
+    // Worker threads converting cells while an xlsx sheet is parsed (see ParallelExcelReader); 1 parses on a single thread
+    public static final int PARSER_THREADS = Runtime.getRuntime().availableProcessors();
+
+    // Threads evaluating reports concurrently when virtual threads are not available (see ReportRunner)
+    public static final int REPORT_THREADS = Runtime.getRuntime().availableProcessors();
+
+    // Keep the shared strings of xlsx files as UTF-8 bytes and decode them on demand (see CompactSharedStrings)
+    public static final boolean COMPACT_SHARED_STRINGS = true;
+
+    // Load only the columns used by the reports of ReportCatalog; other cells are not converted, and reports using them fail
+    public static final boolean COLUMN_PROJECTION = false;
+
+    // Answer reports from daily sums per Typ, Versand and Beschreibung where possible (see AggregateCube); totals may then
+    // differ from a row-by-row scan in the last digits. Off unless started with -Daccountease.aggregateCube=true; the
+    // default of every Dataset, which Dataset.setAggregateCube changes at runtime
+    public static final String AGGREGATE_CUBE_PROPERTY = "accountease.aggregateCube";
+    public static final boolean AGGREGATE_CUBE = Boolean.getBoolean(AGGREGATE_CUBE_PROPERTY);
+
+    // Number of report totals remembered per dataset until it is reloaded (see ReportCache); 0 disables the cache
+    public static final int RESULT_CACHE_SIZE = 256;
+
     // Dates for Filtering
     public static final String START_DATE = "01.07.2024 00:00:00";
     public static final String END_DATE = "31.12.2024 23:59:59";
 
-    // Date Format
-    public static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss");
+    // Date Format: SimpleDateFormat is mutable and not thread-safe, so every use creates its own via newDateFormat()
+    public static final String DATE_PATTERN = "dd.MM.yyyy HH:mm:ss";
+
+    public static SimpleDateFormat newDateFormat() {
+        return new SimpleDateFormat(DATE_PATTERN);
+    }
 
     // Колонка для даты в Excel
     public static final String DATE_COLUMN_EXCEL = "Datum/Uhrzeit";
@@ -43,6 +71,15 @@ public class FilterConstants {
     public static final String COLUMN_BESCHREIBUNG = "Beschreibung";
     public static final String COLUMN_BESTELLNUMMER = "Bestellnummer";
 
+    // Column added when several report files are merged: name of the file each row comes from
+    public static final String COLUMN_QUELLDATEI = "Quelldatei";
+
+    // Columns with few distinct values, stored dictionary-encoded
+    public static final List<String> DICTIONARY_COLUMNS = List.of(COLUMN_TYP, COLUMN_VERSAND, COLUMN_BESCHREIBUNG);
+
+    // Free-text columns with many distinct values, stored as UTF-8 bytes in an arena
+    public static final List<String> UTF8_COLUMNS = List.of(COLUMN_BESTELLNUMMER);
+
     // Unique Column Values
     public static final List<String> TYP_BESTELLUNG = List.of("Bestellung");
     public static final List<String> TYP_SERVICEGEBUEHR = List.of("Servicegebühr");
@@ -73,6 +110,16 @@ public class FilterConstants {
     public static final List<String> NUMERIC_RABATTE_AUS_WERBEAKTIONEN = List.of("Rabatte aus Werbeaktionen");
     public static final List<String> NUMERIC_GUTSCHRIFT_FUER_VERSANDKOSTEN = List.of("Gutschrift für Versandkosten");
 
+    // Columns parsed once into numbers at load time
+    public static final List<String> NUMERIC_COLUMNS = List.of(
+            NUMERIC_VERKAUFSGEBUEHREN.get(0),
+            NUMERIC_UMSAETZE.get(0),
+            NUMERIC_GESAMT.get(0),
+            NUMERIC_GEBUEHREN_VERSAND_AMAZON.get(0),
+            NUMERIC_RABATTE_AUS_WERBEAKTIONEN.get(0),
+            NUMERIC_GUTSCHRIFT_FUER_VERSANDKOSTEN.get(0)
+    );
+
     // Parameters for Extracting Unique Columns
     public static final List<String> UNIQUE_LIST_BESTELLNUMMER = List.of("Bestellnummer");
 }
@@ -0,0 +1,71 @@
+package com.accountease.amazonseller.core.filters;
+
+import com.accountease.amazonseller.core.ReportSetting;
+import com.accountease.amazonseller.core.constants.FilterConstants;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * The ReportCatalog class collects all {@link ReportSetting} objects defined by
+ * {@link StandardFilters}, {@link ExclusionFilters} and {@link ValueListFilters}.
+ *
+ * Every public static method of these classes that returns a `ReportSetting` is part of the catalogue.
+ * Methods taking a list of values (such as {@link ValueListFilters#buildFilterFromUniqueColumnValues(List)})
+ * are called with an empty list, since only the columns of the report matter here.
+ *
+ * The catalogue is used to derive the columns that reports actually read ({@link #getRequiredColumns()}),
+ * so that all other columns of a transaction report can be skipped while loading it. A new report method
+ * in one of the filter classes is picked up automatically.
+ */
+public class ReportCatalog {
+
+    private static final List<Class<?>> FILTER_CLASSES =
+            List.of(StandardFilters.class, ExclusionFilters.class, ValueListFilters.class);
+
+    public static List<ReportSetting> getReports() {
+        List<ReportSetting> reports = new ArrayList<>();
+        for (Class<?> filterClass : FILTER_CLASSES) {
+            Method[] methods = filterClass.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method method : methods) {
+                if (isReportFactory(method)) {
+                    reports.add(invoke(method));
+                }
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Returns the date column and every column used as a filter or summed by a report of the catalogue.
+     */
+    public static Set<String> getRequiredColumns() {
+        Set<String> columns = new TreeSet<>();
+        columns.add(FilterConstants.DATE_COLUMN_EXCEL);
+        for (ReportSetting report : getReports()) {
+            columns.addAll(report.getColumns());
+        }
+        return columns;
+    }
+
+    private static boolean isReportFactory(Method method) {
+        int modifiers = method.getModifiers();
+        Class<?>[] parameters = method.getParameterTypes();
+        return Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers)
+                && method.getReturnType() == ReportSetting.class
+                && (parameters.length == 0 || (parameters.length == 1 && parameters[0] == List.class));
+    }
+
+    private static ReportSetting invoke(Method method) {
+        try {
+            return method.getParameterCount() == 0
+                    ? (ReportSetting) method.invoke(null)
+                    : (ReportSetting) method.invoke(null, Collections.emptyList());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create report from " + method.getName() + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.accountease.amazonseller.core.pipeline;
+
+import com.accountease.amazonseller.core.reader.SheetRowHandler;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class RowPipeline
+ *
+ * Pushes the rows of a file through a chain of {@link RowStage}s while the file is being read.
+ * It is passed to a reader as its {@link SheetRowHandler}, so filters and aggregates run during parsing,
+ * without building the dataset or any intermediate list.
+ *
+ * Key Features:
+ * - A single pass over the file with constant memory: each row is dropped as soon as it has been processed.
+ * - Stages run in the given order; a row dropped by a filter never reaches the later stages.
+ * - Only the columns read by the stages are converted by the reader; all other cells are skipped.
+ *
+ * Example Usage:
+ * ```
+ * SummationProcessor.SumStage sum = new SummationProcessor().sumStage(List.of("Gesamt"));
+ * RowPipeline pipeline = RowPipeline.of(dateFilter.asStage(), new MultiColumnFilter().asStage(filters), sum);
+ * ExcelReader.readRows(filePath, headerRowIndex, pipeline);
+ * sum.getTotalSum();
+ * ```
+ */
+public final class RowPipeline implements SheetRowHandler {
+    private final RowStage[] stages;
+    private final Set<String> columns = new HashSet<>();
+    private long rowsRead;
+
+    private RowPipeline(RowStage[] stages) {
+        this.stages = stages;
+        for (RowStage stage : stages) {
+            columns.addAll(stage.getColumns());
+        }
+    }
+
+    public static RowPipeline of(RowStage... stages) {
+        return new RowPipeline(stages.clone());
+    }
+
+    @Override
+    public void onHeaders(List<String> headers) {
+        for (RowStage stage : stages) {
+            stage.onHeaders(headers);
+        }
+    }
+
+    @Override
+    public void onRow(int rowIndex, String[] values) {
+        rowsRead++;
+        for (RowStage stage : stages) {
+            if (!stage.onRow(values)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean acceptsColumn(String header) {
+        return columns.contains(header);
+    }
+
+    /**
+     * Returns the number of rows pushed into the pipeline so far.
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+}
@@ -0,0 +1,28 @@
+package com.accountease.amazonseller.core.pipeline;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Interface RowStage
+ *
+ * One step of a {@link RowPipeline}: a filter that drops rows, or an aggregate that consumes them.
+ *
+ * Call Order:
+ * 1. `onHeaders` is called once with the column headers of the file, so the stage can resolve
+ *    the columns it reads to indexes.
+ * 2. `onRow` is called for every row that passed all previous stages. Returning `false` drops the
+ *    row, so later stages never see it.
+ *
+ * Row Values:
+ * - The `values` array is aligned with the headers. Only the columns returned by {@link #getColumns()}
+ *   are guaranteed to be filled; the reader may skip converting all other cells.
+ */
+public interface RowStage {
+
+    Set<String> getColumns();
+
+    void onHeaders(List<String> headers);
+
+    boolean onRow(String[] values);
+}
@@ -1,5 +1,11 @@
 package com.accountease.amazonseller.core.processor;
 
+import com.accountease.amazonseller.core.pipeline.RowStage;
+import com.accountease.amazonseller.core.table.Column;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowSelection;
+import com.accountease.amazonseller.core.table.TimestampColumn;
+
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
@@ -18,6 +24,8 @@ import java.util.*;
  * - Filtering rows whose dates fall within the specified range.
  * - Ignoring rows with invalid date formats or missing values without throwing exceptions.
  * - Handling the valid date range passed to the constructor, with proper validation.
+ * - Working on its own copy of the date format: `SimpleDateFormat` is not thread-safe, so a format passed
+ *   in by the caller is never used by the filter itself (see `ReportRunner`).
  *
  * Any changes to the filtering logic or date handling directly impact the system's stability.
  * This class must be configured correctly to ensure predictable behavior and the accurate
@@ -31,9 +39,9 @@ public class DateFilter {
 
     public DateFilter(String dateColumn, String startDateStr, String endDateStr, SimpleDateFormat dateFormat) throws ParseException {
         this.dateColumn = dateColumn;
-        this.dateFormat = dateFormat;
-        this.startDate = dateFormat.parse(startDateStr);
-        this.endDate = dateFormat.parse(endDateStr);
+        this.dateFormat = (SimpleDateFormat) dateFormat.clone();
+        this.startDate = this.dateFormat.parse(startDateStr);
+        this.endDate = this.dateFormat.parse(endDateStr);
     }
 
     /**
@@ -61,4 +69,86 @@ public class DateFilter {
 
         return filteredData;
     }
+
+    /**
+     * Returns a pipeline stage that drops all rows outside the date range, using the same rules as
+     * {@link #filter(List)}.
+     */
+    public RowStage asStage() {
+        return new RowStage() {
+            private int columnIndex = -1;
+
+            @Override
+            public Set<String> getColumns() {
+                return Set.of(dateColumn);
+            }
+
+            @Override
+            public void onHeaders(List<String> headers) {
+                columnIndex = headers.lastIndexOf(dateColumn);
+            }
+
+            @Override
+            public boolean onRow(String[] values) {
+                return columnIndex >= 0 && matches(values[columnIndex]);
+            }
+        };
+    }
+
+    private boolean matches(String dateStr) {
+        if (dateStr.isEmpty()) return false;
+
+        try {
+            Date rowDate = dateFormat.parse(dateStr.replace(" UTC", ""));
+            return !rowDate.before(startDate) && !rowDate.after(endDate);
+        } catch (ParseException e) {
+            System.err.println("Invalid date format for row: " + dateStr);
+            return false;
+        }
+    }
+
+    /**
+     * Filters the selected rows of a table based on the date range.
+     *
+     * The date column is resolved once; rows without the column, with an empty value or an invalid
+     * date are excluded, exactly as in {@link #filter(List)}.
+     *
+     * If the column is a {@link TimestampColumn} parsed with the same date format, no strings are parsed:
+     * the range is answered by binary search over the column's sorted timestamp index and only
+     * intersected with the given selection.
+     *
+     * @param table     The table to filter.
+     * @param selection The rows of the table to consider.
+     * @return The selected rows whose date lies within the range.
+     */
+    public RowSelection filter(ColumnTable table, RowSelection selection) {
+        Column column = table.getColumn(dateColumn);
+        if (column == null) {
+            return RowSelection.empty();
+        }
+
+        if (column instanceof TimestampColumn && ((TimestampColumn) column).isParsedWith(dateFormat)) {
+            RowSelection inRange = ((TimestampColumn) column).selectRange(
+                    startDate.getTime(), endDate.getTime(), table.getRowCount());
+            return selection.size() == table.getRowCount() ? inRange : inRange.intersect(selection);
+        }
+
+        RowSelection.Builder result = new RowSelection.Builder(selection.size());
+        for (int i = 0; i < selection.size(); i++) {
+            int row = selection.get(i);
+            String dateStr = column.getString(row);
+            if (dateStr.isEmpty()) continue;
+
+            try {
+                Date rowDate = dateFormat.parse(dateStr.replace(" UTC", ""));
+                if (!rowDate.before(startDate) && !rowDate.after(endDate)) {
+                    result.add(row);
+                }
+            } catch (ParseException e) {
+                System.err.println("Invalid date format for row: " + dateStr);
+            }
+        }
+
+        return result.build();
+    }
 }
@@ -0,0 +1,178 @@
+package com.accountease.amazonseller.core.processor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Class ExactAmount
+ *
+ * An amount of money held as a whole number of cents, as computed by the exact summation methods of
+ * {@link SummationProcessor}. Sums of `double` values drift by cents over hundreds of thousands of amounts;
+ * sums of cents do not.
+ *
+ * Method parseCents:
+ * - Parses a decimal string such as `"12,34"`, `"-0.5"` or `" 1000 "` straight into cents, without creating any
+ *   objects. A comma is a decimal point, as in the other summation methods; surrounding whitespace is ignored.
+ * - Digits beyond the second decimal place are rounded half up (away from zero), like `BigDecimal.setScale(2, HALF_UP)`.
+ * - Returns {@link #NOT_A_NUMBER} for text it does not accept: empty text, grouping separators, exponents, or more
+ *   digits than fit into a `long`. Callers fall back to `Double.parseDouble` for those.
+ *
+ * Method toCents:
+ * - Converts a `double` parsed from a decimal string (e.g. a value of a `NumericColumn`) to cents with the same
+ *   half-up rule as `parseCents`, applied to the shortest decimal of the `double` (`Double.toString`). For strings
+ *   with up to 15 significant digits that is the original string, so `toCents(1.005)` is 101 like
+ *   `parseCents("1.005")`, although the `double` itself lies just below 1.005.
+ * - Values that are not within a millionth of a cent of a half cent are rounded with `Math.rint` alone; only the
+ *   others are rounded via `BigDecimal`.
+ *
+ * Method plus:
+ * - Adds two amounts with `Math.addExact`: a sum outside the range of `long` throws an `ArithmeticException`
+ *   instead of silently wrapping around.
+ *
+ * Key Features:
+ * - Immutable value type; `equals`, `hashCode` and `compareTo` compare the number of cents.
+ * - `toBigDecimal()` gives the exact value with scale 2, `doubleValue()` the nearest `double`.
+ */
+public final class ExactAmount implements Comparable<ExactAmount> {
+
+    /**
+     * Returned by {@link #parseCents(CharSequence)} for text that is not a plain decimal number.
+     */
+    public static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    public static final ExactAmount ZERO = new ExactAmount(0);
+
+    private final long cents;
+
+    private ExactAmount(long cents) {
+        this.cents = cents;
+    }
+
+    public static ExactAmount ofCents(long cents) {
+        return cents == 0 ? ZERO : new ExactAmount(cents);
+    }
+
+    /**
+     * Returns the amount of a decimal string; throws `NumberFormatException` if it is not a number.
+     */
+    public static ExactAmount parse(String text) {
+        long cents = parseCents(text);
+        if (cents == NOT_A_NUMBER) {
+            cents = toCents(Double.parseDouble(text.replace(",", ".").trim()));
+        }
+        return ofCents(cents);
+    }
+
+    public static long parseCents(CharSequence text) {
+        int i = 0;
+        int end = text.length();
+        while (i < end && text.charAt(i) <= ' ') i++;
+        while (end > i && text.charAt(end - 1) <= ' ') end--;
+
+        boolean negative = i < end && text.charAt(i) == '-';
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            i++;
+        }
+
+        long units = 0;
+        int decimals = -1;
+        boolean roundUp = false;
+        boolean anyDigit = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                anyDigit = true;
+                if (decimals >= 2) {
+                    if (decimals == 2) {
+                        roundUp = c >= '5';
+                        decimals++;
+                    }
+                    continue;
+                }
+                if (units > (Long.MAX_VALUE - 9) / 10) {
+                    return NOT_A_NUMBER;
+                }
+                units = units * 10 + (c - '0');
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if ((c == '.' || c == ',') && decimals < 0) {
+                decimals = 0;
+            } else {
+                return NOT_A_NUMBER;
+            }
+        }
+        if (!anyDigit) {
+            return NOT_A_NUMBER;
+        }
+
+        for (int scale = Math.max(decimals, 0); scale < 2; scale++) {
+            if (units > Long.MAX_VALUE / 10) {
+                return NOT_A_NUMBER;
+            }
+            units *= 10;
+        }
+        if (roundUp) {
+            if (units == Long.MAX_VALUE) {
+                return NOT_A_NUMBER;
+            }
+            units++;
+        }
+        return negative ? -units : units;
+    }
+
+    /**
+     * Returns the cents of a `double`, rounded half up like {@link #parseCents(CharSequence)}; throws an
+     * `ArithmeticException` if they do not fit into a `long`.
+     */
+    public static long toCents(double value) {
+        double scaled = value * 100;
+        double cents = Math.rint(scaled);
+        if (Double.isNaN(cents) || cents >= 0x1p63 || cents <= -0x1p63) {
+            throw new ArithmeticException("Amount out of range: " + value);
+        }
+        if (Math.abs(scaled - cents) > 0.5 - 1e-6) {
+            // Close to a half cent: the binary value may lie on either side of it, its decimal does not
+            return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+        return (long) cents;
+    }
+
+    public ExactAmount plus(ExactAmount other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public double doubleValue() {
+        return toBigDecimal().doubleValue();
+    }
+
+    @Override
+    public int compareTo(ExactAmount other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ExactAmount)) return false;
+        return cents == ((ExactAmount) o).cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -1,8 +1,16 @@
 package com.accountease.amazonseller.core.processor;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import com.accountease.amazonseller.core.pipeline.RowStage;
+import com.accountease.amazonseller.core.table.Column;
+import com.accountease.amazonseller.core.table.ColumnStatistics;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.DictionaryColumn;
+import com.accountease.amazonseller.core.table.RowBitmap;
+import com.accountease.amazonseller.core.table.RowSelection;
+import com.accountease.amazonseller.core.table.Utf8Column;
+import com.accountease.amazonseller.core.table.Utf8Set;
+
+import java.util.*;
 
 public class MultiColumnFilter {
 
@@ -108,4 +116,310 @@ public class MultiColumnFilter {
         return filteredData;
     }
 
+    /**
+     * Method filterByColumns (table variant).
+     *
+     * Applies the same filter semantics as {@link #filterByColumns(Map, List)} to the selected rows
+     * of a {@link ColumnTable}. Each filtered column is resolved once and then scanned by row index;
+     * instead of copying rows, every step narrows down the row selection.
+     *
+     * For a {@link DictionaryColumn}, the filter is evaluated once per dictionary entry, and rows
+     * are then matched by comparing int codes instead of strings. For a {@link Utf8Column}, the filter
+     * values are encoded to UTF-8 once and the cells are matched on their raw bytes, without decoding them.
+     *
+     * Cost-based order:
+     * - The filters are applied most selective first, so later filters only visit the rows that are left.
+     *   The number of rows a filter keeps is estimated from the {@link ColumnStatistics} of the table; filters
+     *   on columns without statistics come last, in the order of `columnFilters`.
+     * - For every filter on a dictionary-encoded column, it chooses between scanning the selected rows and
+     *   looking the matching rows up in the column's index (see {@link #useIndex(int, int, int)}).
+     *   A filter matching no row ends the filtering at once, one matching every row is skipped.
+     *
+     * Parameters:
+     * @param columnFilters A map of filters where the key is the column name and the value is a list of filter values.
+     * @param table         The table to filter.
+     * @param selection     The rows of the table to consider.
+     *
+     * @return The selected rows that match all filters. A missing column behaves like a column of empty values.
+     */
+
+    public RowSelection filterByColumns(Map<String, List<String>> columnFilters, ColumnTable table, RowSelection selection) {
+        if (table == null || selection == null || selection.isEmpty()) {
+            return RowSelection.empty();
+        }
+
+        if (columnFilters == null || columnFilters.isEmpty()) {
+            return selection;
+        }
+
+        List<ColumnPredicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : columnFilters.entrySet()) {
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                predicates.add(new ColumnPredicate(table, entry.getKey(), entry.getValue()));
+            }
+        }
+        predicates.sort(Comparator.comparingInt(predicate -> predicate.estimatedRows));
+
+        RowSelection filtered = selection;
+
+        for (ColumnPredicate predicate : predicates) {
+            if (filtered.isEmpty()) {
+                break;
+            }
+            filtered = predicate.apply(filtered);
+        }
+
+        return filtered;
+    }
+
+    /**
+     * Method filterByColumns (bitmap variant).
+     *
+     * Applies the same filter semantics as {@link #filterByColumns(Map, List)} to a selection given as a
+     * {@link RowBitmap}, and returns the matching rows as a bitmap.
+     *
+     * Logic:
+     * 1. Filters on dictionary-encoded columns are answered from the bitmap index of the column
+     *    ({@link ColumnStatistics#bitmap(int)}), most selective first:
+     *    - The bitmaps of the accepted values are combined with OR, and the selection is ANDed with them.
+     *    - If the filter keeps most rows, as `!exclude` filters usually do, the bitmaps of the rejected values are
+     *      combined instead and removed from the selection with ANDNOT.
+     * 2. Filters on other columns (e.g. the UTF-8 column `Bestellnummer`) scan the rows that are left afterwards.
+     *
+     * Parameters:
+     * @param columnFilters A map of filters where the key is the column name and the value is a list of filter values.
+     * @param table         The table to filter.
+     * @param selection     The rows of the table to consider.
+     *
+     * @return The selected rows that match all filters. A missing column behaves like a column of empty values.
+     */
+
+    public RowBitmap filterByColumns(Map<String, List<String>> columnFilters, ColumnTable table, RowBitmap selection) {
+        if (table == null || selection == null || selection.isEmpty()) {
+            return RowBitmap.empty();
+        }
+
+        if (columnFilters == null || columnFilters.isEmpty()) {
+            return selection;
+        }
+
+        List<ColumnPredicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : columnFilters.entrySet()) {
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                predicates.add(new ColumnPredicate(table, entry.getKey(), entry.getValue()));
+            }
+        }
+        predicates.sort(Comparator.comparingInt(predicate -> predicate.estimatedRows));
+
+        RowBitmap filtered = selection;
+        List<ColumnPredicate> scans = new ArrayList<>();
+
+        for (ColumnPredicate predicate : predicates) {
+            if (filtered.isEmpty()) {
+                return filtered;
+            }
+            if (predicate.hasIndex()) {
+                filtered = predicate.apply(filtered);
+            } else if (predicate.column == null) {
+                filtered = predicate.estimatedRows > 0 ? filtered : RowBitmap.empty();
+            } else {
+                scans.add(predicate);
+            }
+        }
+
+        if (scans.isEmpty() || filtered.isEmpty()) {
+            return filtered;
+        }
+        RowSelection rows = filtered.toSelection();
+        for (ColumnPredicate predicate : scans) {
+            rows = predicate.apply(rows);
+        }
+        return RowBitmap.of(rows);
+    }
+
+    /**
+     * Returns `true` if looking up the matching rows in the index of a column is cheaper than scanning
+     * the selection: either the selection covers the whole table and at most half of it matches, or the
+     * matching rows are so few that they can be searched in the selection.
+     */
+    static boolean useIndex(int estimatedRows, int selectionSize, int rowCount) {
+        if (selectionSize == rowCount) {
+            return estimatedRows * 2L <= rowCount;
+        }
+        return estimatedRows * 32L < selectionSize;
+    }
+
+    /**
+     * One column filter resolved against a table, with the number of rows it is expected to keep.
+     */
+    private static final class ColumnPredicate {
+        private final ColumnTable table;
+        private final Column column;
+        private final Set<String> values;
+        private final boolean isExcludeFilter;
+        private final ColumnStatistics statistics;
+        private final boolean[] acceptedCodes;
+        private final int estimatedRows;
+
+        ColumnPredicate(ColumnTable table, String columnName, List<String> filterValues) {
+            this.table = table;
+            this.column = table.getColumn(columnName);
+            this.isExcludeFilter = filterValues.contains("!exclude");
+            this.values = new HashSet<>(filterValues);
+            if (isExcludeFilter) {
+                values.remove("!exclude");
+            }
+            this.statistics = table.getStatistics(columnName);
+
+            if (column instanceof DictionaryColumn) {
+                DictionaryColumn dictionary = (DictionaryColumn) column;
+                acceptedCodes = new boolean[dictionary.getDictionarySize()];
+                for (int code = 0; code < acceptedCodes.length; code++) {
+                    acceptedCodes[code] = values.contains(dictionary.getDictionaryValue(code).trim()) != isExcludeFilter;
+                }
+            } else {
+                acceptedCodes = null;
+            }
+
+            if (column == null) {
+                estimatedRows = values.contains("") != isExcludeFilter ? table.getRowCount() : 0;
+            } else if (statistics != null && acceptedCodes != null) {
+                estimatedRows = statistics.countCodes(acceptedCodes);
+            } else {
+                estimatedRows = table.getRowCount(); // Unknown, so filtered last
+            }
+        }
+
+        boolean hasIndex() {
+            return statistics != null && acceptedCodes != null;
+        }
+
+        RowBitmap apply(RowBitmap selection) {
+            if (estimatedRows * 2L <= table.getRowCount()) {
+                return selection.and(statistics.selectCodesBitmap(acceptedCodes));
+            }
+            boolean[] rejectedCodes = new boolean[acceptedCodes.length];
+            for (int code = 0; code < rejectedCodes.length; code++) {
+                rejectedCodes[code] = !acceptedCodes[code];
+            }
+            return selection.andNot(statistics.selectCodesBitmap(rejectedCodes));
+        }
+
+        RowSelection apply(RowSelection selection) {
+            if (column == null) {
+                return estimatedRows > 0 ? selection : RowSelection.empty();
+            }
+            if (acceptedCodes == null) {
+                if (column instanceof Utf8Column) {
+                    return filterByBytes((Utf8Column) column, Utf8Set.of(values), isExcludeFilter, selection);
+                }
+                return filterByValues(column, values, isExcludeFilter, selection);
+            }
+
+            if (statistics != null) {
+                if (estimatedRows == 0) {
+                    return RowSelection.empty();
+                }
+                if (estimatedRows == table.getRowCount()) {
+                    return selection;
+                }
+                if (useIndex(estimatedRows, selection.size(), table.getRowCount())) {
+                    RowSelection matching = statistics.selectCodes(acceptedCodes);
+                    return selection.size() == table.getRowCount() ? matching : matching.intersect(selection);
+                }
+            }
+            return filterByCodes((DictionaryColumn) column, acceptedCodes, selection);
+        }
+    }
+
+    private static RowSelection filterByValues(Column column, Set<String> values, boolean isExcludeFilter, RowSelection selection) {
+        RowSelection.Builder result = new RowSelection.Builder(selection.size());
+        for (int i = 0; i < selection.size(); i++) {
+            int row = selection.get(i);
+            String cellValue = column.getString(row).trim();
+
+            if (values.contains(cellValue) != isExcludeFilter) {
+                result.add(row);
+            }
+        }
+
+        return result.build();
+    }
+
+    private static RowSelection filterByCodes(DictionaryColumn column, boolean[] acceptedCodes, RowSelection selection) {
+        RowSelection.Builder result = new RowSelection.Builder(selection.size());
+        for (int i = 0; i < selection.size(); i++) {
+            int row = selection.get(i);
+            if (acceptedCodes[column.getCode(row)]) {
+                result.add(row);
+            }
+        }
+
+        return result.build();
+    }
+
+    private static RowSelection filterByBytes(Utf8Column column, Utf8Set values, boolean isExcludeFilter, RowSelection selection) {
+        RowSelection.Builder result = new RowSelection.Builder(selection.size());
+        for (int i = 0; i < selection.size(); i++) {
+            int row = selection.get(i);
+            if (values.contains(column, row) != isExcludeFilter) {
+                result.add(row);
+            }
+        }
+
+        return result.build();
+    }
+
+    /**
+     * Returns a pipeline stage that drops all rows not matching the column filters, using the same
+     * rules as {@link #filterByColumns(Map, List)}, including `!exclude` filters.
+     */
+    public RowStage asStage(Map<String, List<String>> columnFilters) {
+        Map<String, List<String>> filters = new LinkedHashMap<>();
+        if (columnFilters != null) {
+            columnFilters.forEach((column, filterValues) -> {
+                if (filterValues != null && !filterValues.isEmpty()) {
+                    filters.put(column, filterValues);
+                }
+            });
+        }
+
+        String[] columns = filters.keySet().toArray(new String[0]);
+        List<Set<String>> valueSets = new ArrayList<>();
+        boolean[] excludes = new boolean[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            List<String> filterValues = filters.get(columns[i]);
+            excludes[i] = filterValues.contains("!exclude");
+            Set<String> values = new HashSet<>(filterValues);
+            values.remove("!exclude");
+            valueSets.add(values);
+        }
+
+        return new RowStage() {
+            private final int[] columnIndexes = new int[columns.length];
+
+            @Override
+            public Set<String> getColumns() {
+                return filters.keySet();
+            }
+
+            @Override
+            public void onHeaders(List<String> headers) {
+                for (int i = 0; i < columns.length; i++) {
+                    columnIndexes[i] = headers.lastIndexOf(columns[i]);
+                }
+            }
+
+            @Override
+            public boolean onRow(String[] values) {
+                for (int i = 0; i < columns.length; i++) {
+                    String cellValue = columnIndexes[i] >= 0 ? values[columnIndexes[i]].trim() : "";
+                    if (valueSets.get(i).contains(cellValue) == excludes[i]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
 }
@@ -1,7 +1,15 @@
 package com.accountease.amazonseller.core.processor;
 
+import com.accountease.amazonseller.core.pipeline.RowStage;
+import com.accountease.amazonseller.core.table.Column;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.NumericColumn;
+import com.accountease.amazonseller.core.table.RowBitmap;
+import com.accountease.amazonseller.core.table.RowSelection;
+
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class SummationProcessor {
 
@@ -26,6 +34,12 @@ public class SummationProcessor {
      * Columns: ["columnA", "columnB"]
      * Result: 10 + 20.5 + 15 = 45.5
      *
+     * Method calculateExactSum:
+     * - Adds up the same values as whole cents in a `long` and returns an {@link ExactAmount}, for totals that must
+     *   be exact to the cent; text values are parsed into cents directly, without intermediate strings.
+     * - Values of a `NumericColumn` are rounded to cents with the same half-up rule as text (`ExactAmount.toCents`),
+     *   so `"1.005"` counts as 1.01 whether its column was parsed at load time or not.
+     *
      * Significance:
      * This method is used for summing numeric data in analytical tasks and reporting.
      */
@@ -54,5 +68,261 @@ public class SummationProcessor {
         return totalSum;
     }
 
+    /**
+     * Calculates the total sum of the numeric columns over the selected rows of a table.
+     *
+     * Every column is resolved once and scanned by row index. Values are parsed with the same rules
+     * as in {@link #calculateTotalSum(List, List)}; missing columns contribute nothing.
+     * A {@link NumericColumn} was already parsed at load time, so its primitive values are summed
+     * directly and its invalid cells are skipped without logging them again.
+     *
+     * Each column is added up in row order on its own, and the column sums are then added in the order of
+     * `numericColumns`, as `ReportBatch` does. With several columns the total may therefore differ in the last
+     * digits from {@link #calculateTotalSum(List, List)} and {@link #sumStage(List)}, which add the values row by
+     * row; for a single column they agree.
+     */
+
+    public Double calculateTotalSum(ColumnTable table, RowSelection selection, List<String> numericColumns) {
+        if (table == null || selection == null || numericColumns == null || numericColumns.isEmpty()) {
+            return 0.0;
+        }
+
+        double totalSum = 0.0;
+
+        for (String columnName : numericColumns) {
+            Column column = table.getColumn(columnName);
+            if (column == null) continue;
+
+            if (column instanceof NumericColumn) {
+                totalSum += sumNumericColumn((NumericColumn) column, selection);
+                continue;
+            }
+
+            double sum = 0.0;
+            for (int i = 0; i < selection.size(); i++) {
+                String valueStr = column.getString(selection.get(i)).replace(",", ".").trim();
+                if (valueStr.isEmpty()) continue;
+
+                try {
+                    sum += Double.parseDouble(valueStr);
+                } catch (NumberFormatException e) {
+                    System.err.println("Error converting value \"" + valueStr + "\" in column \"" + columnName + "\".");
+                }
+            }
+            totalSum += sum;
+        }
+
+        return totalSum;
+    }
+
+    /**
+     * Calculates the total sum of the numeric columns over the rows of a bitmap, e.g. the result of
+     * {@link MultiColumnFilter#filterByColumns(Map, ColumnTable, RowBitmap)}.
+     *
+     * Same rules and result as {@link #calculateTotalSum(ColumnTable, RowSelection, List)}: rows are visited in
+     * ascending order, one bitmap chunk at a time, without converting the bitmap into a selection first.
+     */
+
+    public Double calculateTotalSum(ColumnTable table, RowBitmap rows, List<String> numericColumns) {
+        if (table == null || rows == null || numericColumns == null || numericColumns.isEmpty()) {
+            return 0.0;
+        }
+
+        double totalSum = 0.0;
+
+        for (String columnName : numericColumns) {
+            Column column = table.getColumn(columnName);
+            if (column == null) continue;
+
+            if (column instanceof NumericColumn) {
+                NumericColumn numeric = (NumericColumn) column;
+                double sum = 0.0;
+                for (RowBitmap.RowIterator it = rows.iterator(); it.hasNext(); ) {
+                    int row = it.next();
+                    if (numeric.isPresent(row)) {
+                        sum += numeric.getDouble(row);
+                    }
+                }
+                totalSum += sum;
+                continue;
+            }
+
+            double sum = 0.0;
+            for (RowBitmap.RowIterator it = rows.iterator(); it.hasNext(); ) {
+                String valueStr = column.getString(it.next()).replace(",", ".").trim();
+                if (valueStr.isEmpty()) continue;
+
+                try {
+                    sum += Double.parseDouble(valueStr);
+                } catch (NumberFormatException e) {
+                    System.err.println("Error converting value \"" + valueStr + "\" in column \"" + columnName + "\".");
+                }
+            }
+            totalSum += sum;
+        }
+
+        return totalSum;
+    }
+
+    /**
+     * Calculates the exact total of the numeric columns over the selected rows of a table, in cents.
+     *
+     * Same rows, columns and invalid values as {@link #calculateTotalSum(ColumnTable, RowSelection, List)}, but
+     * every value is converted to cents (see {@link ExactAmount}) and added up as a `long`, so the total does not
+     * drift however many amounts are added. Throws an `ArithmeticException` if the total overflows.
+     */
+
+    public ExactAmount calculateExactSum(ColumnTable table, RowSelection selection, List<String> numericColumns) {
+        if (table == null || selection == null || numericColumns == null || numericColumns.isEmpty()) {
+            return ExactAmount.ZERO;
+        }
+
+        long totalCents = 0;
+
+        for (String columnName : numericColumns) {
+            Column column = table.getColumn(columnName);
+            if (column == null) continue;
+
+            if (column instanceof NumericColumn) {
+                NumericColumn numeric = (NumericColumn) column;
+                for (int i = 0; i < selection.size(); i++) {
+                    int row = selection.get(i);
+                    if (numeric.isPresent(row)) {
+                        totalCents = Math.addExact(totalCents, ExactAmount.toCents(numeric.getDouble(row)));
+                    }
+                }
+                continue;
+            }
+
+            for (int i = 0; i < selection.size(); i++) {
+                long cents = parseCents(column.getString(selection.get(i)), columnName);
+                if (cents != ExactAmount.NOT_A_NUMBER) {
+                    totalCents = Math.addExact(totalCents, cents);
+                }
+            }
+        }
+
+        return ExactAmount.ofCents(totalCents);
+    }
+
+    /**
+     * Calculates the exact total of the numeric columns over the rows of a bitmap, in cents; see
+     * {@link #calculateExactSum(ColumnTable, RowSelection, List)}. A {@link NumericColumn} is added up by
+     * `NumericColumn.aggregateCents`, with the aggregation kernel selected at runtime.
+     */
+
+    public ExactAmount calculateExactSum(ColumnTable table, RowBitmap rows, List<String> numericColumns) {
+        if (table == null || rows == null || numericColumns == null || numericColumns.isEmpty()) {
+            return ExactAmount.ZERO;
+        }
+
+        long totalCents = 0;
+
+        for (String columnName : numericColumns) {
+            Column column = table.getColumn(columnName);
+            if (column == null) continue;
+
+            if (column instanceof NumericColumn) {
+                totalCents = Math.addExact(totalCents, ((NumericColumn) column).aggregateCents(rows).getSum());
+                continue;
+            }
+
+            for (RowBitmap.RowIterator it = rows.iterator(); it.hasNext(); ) {
+                long cents = parseCents(column.getString(it.next()), columnName);
+                if (cents != ExactAmount.NOT_A_NUMBER) {
+                    totalCents = Math.addExact(totalCents, cents);
+                }
+            }
+        }
+
+        return ExactAmount.ofCents(totalCents);
+    }
+
+    /**
+     * Returns a pipeline stage that adds up the numeric columns of every row it receives,
+     * using the same rules as {@link #calculateTotalSum(List, List)}.
+     */
+    public SumStage sumStage(List<String> numericColumns) {
+        return new SumStage(numericColumns != null ? numericColumns : List.of());
+    }
 
+    /**
+     * Pipeline stage holding the running total of a summation; read it via {@link #getTotalSum()}
+     * once the file has been read.
+     */
+    public static final class SumStage implements RowStage {
+        private final List<String> numericColumns;
+        private final int[] columnIndexes;
+        private double totalSum;
+
+        private SumStage(List<String> numericColumns) {
+            this.numericColumns = List.copyOf(numericColumns);
+            this.columnIndexes = new int[numericColumns.size()];
+        }
+
+        @Override
+        public Set<String> getColumns() {
+            return Set.copyOf(numericColumns);
+        }
+
+        @Override
+        public void onHeaders(List<String> headers) {
+            for (int i = 0; i < columnIndexes.length; i++) {
+                columnIndexes[i] = headers.lastIndexOf(numericColumns.get(i));
+            }
+        }
+
+        @Override
+        public boolean onRow(String[] values) {
+            for (int i = 0; i < columnIndexes.length; i++) {
+                if (columnIndexes[i] < 0) continue;
+
+                String valueStr = values[columnIndexes[i]].replace(",", ".").trim();
+                if (valueStr.isEmpty()) continue;
+
+                try {
+                    totalSum += Double.parseDouble(valueStr);
+                } catch (NumberFormatException e) {
+                    System.err.println("Error converting value \"" + valueStr + "\" in column \"" + numericColumns.get(i) + "\".");
+                }
+            }
+            return true;
+        }
+
+        public Double getTotalSum() {
+            return totalSum;
+        }
+    }
+
+    /**
+     * Returns the cents of a text value, or `NOT_A_NUMBER` for empty values and, after logging them, invalid ones.
+     */
+    private static long parseCents(String value, String columnName) {
+        long cents = ExactAmount.parseCents(value);
+        if (cents != ExactAmount.NOT_A_NUMBER) {
+            return cents;
+        }
+
+        String valueStr = value.replace(",", ".").trim();
+        if (valueStr.isEmpty()) {
+            return ExactAmount.NOT_A_NUMBER;
+        }
+        try {
+            return ExactAmount.toCents(Double.parseDouble(valueStr));
+        } catch (NumberFormatException e) {
+            System.err.println("Error converting value \"" + valueStr + "\" in column \"" + columnName + "\".");
+            return ExactAmount.NOT_A_NUMBER;
+        }
+    }
+
+    private double sumNumericColumn(NumericColumn column, RowSelection selection) {
+        double sum = 0.0;
+        for (int i = 0; i < selection.size(); i++) {
+            int row = selection.get(i);
+            if (column.isPresent(row)) {
+                sum += column.getDouble(row);
+            }
+        }
+        return sum;
+    }
 }
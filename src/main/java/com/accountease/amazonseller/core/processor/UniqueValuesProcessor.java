@@ -1,5 +1,10 @@
 package com.accountease.amazonseller.core.processor;
 
+import com.accountease.amazonseller.core.table.Column;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowSelection;
+import com.accountease.amazonseller.core.table.Utf8Column;
+
 import java.util.*;
 
 /**
@@ -143,4 +148,83 @@ public class UniqueValuesProcessor {
             throw new RuntimeException("Error extracting unique values from the last numeric column: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Extracts unique values from the specified column over the selected rows of a table.
+     *
+     * Same rules as {@link #getUniqueValues(List, String)}: only non-empty, trimmed values are
+     * considered, duplicates are removed and the order of first occurrence is kept.
+     * Values of a {@link Utf8Column} are compared on their UTF-8 bytes, so only distinct values are decoded.
+     *
+     * @throws IllegalArgumentException if the table, selection or column is null.
+     */
+
+    public List<String> getUniqueValues(ColumnTable table, RowSelection selection, String column) {
+        if (table == null || selection == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        if (column == null) {
+            throw new IllegalArgumentException("Column name cannot be null.");
+        }
+
+        Column values = table.getColumn(column);
+        if (values == null) {
+            return new ArrayList<>();
+        }
+
+        if (values instanceof Utf8Column) {
+            // Deduplicate on the raw bytes and decode only the first occurrence of each value
+            Utf8Column utf8 = (Utf8Column) values;
+            List<String> uniqueValues = new ArrayList<>();
+            for (int row : utf8.distinctRows(selection)) {
+                uniqueValues.add(utf8.getString(row).trim());
+            }
+            return uniqueValues;
+        }
+
+        Set<String> uniqueValues = new LinkedHashSet<>();
+        for (int i = 0; i < selection.size(); i++) {
+            String value = values.getString(selection.get(i)).trim();
+            if (!value.isEmpty()) {
+                uniqueValues.add(value);
+            }
+        }
+
+        return new ArrayList<>(uniqueValues);
+    }
+
+    /**
+     * Table variant of {@link #extractUniqueValuesFromLastNumericColumn(List, List, Map)},
+     * applied to the selected rows of a table.
+     *
+     * @throws IllegalArgumentException if table, selection, numericColumns, or columnFilters is null.
+     * @throws RuntimeException if an error occurs during filtering or unique value extraction.
+     */
+
+    public List<String> extractUniqueValuesFromLastNumericColumn(
+            ColumnTable table,
+            RowSelection selection,
+            List<String> numericColumns,
+            Map<String, List<String>> columnFilters) {
+        if (table == null || selection == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+        if (numericColumns == null || numericColumns.isEmpty()) {
+            throw new IllegalArgumentException("Numeric columns cannot be null or empty.");
+        }
+        if (columnFilters == null) {
+            throw new IllegalArgumentException("Column filters cannot be null.");
+        }
+
+        try {
+            String lastNumericColumnName = getLastNumericColumnName(numericColumns);
+
+            MultiColumnFilter filter = new MultiColumnFilter();
+            RowSelection filteredRows = filter.filterByColumns(columnFilters, table, selection);
+
+            return getUniqueValues(table, filteredRows, lastNumericColumnName);
+        } catch (Exception e) {
+            throw new RuntimeException("Error extracting unique values from the last numeric column: " + e.getMessage(), e);
+        }
+    }
 }
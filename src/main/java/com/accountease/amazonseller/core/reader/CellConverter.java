@@ -0,0 +1,187 @@
+package com.accountease.amazonseller.core.reader;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.LocaleUtil;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import java.text.SimpleDateFormat;
+
+/**
+ * Turns the raw content of a `<c>` element (its `t` and `s` attributes and the text of `<v>` or `<t>`)
+ * into the cell kind and the rendered value, matching `Cell.toString().trim()` of the DOM reader:
+ * shared and inline strings as text, numbers via `Double.toString`, date-formatted numbers as
+ * `dd-MMM-yyyy`, booleans as `TRUE`/`FALSE`, errors as their error code.
+ *
+ * Formula cells are the one exception: they are rendered from their cached result (the `<v>` element),
+ * while `Cell.toString()` of the DOM reader returns the formula text, e.g. `SUM(A1:A3)`. The transaction
+ * exports contain no formulas, so both readers give the same values for them.
+ *
+ * The date formats of all cell styles are resolved up front, so a converter may be shared by
+ * several threads once it is created.
+ */
+final class CellConverter {
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final SharedStrings sharedStrings;
+    private final CompactSharedStrings compactStrings;
+    private final boolean[] dateStyles;
+
+    CellConverter(SharedStrings sharedStrings, StylesTable styles) {
+        this.sharedStrings = sharedStrings;
+        this.compactStrings = sharedStrings instanceof CompactSharedStrings ? (CompactSharedStrings) sharedStrings : null;
+        this.dateStyles = new boolean[styles != null ? styles.getNumCellStyles() : 0];
+        for (int i = 0; i < dateStyles.length; i++) {
+            XSSFCellStyle style = styles.getStyleAt(i);
+            dateStyles[i] = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        }
+    }
+
+    /**
+     * Returns the kind of the cell; `raw` is `null` for cells without a value.
+     */
+    SheetXmlHandler.CellKind kindOf(String cellType, String raw, boolean hasFormula) {
+        if (raw == null) {
+            return SheetXmlHandler.CellKind.BLANK;
+        }
+        if (hasFormula) {
+            return SheetXmlHandler.CellKind.FORMULA;
+        }
+        if ("s".equals(cellType) || "inlineStr".equals(cellType) || "str".equals(cellType)) {
+            return SheetXmlHandler.CellKind.STRING;
+        } else if ("b".equals(cellType)) {
+            return SheetXmlHandler.CellKind.BOOLEAN;
+        } else if ("e".equals(cellType)) {
+            return SheetXmlHandler.CellKind.ERROR;
+        }
+        return SheetXmlHandler.CellKind.NUMERIC;
+    }
+
+    /**
+     * Returns the trimmed, rendered value of the cell; `raw` is `null` for cells without a value.
+     */
+    String render(String cellType, String raw, int styleIndex) {
+        if (raw == null) {
+            return "";
+        }
+
+        String value;
+        if ("s".equals(cellType)) {
+            int index = Integer.parseInt(raw.trim());
+            value = compactStrings != null ? compactStrings.getString(index) : sharedStrings.getItemAt(index).getString();
+        } else if ("inlineStr".equals(cellType) || "str".equals(cellType) || "e".equals(cellType)) {
+            value = raw;
+        } else if ("b".equals(cellType)) {
+            value = "1".equals(raw.trim()) ? "TRUE" : "FALSE";
+        } else {
+            value = renderNumber(Double.parseDouble(raw.trim()), styleIndex);
+        }
+        return value.trim();
+    }
+
+    /**
+     * Returns `true` if the cell style formats numbers as dates.
+     */
+    boolean isDateStyle(int styleIndex) {
+        return styleIndex < dateStyles.length && dateStyles[styleIndex];
+    }
+
+    /**
+     * Parses the text of a numeric cell without creating a `String`. Values with up to 15 significant digits
+     * and a small exponent, which covers all amounts in the reports, are computed exactly with one
+     * multiplication or division; all others are passed to `Double.parseDouble`. The result is the same.
+     */
+    static double parseNumber(CharSequence text) {
+        int i = 0;
+        int end = text.length();
+        while (i < end && text.charAt(i) <= ' ') i++;
+        while (end > i && text.charAt(end - 1) <= ' ') end--;
+
+        boolean negative = i < end && text.charAt(i) == '-';
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean afterPoint = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                anyDigit = true;
+                if (mantissa == 0 && c == '0') {
+                    exponent -= afterPoint ? 1 : 0;
+                    continue;
+                }
+                if (++digits > 15) {
+                    return Double.parseDouble(text.toString());
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                exponent -= afterPoint ? 1 : 0;
+            } else if (c == '.' && !afterPoint) {
+                afterPoint = true;
+            } else if ((c == 'E' || c == 'e') && anyDigit && i + 1 < end) {
+                int explicit = parseExponent(text, i + 1, end);
+                if (explicit == Integer.MIN_VALUE) {
+                    return Double.parseDouble(text.toString());
+                }
+                exponent += explicit;
+                break;
+            } else {
+                return Double.parseDouble(text.toString());
+            }
+        }
+
+        if (!anyDigit) {
+            return Double.parseDouble(text.toString());
+        }
+        double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            value = mantissa * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+            value = mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return Double.parseDouble(text.toString());
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a signed exponent of at most three digits, or returns `Integer.MIN_VALUE`.
+     */
+    private static int parseExponent(CharSequence text, int from, int end) {
+        boolean negative = text.charAt(from) == '-';
+        if (text.charAt(from) == '-' || text.charAt(from) == '+') {
+            from++;
+        }
+        if (from == end || end - from > 3) {
+            return Integer.MIN_VALUE;
+        }
+        int exponent = 0;
+        for (int i = from; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return Integer.MIN_VALUE;
+            }
+            exponent = exponent * 10 + (c - '0');
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private String renderNumber(double number, int styleIndex) {
+        if (isDateStyle(styleIndex) && DateUtil.isValidExcelDate(number)) {
+            SimpleDateFormat format = new SimpleDateFormat("dd-MMM-yyyy", LocaleUtil.getUserLocale());
+            format.setTimeZone(LocaleUtil.getUserTimeZone());
+            return format.format(DateUtil.getJavaDate(number));
+        }
+        return Double.toString(number);
+    }
+}
@@ -0,0 +1,62 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.TableSchema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps rows aligned with the headers of a file to rows aligned with the columns kept by a
+ * {@link TableSchema} projection.
+ */
+final class ColumnProjection {
+    private final List<String> headers;
+    private final int[] sourceIndexes;
+
+    private ColumnProjection(List<String> headers, int[] sourceIndexes) {
+        this.headers = headers;
+        this.sourceIndexes = sourceIndexes;
+    }
+
+    static ColumnProjection of(List<String> fileHeaders, TableSchema schema) {
+        List<String> headers = new ArrayList<>();
+        int[] sourceIndexes = new int[fileHeaders.size()];
+        for (int i = 0; i < fileHeaders.size(); i++) {
+            if (schema.isProjected(fileHeaders.get(i))) {
+                sourceIndexes[headers.size()] = i;
+                headers.add(fileHeaders.get(i));
+            }
+        }
+        return new ColumnProjection(List.copyOf(headers), Arrays.copyOf(sourceIndexes, headers.size()));
+    }
+
+    List<String> headers() {
+        return headers;
+    }
+
+    /**
+     * Returns the values of the kept columns; the given array is returned as is if all columns are kept.
+     */
+    String[] apply(String[] values) {
+        if (sourceIndexes.length == values.length) {
+            return values;
+        }
+        String[] projected = new String[sourceIndexes.length];
+        for (int i = 0; i < projected.length; i++) {
+            projected[i] = values[sourceIndexes[i]];
+        }
+        return projected;
+    }
+
+    double[] apply(double[] numbers) {
+        if (sourceIndexes.length == numbers.length) {
+            return numbers;
+        }
+        double[] projected = new double[sourceIndexes.length];
+        for (int i = 0; i < projected.length; i++) {
+            projected[i] = numbers[sourceIndexes[i]];
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,209 @@
+package com.accountease.amazonseller.core.reader;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class CompactSharedStrings
+ *
+ * A read-only shared strings table (`sharedStrings.xml`) that keeps all entries as UTF-8 bytes in a single
+ * `byte[]`, addressed by an `int[]` of offsets. POI's `ReadOnlySharedStringsTable` holds one `String` per
+ * entry instead, which makes the table of a large transaction export the biggest object on the heap before
+ * the first row is read.
+ *
+ * Key Features:
+ * - About one byte per character for the mostly ASCII report texts, and two arrays instead of one object per entry.
+ * - Entries are decoded only when a cell refers to them via {@link #getString(int)}. Cells of columns outside
+ *   the projection are skipped by {@link SheetXmlHandler}, so their strings are never decoded.
+ * - Entries match `ReadOnlySharedStringsTable.getItemAt(index).getString()`: rich text runs and phonetic runs are
+ *   concatenated (phonetic runs after a space), and `_xHHHH_` escapes are decoded.
+ * - Immutable once loaded, so it may be shared by several threads.
+ */
+final class CompactSharedStrings implements SharedStrings {
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final int uniqueCount;
+    private final int count;
+
+    private CompactSharedStrings(byte[] bytes, int[] offsets, int uniqueCount, int count) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.uniqueCount = uniqueCount;
+        this.count = count;
+    }
+
+    /**
+     * Loads the shared strings table of the package, or an empty table if the workbook has none.
+     */
+    static CompactSharedStrings load(OPCPackage pkg) throws IOException, SAXException {
+        List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        if (parts.isEmpty()) {
+            return new CompactSharedStrings(new byte[0], new int[1], 0, 0);
+        }
+        try (InputStream in = parts.get(0).getInputStream()) {
+            return load(in);
+        }
+    }
+
+    static CompactSharedStrings load(InputStream in) throws IOException, SAXException {
+        Builder builder = new Builder();
+        try {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(builder);
+            xmlReader.parse(new InputSource(in));
+        } catch (ParserConfigurationException e) {
+            throw new IOException("Error parsing shared strings: " + e.getMessage(), e);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Decodes the entry at the given index.
+     */
+    String getString(int index) {
+        int from = offsets[index];
+        return new String(bytes, from, offsets[index + 1] - from, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public RichTextString getItemAt(int index) {
+        return new XSSFRichTextString(getString(index));
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * Replaces `_xHHHH_` escapes with the character they stand for, like `XSSFRichTextString.getString()`.
+     */
+    static String decodeEscapes(String value) {
+        int start = value.indexOf("_x");
+        if (start < 0) {
+            return value;
+        }
+
+        StringBuilder decoded = new StringBuilder(value.length());
+        int copied = 0;
+        for (int i = start; i <= value.length() - 7; i++) {
+            if (value.charAt(i) == '_' && value.charAt(i + 1) == 'x' && value.charAt(i + 6) == '_'
+                    && isHex(value, i + 2, i + 6)) {
+                decoded.append(value, copied, i).append((char) Integer.parseInt(value.substring(i + 2, i + 6), 16));
+                copied = i + 7;
+                i += 6;
+            }
+        }
+        return copied == 0 ? value : decoded.append(value, copied, value.length()).toString();
+    }
+
+    private static boolean isHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * SAX handler collecting the text of every `<si>` element into the byte array.
+     */
+    private static final class Builder extends DefaultHandler {
+        private final StringBuilder text = new StringBuilder();
+        private byte[] bytes = new byte[1 << 16];
+        private int length;
+        private int[] offsets = new int[1024];
+        private int entries;
+        private int uniqueCount;
+        private int count;
+        private boolean inText;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName != null && !localName.isEmpty() ? localName : qName) {
+                case "sst":
+                    count = parseCount(attributes.getValue("count"));
+                    uniqueCount = parseCount(attributes.getValue("uniqueCount"));
+                    break;
+                case "si":
+                    text.setLength(0);
+                    break;
+                case "t":
+                    inText = true;
+                    break;
+                case "rPh":
+                    text.append(' '); // Like POI, phonetic runs are separated by a space
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName != null && !localName.isEmpty() ? localName : qName) {
+                case "si":
+                    add(decodeEscapes(text.toString()));
+                    break;
+                case "t":
+                    inText = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private void add(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            if (length + encoded.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + encoded.length, bytes.length * 2));
+            }
+            System.arraycopy(encoded, 0, bytes, length, encoded.length);
+            length += encoded.length;
+
+            if (entries + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[++entries] = length;
+        }
+
+        CompactSharedStrings build() {
+            return new CompactSharedStrings(Arrays.copyOf(bytes, length), Arrays.copyOf(offsets, entries + 1),
+                    uniqueCount > 0 ? uniqueCount : entries, count);
+        }
+
+        private static int parseCount(String value) {
+            return value != null ? Integer.parseInt(value) : 0;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class DelimitedFileReader {
+
+    public static final char COMMA = ',';
+    public static final char SEMICOLON = ';';
+    public static final char TAB = '\t';
+
+    private static final int MAPPED_SEGMENT_SIZE = 64 << 20;
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    /**
+     * Class DelimitedFileReader
+     *
+     * This class reads CSV/TSV flat files, such as Amazon's date-range transaction reports, into the same
+     * row model as the Excel readers, without converting them to Excel first.
+     *
+     * Method readDelimited:
+     * 1. Maps the file segment by segment through a `FileChannel` and scans the bytes with a small state machine.
+     * 2. Extracts the column headers from the record specified by `headerRowIndex`.
+     * 3. Passes every following record to the given {@link SheetRowHandler}, aligned with the headers.
+     *
+     * Method readTable:
+     * - Reads the file into a {@link ColumnTable}, storing the columns as described by the {@link TableSchema}.
+     *
+     * Key Features:
+     * - Fields enclosed in double quotes may contain delimiters, line breaks and escaped quotes (`""`).
+     * - Records may end with `\n` or `\r\n`; a UTF-8 byte order mark is skipped.
+     * - Records before `headerRowIndex` (report preamble) are skipped without decoding them.
+     * - Empty lines count as rows but are skipped, like missing rows in a sheet.
+     * - Missing fields are passed as empty strings; values are trimmed like Excel cell values.
+     * - No `String.split` or per-line strings: only the final field values are decoded.
+     * - Fields of columns the handler does not accept ({@link SheetRowHandler#acceptsColumn(String)}) are not decoded.
+     * - Throws an `IllegalArgumentException` if the header row is missing or `headerRowIndex` is incorrect.
+     *
+     * Parameters:
+     * @param filePath       The path to the delimited file.
+     * @param headerRowIndex The index of the record containing column headers (0-based).
+     * @param delimiter      The field delimiter, e.g. {@link #COMMA} or {@link #TAB}.
+     * @param charset        The charset of the file; must be ASCII compatible (defaults to UTF-8).
+     */
+
+    public static void readDelimited(String filePath, int headerRowIndex, char delimiter, SheetRowHandler handler) throws IOException {
+        readDelimited(filePath, headerRowIndex, delimiter, StandardCharsets.UTF_8, handler);
+    }
+
+    public static void readDelimited(String filePath, int headerRowIndex, char delimiter, Charset charset, SheetRowHandler handler) throws IOException {
+        read(filePath, headerRowIndex, delimiter, charset, handler, CHUNK_SIZE);
+    }
+
+    public static ColumnTable readTable(String filePath, int headerRowIndex, char delimiter, TableSchema schema) throws IOException {
+        TableRowHandler handler = new TableRowHandler(schema);
+        readDelimited(filePath, headerRowIndex, delimiter, handler);
+        return handler.getTable();
+    }
+
+    static void read(String filePath, int headerRowIndex, char delimiter, Charset charset,
+                     SheetRowHandler handler, int chunkSize) throws IOException {
+        RecordParser parser = new RecordParser(headerRowIndex, (byte) delimiter, charset, handler);
+        scan(filePath, 0, parser, chunkSize);
+    }
+
+    /**
+     * Reads the records starting at byte `startOffset`, which must be the start of the record with index
+     * `startRowIndex` in a file whose headers are already known. Returns the byte offset at which the
+     * last record passed to the handler starts, or `-1` if there was none.
+     */
+    static long resume(String filePath, long startOffset, int startRowIndex, List<String> headers,
+                       char delimiter, Charset charset, SheetRowHandler handler) throws IOException {
+        RecordParser parser = new RecordParser(startRowIndex, headers, startOffset, (byte) delimiter, charset, handler);
+        scan(filePath, startOffset, parser, CHUNK_SIZE);
+        return parser.lastRowStart;
+    }
+
+    /**
+     * Reads the whole file like {@link #readDelimited(String, int, char, SheetRowHandler)} and returns the
+     * byte offset at which the last record passed to the handler starts, or `-1` if there was none.
+     */
+    static long readTracked(String filePath, int headerRowIndex, char delimiter, Charset charset,
+                            SheetRowHandler handler) throws IOException {
+        RecordParser parser = new RecordParser(headerRowIndex, (byte) delimiter, charset, handler);
+        scan(filePath, 0, parser, CHUNK_SIZE);
+        return parser.lastRowStart;
+    }
+
+    /**
+     * Returns `true` for `.csv`, `.tsv` and `.txt` files, which are read by this class instead of POI.
+     */
+    static boolean isDelimitedFile(String filePath) {
+        String name = filePath.toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") || name.endsWith(".tsv") || name.endsWith(".txt");
+    }
+
+    /**
+     * Returns the delimiter used by Amazon's flat-file exports of the given type:
+     * commas for `.csv`, tabs for `.tsv` and `.txt`.
+     */
+    static char delimiterFor(String filePath) {
+        return filePath.toLowerCase(Locale.ROOT).endsWith(".csv") ? COMMA : TAB;
+    }
+
+    private static void scan(String filePath, long startOffset, RecordParser parser, int chunkSize) throws IOException {
+        if (!new File(filePath).isFile()) {
+            throw new FileNotFoundException(filePath + " (No such file)");
+        }
+
+        byte[] chunk = new byte[chunkSize];
+
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = startOffset; position < size; position += MAPPED_SEGMENT_SIZE) {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAPPED_SEGMENT_SIZE, size - position));
+                if (position == 0 && hasByteOrderMark(segment)) {
+                    segment.position(3);
+                    parser.recordStart = 3;
+                }
+                while (segment.hasRemaining()) {
+                    long chunkOffset = position + segment.position();
+                    int length = Math.min(chunk.length, segment.remaining());
+                    segment.get(chunk, 0, length);
+                    parser.parse(chunk, length, chunkOffset);
+                }
+            }
+        }
+
+        parser.finish();
+    }
+
+    private static boolean hasByteOrderMark(MappedByteBuffer segment) {
+        return segment.remaining() >= 3 && segment.get(0) == (byte) 0xEF
+                && segment.get(1) == (byte) 0xBB && segment.get(2) == (byte) 0xBF;
+    }
+
+    /**
+     * Byte-level state machine that turns the file content into records and fields.
+     * Its state survives across chunks, so records may span chunk and segment boundaries.
+     */
+    private static final class RecordParser {
+        private static final byte QUOTE = '"';
+        private static final byte CR = '\r';
+        private static final byte LF = '\n';
+
+        private final int headerRowIndex;
+        private final byte delimiter;
+        private final Charset charset;
+        private final SheetRowHandler handler;
+        private final List<String> headers = new ArrayList<>();
+
+        private byte[] field = new byte[256];
+        private int fieldLength;
+        private boolean inQuotes;
+        private boolean quoteInQuotes;
+        private boolean fieldQuoted;
+        private boolean recordStarted;
+        private boolean afterCarriageReturn;
+        private int fieldIndex;
+        private int rowIndex;
+        private boolean headerFound;
+        private String[] values;
+        private boolean[] acceptedColumns;
+
+        private long recordStart;
+        private long lastRowStart = -1;
+
+        RecordParser(int headerRowIndex, byte delimiter, Charset charset, SheetRowHandler handler) {
+            this.headerRowIndex = headerRowIndex;
+            this.delimiter = delimiter;
+            this.charset = charset;
+            this.handler = handler;
+        }
+
+        /**
+         * Creates a parser that continues at the start of record `rowIndex`, after the header row.
+         */
+        RecordParser(int rowIndex, List<String> headers, long recordStart, byte delimiter, Charset charset, SheetRowHandler handler) {
+            this(-1, delimiter, charset, handler);
+            this.headers.addAll(headers);
+            this.headerFound = true;
+            this.rowIndex = rowIndex;
+            this.recordStart = recordStart;
+            this.acceptedColumns = acceptedColumns(handler);
+            this.values = newValues();
+        }
+
+        void parse(byte[] bytes, int length, long offset) {
+            for (int i = 0; i < length; i++) {
+                byte b = bytes[i];
+
+                if (afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    if (b == LF) {
+                        recordStart = offset + i + 1;
+                        continue;
+                    }
+                }
+
+                if (inQuotes) {
+                    if (quoteInQuotes) {
+                        quoteInQuotes = false;
+                        if (b == QUOTE) {
+                            append(b);
+                            continue;
+                        }
+                        inQuotes = false;
+                    } else {
+                        if (b == QUOTE) {
+                            quoteInQuotes = true;
+                        } else {
+                            append(b);
+                        }
+                        continue;
+                    }
+                }
+
+                if (b == delimiter) {
+                    recordStarted = true;
+                    endField();
+                } else if (b == LF || b == CR) {
+                    afterCarriageReturn = b == CR;
+                    endRecord();
+                    recordStart = offset + i + 1;
+                } else if (b == QUOTE && fieldLength == 0 && !fieldQuoted) {
+                    recordStarted = true;
+                    inQuotes = true;
+                    fieldQuoted = true;
+                } else {
+                    recordStarted = true;
+                    append(b);
+                }
+            }
+        }
+
+        void finish() {
+            if (recordStarted || fieldLength > 0 || fieldQuoted) {
+                endRecord();
+            }
+            if (!headerFound) {
+                throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+            }
+        }
+
+        private void append(byte b) {
+            if (fieldLength == field.length) {
+                field = Arrays.copyOf(field, fieldLength * 2);
+            }
+            field[fieldLength++] = b;
+        }
+
+        private void endField() {
+            if (rowIndex > headerRowIndex && !headerFound) {
+                throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+            }
+
+            if (rowIndex == headerRowIndex) {
+                headers.add(decodeField());
+            } else if (rowIndex > headerRowIndex && fieldIndex < values.length && acceptedColumns[fieldIndex]) {
+                values[fieldIndex] = decodeField();
+            }
+            fieldIndex++;
+            fieldLength = 0;
+            fieldQuoted = false;
+        }
+
+        private void endRecord() {
+            boolean emptyLine = !recordStarted && fieldLength == 0 && !fieldQuoted;
+
+            if (!emptyLine) {
+                endField();
+
+                if (rowIndex == headerRowIndex) {
+                    headerFound = true;
+                    handler.onHeaders(Collections.unmodifiableList(headers));
+                    acceptedColumns = acceptedColumns(handler);
+                } else if (rowIndex > headerRowIndex) {
+                    lastRowStart = recordStart;
+                    handler.onRow(rowIndex, values);
+                }
+            }
+
+            rowIndex++;
+            fieldIndex = 0;
+            fieldLength = 0;
+            fieldQuoted = false;
+            recordStarted = false;
+            values = rowIndex > headerRowIndex && headerFound ? newValues() : null;
+        }
+
+        private boolean[] acceptedColumns(SheetRowHandler handler) {
+            boolean[] accepted = new boolean[headers.size()];
+            for (int i = 0; i < accepted.length; i++) {
+                accepted[i] = handler.acceptsColumn(headers.get(i));
+            }
+            return accepted;
+        }
+
+        private String[] newValues() {
+            String[] row = new String[headers.size()];
+            Arrays.fill(row, "");
+            return row;
+        }
+
+        private String decodeField() {
+            int from = 0;
+            int to = fieldLength;
+            while (from < to && (field[from] & 0xFF) <= ' ') from++;
+            while (to > from && (field[to - 1] & 0xFF) <= ' ') to--;
+            return from == to ? "" : new String(field, from, to - from, charset);
+        }
+    }
+}
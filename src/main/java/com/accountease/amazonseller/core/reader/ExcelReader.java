@@ -1,5 +1,7 @@
 package com.accountease.amazonseller.core.reader;
 
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
@@ -98,5 +100,50 @@ public class ExcelReader {
         return rows;
     }
 
+    /**
+     * Method readTable.
+     *
+     * Reads the first sheet of the Excel file into a {@link ColumnTable}. The file is parsed with
+     * {@link StreamingExcelReader}, and every row is appended to the table column by column,
+     * so neither a workbook nor per-row maps are kept in memory.
+     *
+     * The header and row semantics are the same as in {@link #readExcel(String, int)}.
+     *
+     * @param filePath       The path to the Excel file.
+     * @param headerRowIndex The index of the row containing column headers (0-based).
+     * @return A table with one column per header.
+     */
+    public static ColumnTable readTable(String filePath, int headerRowIndex) throws IOException {
+        return readTable(filePath, headerRowIndex, TableSchema.empty());
+    }
+
+    /**
+     * Same as {@link #readTable(String, int)}, but stores the columns as described by the given
+     * {@link TableSchema}, e.g. dictionary-encoded.
+     */
+    public static ColumnTable readTable(String filePath, int headerRowIndex, TableSchema schema) throws IOException {
+        TableRowHandler handler = new TableRowHandler(schema);
+        StreamingExcelReader.readExcel(filePath, headerRowIndex, handler);
+        return handler.getTable();
+    }
+
+    /**
+     * Method readRows.
+     *
+     * Pushes the rows of a report file to the given handler while the file is being parsed, without
+     * keeping any of them. `.csv`, `.tsv` and `.txt` files are read by {@link DelimitedFileReader},
+     * all other files by {@link StreamingExcelReader}.
+     *
+     * @param filePath       The path to the report file.
+     * @param headerRowIndex The index of the row containing column headers (0-based).
+     * @param handler        Receives the headers and every data row, e.g. a row pipeline.
+     */
+    public static void readRows(String filePath, int headerRowIndex, SheetRowHandler handler) throws IOException {
+        if (DelimitedFileReader.isDelimitedFile(filePath)) {
+            DelimitedFileReader.readDelimited(filePath, headerRowIndex, DelimitedFileReader.delimiterFor(filePath), handler);
+        } else {
+            StreamingExcelReader.readExcel(filePath, headerRowIndex, handler);
+        }
+    }
 
 }
@@ -0,0 +1,164 @@
+package com.accountease.amazonseller.core.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Class HighWaterMark
+ *
+ * Records how far a report file has been loaded by {@link IncrementalLoader}, so that a later load
+ * can tell whether the file only grew and where its new rows begin.
+ *
+ * Recorded Values:
+ * - `rowCount`: the number of data rows loaded so far.
+ * - `lastRowIndex`: the row index of the last loaded row in the file (0-based, as passed to {@link SheetRowHandler}).
+ * - `lastTimestamp`: the `Datum/Uhrzeit` value of the last loaded row.
+ * - `fingerprint`: a 64-bit hash over all values of the last loaded row.
+ * - `lastRowOffset`: the byte offset of the last loaded row for CSV/TSV files, `-1` for Excel files.
+ * - `fileSize` and `lastModified`: the state of the file when it was loaded.
+ * - `headers`: all column headers of the file, needed to resume reading a CSV/TSV file in the middle.
+ *
+ * The mark is stored as a small properties file next to the report file.
+ */
+public final class HighWaterMark {
+    private final int rowCount;
+    private final int lastRowIndex;
+    private final String lastTimestamp;
+    private final long fingerprint;
+    private final long lastRowOffset;
+    private final long fileSize;
+    private final long lastModified;
+    private final List<String> headers;
+
+    HighWaterMark(int rowCount, int lastRowIndex, String lastTimestamp, long fingerprint,
+                  long lastRowOffset, long fileSize, long lastModified, List<String> headers) {
+        this.rowCount = rowCount;
+        this.lastRowIndex = lastRowIndex;
+        this.lastTimestamp = lastTimestamp;
+        this.fingerprint = fingerprint;
+        this.lastRowOffset = lastRowOffset;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.headers = List.copyOf(headers);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getLastRowIndex() {
+        return lastRowIndex;
+    }
+
+    public String getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getLastRowOffset() {
+        return lastRowOffset;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns all column headers of the file, including columns left out by a projection.
+     */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash over the values of a row, separating the values so that
+     * shifting text between neighbouring cells changes the hash.
+     */
+    static long fingerprint(String[] values) {
+        long hash = 0xcbf29ce484222325L;
+        for (String value : values) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ 0x1F) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    void store(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("rowCount", Integer.toString(rowCount));
+        properties.setProperty("lastRowIndex", Integer.toString(lastRowIndex));
+        properties.setProperty("lastTimestamp", lastTimestamp);
+        properties.setProperty("fingerprint", Long.toString(fingerprint));
+        properties.setProperty("lastRowOffset", Long.toString(lastRowOffset));
+        properties.setProperty("fileSize", Long.toString(fileSize));
+        properties.setProperty("lastModified", Long.toString(lastModified));
+        properties.setProperty("headerCount", Integer.toString(headers.size()));
+        for (int i = 0; i < headers.size(); i++) {
+            properties.setProperty("header." + i, headers.get(i));
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "High-water mark of " + file.getFileName());
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a stored mark, or returns `null` if the file is missing or incomplete.
+     */
+    static HighWaterMark load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+
+        try {
+            List<String> headers = new ArrayList<>();
+            int headerCount = Integer.parseInt(properties.getProperty("headerCount"));
+            for (int i = 0; i < headerCount; i++) {
+                headers.add(properties.getProperty("header." + i, ""));
+            }
+            return new HighWaterMark(
+                    Integer.parseInt(properties.getProperty("rowCount")),
+                    Integer.parseInt(properties.getProperty("lastRowIndex")),
+                    properties.getProperty("lastTimestamp", ""),
+                    Long.parseLong(properties.getProperty("fingerprint")),
+                    Long.parseLong(properties.getProperty("lastRowOffset")),
+                    Long.parseLong(properties.getProperty("fileSize")),
+                    Long.parseLong(properties.getProperty("lastModified")),
+                    headers);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HighWaterMark{rowCount=" + rowCount +
+                ", lastRowIndex=" + lastRowIndex +
+                ", lastTimestamp='" + lastTimestamp + '\'' +
+                ", lastRowOffset=" + lastRowOffset +
+                '}';
+    }
+}
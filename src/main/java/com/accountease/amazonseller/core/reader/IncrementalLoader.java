@@ -0,0 +1,281 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+import com.accountease.amazonseller.core.table.TableSnapshot;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class IncrementalLoader {
+
+    public static final String STATE_SUFFIX = ".incremental";
+    public static final String MARK_SUFFIX = ".incremental.mark";
+
+    private final String filePath;
+    private final int headerRowIndex;
+    private final TableSchema schema;
+
+    private ColumnTable table;
+    private HighWaterMark mark;
+    private int appendedRowCount;
+    private boolean lastLoadFull;
+
+    /**
+     * Class IncrementalLoader
+     *
+     * This class loads a report file that keeps growing, such as Amazon's transaction report for an open period,
+     * and on every further load only parses the rows added since the previous one.
+     *
+     * Method load:
+     * 1. On the first call, restores the table and its {@link HighWaterMark} saved by an earlier run, if any.
+     * 2. If the file has not changed since (same size and modification time), returns the table as it is.
+     * 3. Otherwise reads the file up to the last loaded row and verifies it against the mark
+     *    (row index, `Datum/Uhrzeit` value and a fingerprint of all values):
+     *    - If it matches, only the rows after it are parsed and appended to the table.
+     *    - If it does not match (the file was replaced or edited), the whole file is loaded again.
+     * 4. Saves the table and the new mark next to the file (`<filePath>.incremental` and `.incremental.mark`).
+     *
+     * Key Features:
+     * - CSV/TSV files are resumed at the byte offset of the last loaded row, so a refreshed daily file costs
+     *   time proportional to the new rows.
+     * - Excel files are compressed XML and cannot be entered in the middle; the sheet is streamed, but rows up to
+     *   the mark are skipped instead of being stored and parsed into columns.
+     * - Tables returned earlier stay valid: appended rows only become visible in the table returned by the next load.
+     * - Failing to save the state (e.g. a read-only directory) is reported but does not fail the load.
+     *
+     * Parameters:
+     * @param filePath       The path to the report file (`.xlsx`, `.csv`, `.tsv` or `.txt`).
+     * @param headerRowIndex The index of the row containing column headers (0-based).
+     * @param schema         The schema used to build the table.
+     */
+
+    public IncrementalLoader(String filePath, int headerRowIndex, TableSchema schema) {
+        this.filePath = filePath;
+        this.headerRowIndex = headerRowIndex;
+        this.schema = schema;
+    }
+
+    public synchronized ColumnTable load() throws IOException {
+        Path source = Path.of(filePath);
+        if (!Files.isRegularFile(source)) {
+            throw new FileNotFoundException(filePath + " (No such file)");
+        }
+        long fileSize = Files.size(source);
+        long lastModified = Files.getLastModifiedTime(source).toMillis();
+
+        if (table == null) {
+            restoreState(source);
+        }
+
+        appendedRowCount = 0;
+        lastLoadFull = false;
+        if (table != null && mark.getFileSize() == fileSize && mark.getLastModified() == lastModified) {
+            return table;
+        }
+
+        if (table == null || fileSize < mark.getFileSize() || !appendTail(fileSize, lastModified)) {
+            loadFull(fileSize, lastModified);
+        }
+        saveState(source);
+        return table;
+    }
+
+    public synchronized HighWaterMark getHighWaterMark() {
+        return mark;
+    }
+
+    /**
+     * Returns the number of rows added to the table by the last call to {@link #load()}.
+     */
+    public synchronized int getAppendedRowCount() {
+        return appendedRowCount;
+    }
+
+    /**
+     * Returns `true` if the last call to {@link #load()} had to read the whole file.
+     */
+    public synchronized boolean isLastLoadFull() {
+        return lastLoadFull;
+    }
+
+    private boolean appendTail(long fileSize, long lastModified) throws IOException {
+        TailCollector tail = new TailCollector();
+        long lastRowOffset = -1;
+
+        if (DelimitedFileReader.isDelimitedFile(filePath)) {
+            if (mark.getRowCount() == 0 || mark.getLastRowOffset() < 0) {
+                return false;
+            }
+            lastRowOffset = DelimitedFileReader.resume(filePath, mark.getLastRowOffset(), mark.getLastRowIndex(),
+                    mark.getHeaders(), DelimitedFileReader.delimiterFor(filePath), StandardCharsets.UTF_8, tail);
+        } else {
+            ParallelExcelReader.readExcel(filePath, headerRowIndex, FilterConstants.PARSER_THREADS, tail);
+        }
+
+        if (!tail.verified) {
+            return false;
+        }
+
+        ColumnTable.Builder builder = ColumnTable.builder(table);
+        for (String[] row : tail.rows) {
+            builder.appendRow(row);
+        }
+        table = builder.build();
+        mark = markOf(table, tail.lastRowIndex, lastRowOffset, fileSize, lastModified, mark.getHeaders());
+        appendedRowCount = tail.rows.size();
+        return true;
+    }
+
+    private void loadFull(long fileSize, long lastModified) throws IOException {
+        TableRowHandler tableHandler = new TableRowHandler(schema);
+        int[] lastRowIndex = {headerRowIndex};
+        List<String> fileHeaders = new ArrayList<>();
+        SheetRowHandler handler = new SheetRowHandler() {
+            @Override
+            public void onHeaders(List<String> headers) {
+                tableHandler.onHeaders(headers);
+                fileHeaders.addAll(headers);
+            }
+
+            @Override
+            public void onRow(int rowIndex, String[] values) {
+                tableHandler.onRow(rowIndex, values);
+                lastRowIndex[0] = rowIndex;
+            }
+
+            @Override
+            public void onRow(int rowIndex, String[] values, double[] numbers) {
+                tableHandler.onRow(rowIndex, values, numbers);
+                lastRowIndex[0] = rowIndex;
+            }
+
+            @Override
+            public boolean acceptsColumn(String header) {
+                return tableHandler.acceptsColumn(header);
+            }
+
+            @Override
+            public boolean acceptsNumbers(String header) {
+                return tableHandler.acceptsNumbers(header);
+            }
+        };
+
+        long lastRowOffset = -1;
+        if (DelimitedFileReader.isDelimitedFile(filePath)) {
+            lastRowOffset = DelimitedFileReader.readTracked(filePath, headerRowIndex,
+                    DelimitedFileReader.delimiterFor(filePath), StandardCharsets.UTF_8, handler);
+        } else {
+            ParallelExcelReader.readExcel(filePath, headerRowIndex, FilterConstants.PARSER_THREADS, handler);
+        }
+
+        table = tableHandler.getTable();
+        mark = markOf(table, lastRowIndex[0], lastRowOffset, fileSize, lastModified, fileHeaders);
+        appendedRowCount = table.getRowCount();
+        lastLoadFull = true;
+    }
+
+    private static HighWaterMark markOf(ColumnTable table, int lastRowIndex, long lastRowOffset,
+                                        long fileSize, long lastModified, List<String> fileHeaders) {
+        int rowCount = table.getRowCount();
+        if (rowCount == 0) {
+            return new HighWaterMark(0, lastRowIndex, "", 0, lastRowOffset, fileSize, lastModified, fileHeaders);
+        }
+        String[] lastRow = lastRowOf(table);
+        int dateColumn = table.columnIndexOf(FilterConstants.DATE_COLUMN_EXCEL);
+        String lastTimestamp = dateColumn >= 0 ? lastRow[dateColumn] : "";
+        return new HighWaterMark(rowCount, lastRowIndex, lastTimestamp, HighWaterMark.fingerprint(lastRow),
+                lastRowOffset, fileSize, lastModified, fileHeaders);
+    }
+
+    private static String[] lastRowOf(ColumnTable table) {
+        String[] values = new String[table.getColumnCount()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = table.getValue(table.getRowCount() - 1, i);
+        }
+        return values;
+    }
+
+    private void restoreState(Path source) throws IOException {
+        ColumnTable restored = TableSnapshot.read(statePath(source), stateKey());
+        HighWaterMark restoredMark = HighWaterMark.load(markPath(source));
+        if (restored != null && restoredMark != null && restored.getRowCount() == restoredMark.getRowCount()) {
+            table = restored;
+            mark = restoredMark;
+        }
+    }
+
+    private void saveState(Path source) {
+        try {
+            TableSnapshot.write(table, statePath(source), stateKey());
+            mark.store(markPath(source));
+        } catch (IOException e) {
+            System.err.println("Could not save incremental state of " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private static Path statePath(Path source) {
+        return source.resolveSibling(source.getFileName() + STATE_SUFFIX);
+    }
+
+    private static Path markPath(Path source) {
+        return source.resolveSibling(source.getFileName() + MARK_SUFFIX);
+    }
+
+    private byte[] stateKey() {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest((headerRowIndex + "|" + schema).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Skips the rows up to the high-water mark, verifies the last loaded row and collects the rows after it,
+     * restricted to the columns kept by the schema.
+     */
+    private final class TailCollector implements SheetRowHandler {
+        private final List<String[]> rows = new ArrayList<>();
+        private final ColumnProjection projection = ColumnProjection.of(mark.getHeaders(), schema);
+        private boolean verified = mark.getRowCount() == 0;
+        private boolean headersMatch = true;
+        private int lastRowIndex = mark.getLastRowIndex();
+
+        @Override
+        public void onHeaders(List<String> headers) {
+            headersMatch = headers.equals(mark.getHeaders());
+            verified &= headersMatch;
+        }
+
+        @Override
+        public boolean acceptsColumn(String header) {
+            return schema.isProjected(header);
+        }
+
+        @Override
+        public void onRow(int rowIndex, String[] fileValues) {
+            if (!headersMatch) {
+                return;
+            }
+            String[] values = projection.apply(fileValues);
+            if (rowIndex == mark.getLastRowIndex() && mark.getRowCount() > 0) {
+                int dateColumn = table.columnIndexOf(FilterConstants.DATE_COLUMN_EXCEL);
+                String timestamp = dateColumn >= 0 ? values[dateColumn] : "";
+                verified = timestamp.equals(mark.getLastTimestamp())
+                        && HighWaterMark.fingerprint(values) == mark.getFingerprint();
+            } else if (rowIndex > mark.getLastRowIndex() && verified) {
+                rows.add(values);
+                lastRowIndex = rowIndex;
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class MultiFileReader {
+
+    /**
+     * Class MultiFileReader
+     *
+     * This class loads several report files, e.g. one Amazon transaction report per month, and merges them
+     * into a single {@link ColumnTable}.
+     *
+     * Method readTables:
+     * 1. Parses all files concurrently on a fixed thread pool of at most `parallelism` threads.
+     * 2. Checks that every file has the same column headers as the first one.
+     * 3. Merges the tables in the order of `filePaths` and adds the column `FilterConstants.COLUMN_QUELLDATEI`,
+     *    holding the name of the file each row comes from.
+     *
+     * Method readDirectory:
+     * - Reads all report files (`.xlsx`, `.csv`, `.tsv`, `.txt`) of a directory, ordered by file name.
+     *
+     * Key Features:
+     * - Loading a year of monthly files takes roughly as long as the largest file, not the sum of all files.
+     * - Excel files are read through {@link TableSnapshotCache}, so unchanged months are loaded from their snapshot.
+     * - `.csv` files are read comma-separated, `.tsv`/`.txt` files tab-separated via {@link DelimitedFileReader}.
+     * - Already parsed values (dictionary codes, numbers, timestamps) are copied when merging, not parsed again.
+     * - Throws an `IllegalArgumentException` if the headers of the files do not match or no file is given.
+     *
+     * Parameters:
+     * @param filePaths      The report files to merge, in the order their rows should appear.
+     * @param headerRowIndex The index of the row containing column headers (0-based), the same for all files.
+     * @param schema         The schema used to build the table.
+     * @param parallelism    The maximum number of files parsed at the same time.
+     */
+
+    public static ColumnTable readTables(List<String> filePaths, int headerRowIndex, TableSchema schema) throws IOException {
+        return readTables(filePaths, headerRowIndex, schema, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static ColumnTable readTables(List<String> filePaths, int headerRowIndex, TableSchema schema, int parallelism) throws IOException {
+        if (filePaths.isEmpty()) {
+            throw new IllegalArgumentException("No report files to read.");
+        }
+
+        List<ColumnTable> tables = readConcurrently(filePaths, headerRowIndex, schema, parallelism);
+
+        List<String> headers = tables.get(0).getHeaders();
+        for (int i = 1; i < tables.size(); i++) {
+            if (!tables.get(i).getHeaders().equals(headers)) {
+                throw new IllegalArgumentException("Headers of " + filePaths.get(i) + " do not match "
+                        + filePaths.get(0) + ": " + tables.get(i).getHeaders() + " vs. " + headers);
+            }
+        }
+
+        List<String> mergedHeaders = new ArrayList<>(headers);
+        mergedHeaders.add(FilterConstants.COLUMN_QUELLDATEI);
+        ColumnTable.Builder builder = ColumnTable.builder(mergedHeaders,
+                schema.with(FilterConstants.COLUMN_QUELLDATEI, TableSchema.ColumnType.DICTIONARY));
+        for (int i = 0; i < tables.size(); i++) {
+            builder.appendTable(tables.get(i), Path.of(filePaths.get(i)).getFileName().toString());
+        }
+        return builder.build();
+    }
+
+    public static ColumnTable readDirectory(String directory, int headerRowIndex, TableSchema schema) throws IOException {
+        Path dir = Path.of(directory);
+        if (!Files.isDirectory(dir)) {
+            throw new FileNotFoundException(directory + " (No such directory)");
+        }
+
+        List<String> filePaths;
+        try (Stream<Path> files = Files.list(dir)) {
+            filePaths = files
+                    .filter(Files::isRegularFile)
+                    .filter(MultiFileReader::isReportFile)
+                    .sorted()
+                    .map(Path::toString)
+                    .collect(Collectors.toList());
+        }
+
+        if (filePaths.isEmpty()) {
+            throw new IllegalArgumentException("No report files found in: " + directory);
+        }
+        return readTables(filePaths, headerRowIndex, schema);
+    }
+
+    /**
+     * Reads a single report file: CSV/TSV files with {@link DelimitedFileReader}, Excel files through
+     * {@link TableSnapshotCache}, which reuses the snapshot of an unchanged file.
+     */
+    public static ColumnTable readFile(String filePath, int headerRowIndex, TableSchema schema) throws IOException {
+        if (DelimitedFileReader.isDelimitedFile(filePath)) {
+            return DelimitedFileReader.readTable(filePath, headerRowIndex, DelimitedFileReader.delimiterFor(filePath), schema);
+        }
+        return TableSnapshotCache.readTable(filePath, headerRowIndex, schema);
+    }
+
+    private static boolean isReportFile(Path file) {
+        String name = file.getFileName().toString();
+        return !name.startsWith("~$")
+                && (name.toLowerCase(Locale.ROOT).endsWith(".xlsx") || DelimitedFileReader.isDelimitedFile(name));
+    }
+
+    private static List<ColumnTable> readConcurrently(List<String> filePaths, int headerRowIndex, TableSchema schema,
+                                                      int parallelism) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, filePaths.size())));
+        try {
+            List<Future<ColumnTable>> futures = new ArrayList<>();
+            for (String filePath : filePaths) {
+                futures.add(executor.submit(() -> readFile(filePath, headerRowIndex, schema)));
+            }
+
+            List<ColumnTable> tables = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                tables.add(await(futures.get(i), filePaths.get(i)));
+            }
+            return tables;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ColumnTable await(Future<ColumnTable> future, String filePath) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + filePath, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Error reading " + filePath + ": " + cause.getMessage(), cause);
+        }
+    }
+}
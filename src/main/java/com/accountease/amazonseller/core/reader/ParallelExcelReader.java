@@ -0,0 +1,460 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ParallelExcelReader {
+
+    private static final int BATCH_ROWS = 2048;
+    private static final Future<Runnable> END_OF_SHEET = CompletableFuture.completedFuture(() -> { });
+
+    /**
+     * Class ParallelExcelReader
+     *
+     * This class reads the first sheet of an `.xlsx` file like {@link StreamingExcelReader}, but splits the work
+     * into a pipeline, so that converting cells no longer runs on the thread that parses the XML.
+     *
+     * Pipeline:
+     * 1. A tokenizer thread parses the sheet XML and collects the raw cells (type, style, text) of
+     *    {@value #BATCH_ROWS} rows at a time into a batch. Nothing is rendered on this thread.
+     * 2. A pool of `threads` workers converts the batches in parallel: shared string lookups, number and date
+     *    rendering, trimming, and, for {@link #readTable}, parsing the values into the typed columns of the schema.
+     *    Each batch is written into preallocated row slots (one array per row, aligned with the headers).
+     * 3. The calling thread takes the converted batches in sheet order and passes them on, so rows arrive
+     *    in exactly the same order as with the single-threaded reader.
+     *
+     * Method readExcel:
+     * - Passes the headers and every data row to the given {@link SheetRowHandler}. Both callbacks run on the
+     *   calling thread; {@link SheetRowHandler#acceptsColumn(String)} is asked on the tokenizer thread.
+     *
+     * Method readTable:
+     * - Reads the sheet into a {@link ColumnTable}. Every worker builds a small table per batch, and the batches
+     *   are merged with {@link ColumnTable.Builder#appendTable(ColumnTable, String)}, so numbers and dates are
+     *   parsed in parallel as well.
+     *
+     * Key Features:
+     * - Rows, headers and cell values are identical to those of {@link StreamingExcelReader}; numeric cells are
+     *   parsed on the tokenizer thread straight from the XML text, without creating a `String`.
+     * - At most two batches per worker are in flight, so memory use does not depend on the size of the sheet.
+     * - Errors of any stage (e.g. a missing header row) are thrown on the calling thread, as by the other readers.
+     * - With `threads` of 1 or less, the sheet is read by {@link StreamingExcelReader} on the calling thread.
+     *
+     * Parameters:
+     * @param filePath       The path to the Excel file.
+     * @param headerRowIndex The index of the row containing column headers (0-based).
+     * @param threads        The number of worker threads converting cells.
+     */
+
+    public static void readExcel(String filePath, int headerRowIndex, int threads, SheetRowHandler handler) throws IOException {
+        if (threads <= 1) {
+            StreamingExcelReader.readExcel(filePath, headerRowIndex, handler);
+            return;
+        }
+        run(filePath, headerRowIndex, threads, new RowDelivery(handler));
+    }
+
+    public static ColumnTable readTable(String filePath, int headerRowIndex, TableSchema schema, int threads) throws IOException {
+        if (threads <= 1) {
+            return ExcelReader.readTable(filePath, headerRowIndex, schema);
+        }
+        TableDelivery delivery = new TableDelivery(schema);
+        run(filePath, headerRowIndex, threads, delivery);
+        return delivery.builder.build();
+    }
+
+    private static void run(String filePath, int headerRowIndex, int threads, Delivery delivery) throws IOException {
+        if (!new File(filePath).isFile()) {
+            throw new FileNotFoundException(filePath + " (No such file)");
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "xlsx-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Thread tokenizer = null;
+
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            CellConverter converter = new CellConverter(StreamingExcelReader.sharedStrings(pkg), reader.getStylesTable());
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+            }
+            InputStream sheet = sheets.next(); // First sheet
+
+            BlockingQueue<Future<Runnable>> queue = new ArrayBlockingQueue<>(threads * 2);
+            BatchCollector collector = new BatchCollector(headerRowIndex, converter, delivery, workers, queue);
+            tokenizer = new Thread(() -> collector.tokenize(sheet), "xlsx-tokenizer");
+            tokenizer.setDaemon(true);
+            tokenizer.start();
+
+            for (Future<Runnable> next = queue.take(); next != END_OF_SHEET; next = queue.take()) {
+                next.get().run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + filePath, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Error parsing Excel file: " + cause.getMessage(), cause);
+        } catch (OpenXML4JException | SAXException e) {
+            throw new IOException("Error parsing Excel file: " + e.getMessage(), e);
+        } finally {
+            workers.shutdownNow();
+            if (tokenizer != null) {
+                tokenizer.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Decides what the workers produce from a batch and how the result is passed on.
+     * The returned actions run on the calling thread, in sheet order.
+     */
+    private interface Delivery {
+        boolean acceptsColumn(String header);
+
+        boolean acceptsNumbers(String header);
+
+        Runnable onHeaders(List<String> headers);
+
+        Runnable convert(RowBatch batch, CellConverter converter);
+    }
+
+    private static final class RowDelivery implements Delivery {
+        private final SheetRowHandler handler;
+
+        RowDelivery(SheetRowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public boolean acceptsColumn(String header) {
+            return handler.acceptsColumn(header);
+        }
+
+        @Override
+        public boolean acceptsNumbers(String header) {
+            return handler.acceptsNumbers(header);
+        }
+
+        @Override
+        public Runnable onHeaders(List<String> headers) {
+            return () -> handler.onHeaders(headers);
+        }
+
+        @Override
+        public Runnable convert(RowBatch batch, CellConverter converter) {
+            batch.convert(converter);
+            return () -> {
+                for (int i = 0; i < batch.rowCount; i++) {
+                    if (batch.numbers != null) {
+                        handler.onRow(batch.rowIndexes[i], batch.values[i], batch.numbers[i]);
+                    } else {
+                        handler.onRow(batch.rowIndexes[i], batch.values[i]);
+                    }
+                }
+            };
+        }
+    }
+
+    private static final class TableDelivery implements Delivery {
+        private final TableSchema schema;
+        private ColumnProjection projection;
+        private ColumnTable.Builder builder;
+
+        TableDelivery(TableSchema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public boolean acceptsColumn(String header) {
+            return schema.isProjected(header);
+        }
+
+        @Override
+        public boolean acceptsNumbers(String header) {
+            return schema.typeOf(header) == TableSchema.ColumnType.NUMERIC;
+        }
+
+        @Override
+        public Runnable onHeaders(List<String> headers) {
+            // Set on the tokenizer thread before the first batch is submitted, so the workers see it
+            projection = ColumnProjection.of(headers, schema);
+            ColumnProjection current = projection;
+            return () -> builder = ColumnTable.builder(current.headers(), schema);
+        }
+
+        @Override
+        public Runnable convert(RowBatch batch, CellConverter converter) {
+            ColumnTable.Builder part = ColumnTable.builder(projection.headers(), schema);
+            batch.convert(converter);
+            for (int i = 0; i < batch.rowCount; i++) {
+                if (batch.numbers != null) {
+                    part.appendRow(projection.apply(batch.values[i]), projection.apply(batch.numbers[i]));
+                } else {
+                    part.appendRow(projection.apply(batch.values[i]));
+                }
+            }
+            ColumnTable table = part.buildPart();
+            return () -> builder.appendTable(table, "");
+        }
+    }
+
+    /**
+     * Receives the raw cells from the SAX handler on the tokenizer thread, handles the header row,
+     * and submits a batch to the workers every {@value #BATCH_ROWS} rows.
+     */
+    private static final class BatchCollector implements SheetXmlHandler.RawCellListener {
+        private final int headerRowIndex;
+        private final CellConverter converter;
+        private final Delivery delivery;
+        private final ExecutorService workers;
+        private final BlockingQueue<Future<Runnable>> queue;
+        private final List<String> headers = new ArrayList<>();
+        private boolean headerFound;
+        private boolean[] acceptedColumns;
+        private boolean[] numericColumns;
+        private boolean anyNumericColumn;
+        private RowBatch batch;
+
+        BatchCollector(int headerRowIndex, CellConverter converter, Delivery delivery,
+                       ExecutorService workers, BlockingQueue<Future<Runnable>> queue) {
+            this.headerRowIndex = headerRowIndex;
+            this.converter = converter;
+            this.delivery = delivery;
+            this.workers = workers;
+            this.queue = queue;
+        }
+
+        void tokenize(InputStream sheet) {
+            try (sheet) {
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new SheetXmlHandler(this));
+                xmlReader.parse(new InputSource(sheet));
+
+                if (!headerFound) {
+                    throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+                }
+                submit();
+                queue.put(END_OF_SHEET);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                fail(e instanceof SAXException || e instanceof ParserConfigurationException
+                        ? new IOException("Error parsing Excel file: " + e.getMessage(), e) : e);
+            }
+        }
+
+        private void fail(Throwable error) {
+            CompletableFuture<Runnable> failed = new CompletableFuture<>();
+            failed.completeExceptionally(error);
+            try {
+                queue.put(failed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void submit() throws InterruptedException {
+            if (batch != null && batch.rowCount > 0) {
+                RowBatch full = batch;
+                queue.put(workers.submit(() -> delivery.convert(full, converter)));
+            }
+            batch = new RowBatch(headers.size(), anyNumericColumn, batch != null ? batch.cellCount : 0);
+        }
+
+        @Override
+        public void startRow(int rowIndex) {
+            if (rowIndex > headerRowIndex && !headerFound) {
+                throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+            }
+            if (rowIndex > headerRowIndex) {
+                batch.startRow(rowIndex);
+            }
+        }
+
+        @Override
+        public boolean acceptsCell(int rowIndex, int columnIndex) {
+            if (rowIndex > headerRowIndex) {
+                return columnIndex < acceptedColumns.length && acceptedColumns[columnIndex];
+            }
+            return rowIndex == headerRowIndex;
+        }
+
+        @Override
+        public void rawCell(int rowIndex, int columnIndex, String cellType, String raw, int styleIndex, boolean hasFormula) {
+            if (rowIndex == headerRowIndex) {
+                headers.add(StreamingExcelReader.headerName(converter.kindOf(cellType, raw, hasFormula),
+                        converter.render(cellType, raw, styleIndex), columnIndex));
+            } else if (raw != null) {
+                batch.addCell(columnIndex, cellType, raw, styleIndex);
+            }
+        }
+
+        @Override
+        public boolean acceptsNumber(int rowIndex, int columnIndex, int styleIndex) {
+            return rowIndex > headerRowIndex && columnIndex < numericColumns.length && numericColumns[columnIndex]
+                    && !converter.isDateStyle(styleIndex);
+        }
+
+        @Override
+        public void number(int rowIndex, int columnIndex, double value) {
+            batch.addNumber(columnIndex, value);
+        }
+
+        @Override
+        public void endRow(int rowIndex) {
+            try {
+                if (rowIndex == headerRowIndex) {
+                    headerFound = true;
+                    List<String> columns = Collections.unmodifiableList(headers);
+                    acceptedColumns = new boolean[columns.size()];
+                    numericColumns = new boolean[columns.size()];
+                    for (int i = 0; i < acceptedColumns.length; i++) {
+                        acceptedColumns[i] = delivery.acceptsColumn(columns.get(i));
+                        numericColumns[i] = acceptedColumns[i] && delivery.acceptsNumbers(columns.get(i));
+                        anyNumericColumn |= numericColumns[i];
+                    }
+                    queue.put(CompletableFuture.completedFuture(delivery.onHeaders(columns)));
+                    submit();
+                } else if (rowIndex > headerRowIndex && batch.rowCount == BATCH_ROWS) {
+                    submit();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading the sheet", e);
+            }
+        }
+    }
+
+    /**
+     * The raw cells of up to {@value #BATCH_ROWS} consecutive data rows, stored in parallel arrays.
+     * Numeric cells taken as numbers have no raw text; their parsed value is kept instead.
+     */
+    private static final class RowBatch {
+        private final int columnCount;
+        private final boolean withNumbers;
+        private final int[] rowIndexes = new int[BATCH_ROWS];
+        private final int[] rowEnds = new int[BATCH_ROWS];
+        private int rowCount;
+
+        private int[] columns;
+        private String[] cellTypes;
+        private String[] raws;
+        private int[] styles;
+        private double[] parsed;
+        private int cellCount;
+
+        private String[][] values;
+        private double[][] numbers;
+
+        RowBatch(int columnCount, boolean withNumbers, int expectedCells) {
+            this.columnCount = columnCount;
+            this.withNumbers = withNumbers;
+            int capacity = Math.max(expectedCells, 64);
+            this.columns = new int[capacity];
+            this.cellTypes = new String[capacity];
+            this.raws = new String[capacity];
+            this.styles = new int[capacity];
+            this.parsed = withNumbers ? new double[capacity] : null;
+        }
+
+        void startRow(int rowIndex) {
+            rowIndexes[rowCount] = rowIndex;
+            rowEnds[rowCount] = cellCount;
+            rowCount++;
+        }
+
+        void addCell(int columnIndex, String cellType, String raw, int styleIndex) {
+            ensureCapacity();
+            columns[cellCount] = columnIndex;
+            cellTypes[cellCount] = cellType;
+            raws[cellCount] = raw;
+            styles[cellCount] = styleIndex;
+            cellCount++;
+            rowEnds[rowCount - 1] = cellCount;
+        }
+
+        void addNumber(int columnIndex, double value) {
+            ensureCapacity();
+            columns[cellCount] = columnIndex;
+            parsed[cellCount] = value;
+            cellCount++;
+            rowEnds[rowCount - 1] = cellCount;
+        }
+
+        private void ensureCapacity() {
+            if (cellCount == raws.length) {
+                columns = Arrays.copyOf(columns, cellCount * 2);
+                cellTypes = Arrays.copyOf(cellTypes, cellCount * 2);
+                raws = Arrays.copyOf(raws, cellCount * 2);
+                styles = Arrays.copyOf(styles, cellCount * 2);
+                if (parsed != null) {
+                    parsed = Arrays.copyOf(parsed, cellCount * 2);
+                }
+            }
+        }
+
+        /**
+         * Renders the cells into one preallocated array per row; missing cells stay empty strings.
+         * Numbers are stored in a second array per row, with `null` as their value.
+         */
+        void convert(CellConverter converter) {
+            values = new String[rowCount][];
+            numbers = withNumbers ? new double[rowCount][] : null;
+            int cell = 0;
+            for (int row = 0; row < rowCount; row++) {
+                String[] rowValues = new String[columnCount];
+                Arrays.fill(rowValues, "");
+                double[] rowNumbers = withNumbers ? new double[columnCount] : null;
+                for (; cell < rowEnds[row]; cell++) {
+                    if (raws[cell] != null) {
+                        rowValues[columns[cell]] = converter.render(cellTypes[cell], raws[cell], styles[cell]);
+                    } else {
+                        rowValues[columns[cell]] = null;
+                        rowNumbers[columns[cell]] = parsed[cell];
+                    }
+                }
+                values[row] = rowValues;
+                if (withNumbers) {
+                    numbers[row] = rowNumbers;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.accountease.amazonseller.core.reader;
+
+import java.util.List;
+
+/**
+ * Interface SheetRowHandler
+ *
+ * Receives the rows of a sheet while it is being parsed by {@link StreamingExcelReader}
+ * or {@link DelimitedFileReader}.
+ *
+ * Call Order:
+ * 1. `onHeaders` is called exactly once, when the row at `headerRowIndex` has been parsed.
+ * 2. `onRow` is called for every data row after the header row, in sheet order.
+ *
+ * Row Values:
+ * - The `values` array is aligned with the header list: `values[i]` belongs to `headers.get(i)`.
+ * - Missing cells are passed as empty strings, never as `null`.
+ * - Each call receives a fresh array, so the handler may keep it.
+ *
+ * Numeric Cells:
+ * - For columns the handler accepts numbers for ({@link #acceptsNumbers(String)}), Excel readers pass numeric
+ *   cells to {@link #onRow(int, String[], double[])} as parsed values: `values[i]` is `null` and `numbers[i]`
+ *   holds the number. By default, such rows are rendered with `Double.toString` and passed to `onRow(int, String[])`.
+ *
+ * Column Projection:
+ * - Before the first data row, readers ask {@link #acceptsColumn(String)} for every header.
+ *   Cells of columns the handler does not accept are not converted at all and passed as empty strings.
+ */
+public interface SheetRowHandler {
+
+    void onHeaders(List<String> headers);
+
+    void onRow(int rowIndex, String[] values);
+
+    default boolean acceptsColumn(String header) {
+        return true;
+    }
+
+    default boolean acceptsNumbers(String header) {
+        return false;
+    }
+
+    default void onRow(int rowIndex, String[] values, double[] numbers) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                values[i] = Double.toString(numbers[i]);
+            }
+        }
+        onRow(rowIndex, values);
+    }
+}
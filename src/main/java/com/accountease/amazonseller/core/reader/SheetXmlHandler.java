@@ -0,0 +1,260 @@
+package com.accountease.amazonseller.core.reader;
+
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Class SheetXmlHandler
+ *
+ * SAX handler for the `sheetN.xml` part of an `.xlsx` file. It turns the `<row>` and `<c>` elements
+ * into cell callbacks without building any object model for the sheet.
+ *
+ * Cell Rendering:
+ * - The rendered value matches `Cell.toString().trim()` of the DOM reader (see {@link CellConverter}),
+ *   except for formula cells.
+ * - Formula cells are rendered from their cached result, whereas the DOM reader returns the formula text.
+ * - A {@link RawCellListener} receives the raw cell content instead, so rendering can be done
+ *   later or on another thread.
+ *
+ * Numeric Cells:
+ * - For columns the listener accepts numbers for, the value of a numeric cell is parsed straight from the
+ *   XML text ({@link CellConverter#parseNumber(CharSequence)}), without creating, formatting or trimming a `String`.
+ *
+ * Skipped Cells:
+ * - Cells rejected by {@link RawCellListener#acceptsCell(int, int)} are not buffered or rendered,
+ *   so unused columns cost no shared string lookups or number formatting.
+ *
+ * Row and Column Indexes:
+ * - Both are 0-based. They are taken from the `r` attributes, or continue from the previous
+ *   row/cell when the attribute is missing.
+ */
+class SheetXmlHandler extends DefaultHandler {
+
+    /**
+     * The kind of a parsed cell, mirroring the `CellType` the DOM reader would report.
+     */
+    enum CellKind { STRING, NUMERIC, BOOLEAN, ERROR, FORMULA, BLANK }
+
+    /**
+     * Receives the parsed cells of the sheet, row by row.
+     */
+    interface CellListener {
+        void startRow(int rowIndex);
+
+        void cell(int rowIndex, int columnIndex, CellKind kind, String value);
+
+        /**
+         * Returns `false` for cells the listener ignores; they are neither rendered nor passed to {@link #cell}.
+         */
+        default boolean acceptsCell(int rowIndex, int columnIndex) {
+            return true;
+        }
+
+        /**
+         * Returns `true` if numeric cells of the column should be passed to {@link #number} as parsed values
+         * instead of being rendered. Cells formatted as dates are always rendered.
+         */
+        default boolean acceptsNumber(int rowIndex, int columnIndex) {
+            return false;
+        }
+
+        default void number(int rowIndex, int columnIndex, double value) {
+            throw new UnsupportedOperationException("Numeric cells are not accepted");
+        }
+
+        void endRow(int rowIndex);
+    }
+
+    /**
+     * Receives the parsed cells of the sheet without rendering them. `raw` is the text of the
+     * `<v>` or `<t>` element, or `null` if the cell has no value; `cellType` is its `t` attribute.
+     */
+    interface RawCellListener {
+        void startRow(int rowIndex);
+
+        boolean acceptsCell(int rowIndex, int columnIndex);
+
+        void rawCell(int rowIndex, int columnIndex, String cellType, String raw, int styleIndex, boolean hasFormula);
+
+        /**
+         * Returns `true` if a numeric cell with the given style should be parsed right away and passed
+         * to {@link #number} instead of {@link #rawCell}.
+         */
+        default boolean acceptsNumber(int rowIndex, int columnIndex, int styleIndex) {
+            return false;
+        }
+
+        default void number(int rowIndex, int columnIndex, double value) {
+            throw new UnsupportedOperationException("Numeric cells are not accepted");
+        }
+
+        void endRow(int rowIndex);
+    }
+
+    private final RawCellListener listener;
+    private final StringBuilder text = new StringBuilder();
+
+    private int rowIndex = -1;
+    private int columnIndex = -1;
+    private String cellType;
+    private int styleIndex;
+    private boolean hasFormula;
+    private boolean inValue;
+    private boolean inInlineText;
+    private boolean inPhonetic;
+    private boolean hasValue;
+    private boolean skipCell;
+
+    SheetXmlHandler(SharedStrings sharedStrings, StylesTable styles, CellListener listener) {
+        this(new RenderingListener(new CellConverter(sharedStrings, styles), listener));
+    }
+
+    SheetXmlHandler(RawCellListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName(localName, qName)) {
+            case "row":
+                String rowRef = attributes.getValue("r");
+                rowIndex = rowRef != null ? Integer.parseInt(rowRef) - 1 : rowIndex + 1;
+                columnIndex = -1;
+                listener.startRow(rowIndex);
+                break;
+            case "c":
+                String cellRef = attributes.getValue("r");
+                columnIndex = cellRef != null ? columnIndexOf(cellRef) : columnIndex + 1;
+                skipCell = !listener.acceptsCell(rowIndex, columnIndex);
+                cellType = attributes.getValue("t");
+                String style = attributes.getValue("s");
+                styleIndex = style != null ? Integer.parseInt(style) : 0;
+                hasFormula = false;
+                hasValue = false;
+                text.setLength(0);
+                break;
+            case "f":
+                hasFormula = true;
+                break;
+            case "v":
+                inValue = true;
+                hasValue = true;
+                break;
+            case "rPh":
+                inPhonetic = true;
+                break;
+            case "t":
+                if (!inPhonetic) {
+                    inInlineText = true;
+                    hasValue = true;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName(localName, qName)) {
+            case "row":
+                listener.endRow(rowIndex);
+                break;
+            case "c":
+                if (!skipCell) {
+                    if (hasValue && (cellType == null || "n".equals(cellType))
+                            && listener.acceptsNumber(rowIndex, columnIndex, styleIndex)) {
+                        listener.number(rowIndex, columnIndex, CellConverter.parseNumber(text));
+                    } else {
+                        emitCell();
+                    }
+                }
+                skipCell = false;
+                break;
+            case "v":
+                inValue = false;
+                break;
+            case "rPh":
+                inPhonetic = false;
+                break;
+            case "t":
+                inInlineText = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if ((inValue || inInlineText) && !skipCell) {
+            text.append(ch, start, length);
+        }
+    }
+
+    private void emitCell() {
+        listener.rawCell(rowIndex, columnIndex, cellType, hasValue ? text.toString() : null, styleIndex, hasFormula);
+    }
+
+    static int columnIndexOf(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char c = cellRef.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static String localName(String localName, String qName) {
+        return localName != null && !localName.isEmpty() ? localName : qName;
+    }
+
+    /**
+     * Renders every raw cell right away and passes it on to a {@link CellListener}.
+     */
+    private static final class RenderingListener implements RawCellListener {
+        private final CellConverter converter;
+        private final CellListener listener;
+
+        RenderingListener(CellConverter converter, CellListener listener) {
+            this.converter = converter;
+            this.listener = listener;
+        }
+
+        @Override
+        public void startRow(int rowIndex) {
+            listener.startRow(rowIndex);
+        }
+
+        @Override
+        public boolean acceptsCell(int rowIndex, int columnIndex) {
+            return listener.acceptsCell(rowIndex, columnIndex);
+        }
+
+        @Override
+        public void rawCell(int rowIndex, int columnIndex, String cellType, String raw, int styleIndex, boolean hasFormula) {
+            listener.cell(rowIndex, columnIndex, converter.kindOf(cellType, raw, hasFormula),
+                    converter.render(cellType, raw, styleIndex));
+        }
+
+        @Override
+        public boolean acceptsNumber(int rowIndex, int columnIndex, int styleIndex) {
+            return !converter.isDateStyle(styleIndex) && listener.acceptsNumber(rowIndex, columnIndex);
+        }
+
+        @Override
+        public void number(int rowIndex, int columnIndex, double value) {
+            listener.number(rowIndex, columnIndex, value);
+        }
+
+        @Override
+        public void endRow(int rowIndex) {
+            listener.endRow(rowIndex);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Consumer;
+
+public class StreamingExcelReader {
+
+    /**
+     * Class StreamingExcelReader
+     *
+     * This class reads the first sheet of an `.xlsx` file with the event model of Apache POI
+     * (`XSSFReader` and a SAX content handler) and hands every row to the caller as soon as it is parsed.
+     * Unlike {@link ExcelReader#readExcel(String, int)}, no `XSSFWorkbook` is built, so the memory used
+     * for reading stays roughly constant no matter how many rows the sheet has.
+     *
+     * Method readExcel:
+     * 1. Opens the file as a package and streams the XML of its first sheet.
+     * 2. Extracts the column headers from the row specified by `headerRowIndex`.
+     * 3. Passes every following row to the given {@link SheetRowHandler}, aligned with the headers.
+     *
+     * Method streamExcel:
+     * - Convenience variant that converts each row into a map of column headers to cell values,
+     *   as {@link ExcelReader#readExcel(String, int)} would, and passes it to a consumer.
+     *
+     * Key Features:
+     * - Handles empty cells by passing them as empty strings.
+     * - Skips rows that do not exist in the sheet.
+     * - Throws an `IllegalArgumentException` if the header row is missing or `headerRowIndex` is incorrect.
+     * - Cell values are rendered the same way as `Cell.toString().trim()` in the DOM reader, except for formula
+     *   cells: they give their cached result, while the DOM reader gives the formula text.
+     * - Numeric cells of columns the handler accepts numbers for are parsed straight from the XML and passed
+     *   as `double` values ({@link SheetRowHandler#onRow(int, String[], double[])}).
+     * - With `FilterConstants.COMPACT_SHARED_STRINGS`, the shared strings table is kept as UTF-8 bytes
+     *   ({@link CompactSharedStrings}) and only the strings of accepted cells are decoded.
+     *
+     * Parameters:
+     * @param filePath       The path to the Excel file.
+     * @param headerRowIndex The index of the row containing column headers (0-based).
+     *
+     * Significance:
+     * - Makes it possible to process yearly transaction exports that do not fit into the heap as a workbook.
+     */
+
+    public static void readExcel(String filePath, int headerRowIndex, SheetRowHandler handler) throws IOException {
+        if (!new File(filePath).isFile()) {
+            throw new FileNotFoundException(filePath + " (No such file)");
+        }
+
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            SharedStrings sharedStrings = sharedStrings(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+            }
+
+            RowAssembler assembler = new RowAssembler(headerRowIndex, handler);
+            try (InputStream sheet = sheets.next()) { // First sheet
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new SheetXmlHandler(sharedStrings, styles, assembler));
+                xmlReader.parse(new InputSource(sheet));
+            }
+
+            if (!assembler.headerFound) {
+                throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Error parsing Excel file: " + e.getMessage(), e);
+        }
+    }
+
+    public static void streamExcel(String filePath, int headerRowIndex, Consumer<Map<String, String>> rowConsumer) throws IOException {
+        readExcel(filePath, headerRowIndex, new SheetRowHandler() {
+            private List<String> headers;
+
+            @Override
+            public void onHeaders(List<String> headers) {
+                this.headers = headers;
+            }
+
+            @Override
+            public void onRow(int rowIndex, String[] values) {
+                Map<String, String> rowData = new HashMap<>();
+                for (int colNum = 0; colNum < headers.size(); colNum++) {
+                    rowData.put(headers.get(colNum), values[colNum]);
+                }
+                rowConsumer.accept(rowData);
+            }
+        });
+    }
+
+    /**
+     * Loads the shared strings table of the package, as {@link CompactSharedStrings} if
+     * `FilterConstants.COMPACT_SHARED_STRINGS` is set, otherwise with POI's `ReadOnlySharedStringsTable`.
+     */
+    static SharedStrings sharedStrings(OPCPackage pkg) throws IOException, SAXException {
+        if (FilterConstants.COMPACT_SHARED_STRINGS) {
+            return CompactSharedStrings.load(pkg);
+        }
+        return new ReadOnlySharedStringsTable(pkg);
+    }
+
+    /**
+     * Returns the column header for a cell of the header row, like the DOM reader: text as is,
+     * numbers as integers, and an `IllegalArgumentException` for any other kind of cell.
+     */
+    static String headerName(SheetXmlHandler.CellKind kind, String value, int columnIndex) {
+        switch (kind) {
+            case STRING:
+                return value;
+            case NUMERIC:
+                return String.valueOf((int) Double.parseDouble(value)); // Convert to string
+            default:
+                throw new IllegalArgumentException("Unsupported cell type in header at column: "
+                        + columnIndex + ". Please check the Excel file structure.");
+        }
+    }
+
+    /**
+     * Collects the cells of each parsed row and turns them into header and data rows.
+     */
+    private static class RowAssembler implements SheetXmlHandler.CellListener {
+        private final int headerRowIndex;
+        private final SheetRowHandler handler;
+        private final List<String> headers = new ArrayList<>();
+        private boolean headerFound;
+        private boolean[] acceptedColumns;
+        private boolean[] numericColumns;
+        private boolean anyNumericColumn;
+        private String[] values;
+        private double[] numbers;
+
+        RowAssembler(int headerRowIndex, SheetRowHandler handler) {
+            this.headerRowIndex = headerRowIndex;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowIndex) {
+            if (rowIndex > headerRowIndex && !headerFound) {
+                throw new IllegalArgumentException("Header row not found at index: " + headerRowIndex);
+            }
+            if (rowIndex > headerRowIndex) {
+                values = new String[headers.size()];
+                Arrays.fill(values, "");
+                numbers = anyNumericColumn ? new double[headers.size()] : null;
+            }
+        }
+
+        @Override
+        public void cell(int rowIndex, int columnIndex, SheetXmlHandler.CellKind kind, String value) {
+            if (rowIndex == headerRowIndex) {
+                headers.add(headerName(kind, value, columnIndex));
+            } else if (rowIndex > headerRowIndex && columnIndex < values.length) {
+                values[columnIndex] = value;
+            }
+        }
+
+        @Override
+        public boolean acceptsCell(int rowIndex, int columnIndex) {
+            if (rowIndex > headerRowIndex) {
+                return columnIndex < acceptedColumns.length && acceptedColumns[columnIndex];
+            }
+            return rowIndex == headerRowIndex;
+        }
+
+        @Override
+        public boolean acceptsNumber(int rowIndex, int columnIndex) {
+            return rowIndex > headerRowIndex && columnIndex < numericColumns.length && numericColumns[columnIndex];
+        }
+
+        @Override
+        public void number(int rowIndex, int columnIndex, double value) {
+            values[columnIndex] = null;
+            numbers[columnIndex] = value;
+        }
+
+        @Override
+        public void endRow(int rowIndex) {
+            if (rowIndex == headerRowIndex) {
+                headerFound = true;
+                handler.onHeaders(Collections.unmodifiableList(headers));
+                acceptedColumns = new boolean[headers.size()];
+                numericColumns = new boolean[headers.size()];
+                for (int i = 0; i < acceptedColumns.length; i++) {
+                    acceptedColumns[i] = handler.acceptsColumn(headers.get(i));
+                    numericColumns[i] = acceptedColumns[i] && handler.acceptsNumbers(headers.get(i));
+                    anyNumericColumn |= numericColumns[i];
+                }
+            } else if (rowIndex > headerRowIndex) {
+                if (numbers != null) {
+                    handler.onRow(rowIndex, values, numbers);
+                } else {
+                    handler.onRow(rowIndex, values);
+                }
+                values = null;
+                numbers = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+
+import java.util.List;
+
+/**
+ * A {@link SheetRowHandler} that appends every row it receives to a {@link ColumnTable}.
+ * Columns outside the projection of the schema are not accepted and left out of the table.
+ * Numeric cells of `NUMERIC` columns are accepted as numbers and stored without a `String`.
+ */
+class TableRowHandler implements SheetRowHandler {
+    private final TableSchema schema;
+    private ColumnProjection projection;
+    private ColumnTable.Builder builder;
+
+    TableRowHandler(TableSchema schema) {
+        this.schema = schema;
+    }
+
+    @Override
+    public void onHeaders(List<String> headers) {
+        projection = ColumnProjection.of(headers, schema);
+        builder = ColumnTable.builder(projection.headers(), schema);
+    }
+
+    @Override
+    public void onRow(int rowIndex, String[] values) {
+        builder.appendRow(projection.apply(values));
+    }
+
+    @Override
+    public void onRow(int rowIndex, String[] values, double[] numbers) {
+        builder.appendRow(projection.apply(values), projection.apply(numbers));
+    }
+
+    @Override
+    public boolean acceptsColumn(String header) {
+        return schema.isProjected(header);
+    }
+
+    @Override
+    public boolean acceptsNumbers(String header) {
+        return schema.isProjected(header) && schema.typeOf(header) == TableSchema.ColumnType.NUMERIC;
+    }
+
+    ColumnTable getTable() {
+        return builder.build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+import com.accountease.amazonseller.core.table.TableSnapshot;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class TableSnapshotCache {
+
+    public static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    /**
+     * Class TableSnapshotCache
+     *
+     * Keeps a binary snapshot of a parsed Excel file next to the file itself, so that later runs
+     * can load the table without parsing the workbook again.
+     *
+     * Method readTable:
+     * 1. Computes the SHA-256 hash of the Excel file's content, combined with `headerRowIndex` and the schema.
+     * 2. If `<filePath>.snapshot` exists and was written for the same hash, the table is read from it
+     *    via {@link TableSnapshot#read(Path, byte[])}, without POI.
+     * 3. Otherwise, the file is parsed with {@link ParallelExcelReader#readTable(String, int, TableSchema, int)}
+     *    on `FilterConstants.PARSER_THREADS` workers, and a new snapshot is written for the next run.
+     *
+     * Key Features:
+     * - A changed, missing or unreadable snapshot falls back to a full parse.
+     * - Failing to write the snapshot (e.g. a read-only directory) is reported but does not fail the read.
+     * - Tables too large for a snapshot ({@link TableSnapshot#MAX_SIZE}) are parsed on every run; no snapshot is written for them.
+     *
+     * Parameters:
+     * @param filePath       The path to the Excel file.
+     * @param headerRowIndex The index of the row containing column headers (0-based).
+     * @param schema         The schema used to build the table.
+     */
+
+    public static ColumnTable readTable(String filePath, int headerRowIndex, TableSchema schema) throws IOException {
+        Path source = Path.of(filePath);
+        if (!Files.isRegularFile(source)) {
+            throw new FileNotFoundException(filePath + " (No such file)");
+        }
+
+        Path snapshot = snapshotPath(source);
+        byte[] key = snapshotKey(source, headerRowIndex, schema);
+
+        ColumnTable table = TableSnapshot.read(snapshot, key);
+        if (table != null) {
+            return table;
+        }
+
+        table = ParallelExcelReader.readTable(filePath, headerRowIndex, schema, FilterConstants.PARSER_THREADS);
+        try {
+            TableSnapshot.write(table, snapshot, key);
+        } catch (IOException e) {
+            System.err.println("Could not write snapshot " + snapshot + ": " + e.getMessage());
+        }
+        return table;
+    }
+
+    public static Path snapshotPath(Path source) {
+        return source.resolveSibling(source.getFileName() + SNAPSHOT_SUFFIX);
+    }
+
+    static byte[] snapshotKey(Path source, int headerRowIndex, TableSchema schema) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        digest.update((headerRowIndex + "|" + schema).getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+}
@@ -0,0 +1,412 @@
+package com.accountease.amazonseller.core.table;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * Class AggregateCube
+ *
+ * Pre-aggregated sums and counts of every {@link NumericColumn} of a table, grouped by its dictionary-encoded
+ * columns (`Typ`, `Versand`, `Beschreibung`) and the calendar day of its date column. A report that filters on
+ * these columns and a date range is answered by adding up a few cells instead of scanning the rows.
+ *
+ * Method build:
+ * - Visits every row once. Rows without a valid date are left out, as the date filter leaves them out.
+ * - Every combination of dictionary values that occurs in the table is a group; every day (in the time zone of
+ *   the date column) on which a group has rows is a cell holding, per numeric column, the sum of its values
+ *   (in row order) and the number of rows with a value.
+ * - Only the days that have rows are kept, so rows years apart cost no more than rows on consecutive days.
+ * - Returns `null` if the date column is missing or not a {@link TimestampColumn}, or if a date lies more than
+ *   five million years from 1970 (e.g. a mistyped year parsed leniently).
+ *
+ * Method sum:
+ * - Returns the total of the numeric columns over the rows matching the column filters and the date range,
+ *   with the semantics of `MultiColumnFilter` and `DateFilter`: values are compared trimmed, `!exclude` filters
+ *   reject the listed values, filters on missing columns behave like columns of empty values.
+ * - Returns `null` if the cube cannot answer the query, and the caller has to scan the rows:
+ *   - a filter on a column that is not a dimension (e.g. the `Bestellnummer` value lists),
+ *   - a numeric column stored as text,
+ *   - a range boundary that falls inside a day with rows on both sides of it.
+ *
+ * Key Features:
+ * - The cube is small (one cell per group and day with rows) and a query only touches the cells of the
+ *   requested days; month or half-year ranges are answered from the days they consist of.
+ * - Sums of a query are added cell by cell (day by day) instead of row by row, so they may differ from the
+ *   total of a row-by-row scan such as `SummationProcessor` in the last digits. This is why reports only use
+ *   the cube of a dataset switched on with `Dataset.setAggregateCube` or `FilterConstants.AGGREGATE_CUBE`, which
+ *   is off by default.
+ */
+public final class AggregateCube {
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    private final ColumnTable table;
+    private final TimestampColumn dateColumn;
+    private final List<String> dimensions;
+    private final List<String> measures;
+
+    private final int[][] groupCodes;
+    private final int[] dayStarts;
+    private final long[] dayMinMillis;
+    private final long[] dayMaxMillis;
+    private final int[] cellGroups;
+    private final double[][] sums;
+    private final int[][] counts;
+
+    private AggregateCube(ColumnTable table, TimestampColumn dateColumn, List<String> dimensions, List<String> measures,
+                          int[][] groupCodes, int[] dayStarts, long[] dayMinMillis, long[] dayMaxMillis,
+                          int[] cellGroups, double[][] sums, int[][] counts) {
+        this.table = table;
+        this.dateColumn = dateColumn;
+        this.dimensions = dimensions;
+        this.measures = measures;
+        this.groupCodes = groupCodes;
+        this.dayStarts = dayStarts;
+        this.dayMinMillis = dayMinMillis;
+        this.dayMaxMillis = dayMaxMillis;
+        this.cellGroups = cellGroups;
+        this.sums = sums;
+        this.counts = counts;
+    }
+
+    public static AggregateCube build(ColumnTable table, String dateColumnName) {
+        if (!(table.getColumn(dateColumnName) instanceof TimestampColumn)) {
+            return null;
+        }
+        TimestampColumn dateColumn = (TimestampColumn) table.getColumn(dateColumnName);
+        TimeZone timeZone = dateColumn.timeZone();
+
+        List<String> dimensions = new ArrayList<>();
+        List<DictionaryColumn> dimensionColumns = new ArrayList<>();
+        List<String> measures = new ArrayList<>();
+        List<NumericColumn> measureColumns = new ArrayList<>();
+        long radix = 1;
+        for (String header : new LinkedHashSet<>(table.getHeaders())) {
+            Column column = table.getColumn(header);
+            if (column instanceof DictionaryColumn) {
+                int dictionarySize = Math.max(1, ((DictionaryColumn) column).getDictionarySize());
+                if (radix > Long.MAX_VALUE / dictionarySize) {
+                    continue; // Too many combinations to number; filters on this column are scanned
+                }
+                radix *= dictionarySize;
+                dimensions.add(header);
+                dimensionColumns.add((DictionaryColumn) column);
+            } else if (column instanceof NumericColumn) {
+                measures.add(header);
+                measureColumns.add((NumericColumn) column);
+            }
+        }
+
+        // First pass: number the groups and the (day, group) cells
+        LongIntMap groups = new LongIntMap();
+        LongIntMap cells = new LongIntMap();
+        long[] groupKeys = new long[16];
+        int rowCount = table.getRowCount();
+        int[] rowCells = new int[rowCount];
+        long[] cellKeys = new long[16];
+
+        for (int row = 0; row < rowCount; row++) {
+            if (!dateColumn.isPresent(row)) {
+                rowCells[row] = -1;
+                continue;
+            }
+            long millis = dateColumn.getMillis(row);
+            long day = Math.floorDiv(millis + timeZone.getOffset(millis), DAY_MILLIS);
+            if (day != (int) day) {
+                return null; // Millions of years away; such dates are not numbered, so reports scan the rows
+            }
+
+            long groupKey = 0;
+            for (DictionaryColumn column : dimensionColumns) {
+                groupKey = groupKey * Math.max(1, column.getDictionarySize()) + column.getCode(row);
+            }
+            int group = groups.get(groupKey);
+            if (group < 0) {
+                group = groups.size();
+                groups.put(groupKey, group);
+                if (group == groupKeys.length) {
+                    groupKeys = Arrays.copyOf(groupKeys, group * 2);
+                }
+                groupKeys[group] = groupKey;
+            }
+
+            long cellKey = day * (1L << 32) + group;
+            int cell = cells.get(cellKey);
+            if (cell < 0) {
+                cell = cells.size();
+                cells.put(cellKey, cell);
+                if (cell == cellKeys.length) {
+                    cellKeys = Arrays.copyOf(cellKeys, cell * 2);
+                }
+                cellKeys[cell] = cellKey;
+            }
+            rowCells[row] = cell;
+        }
+
+        int[][] groupCodes = new int[groups.size()][dimensionColumns.size()];
+        for (int group = 0; group < groupCodes.length; group++) {
+            long key = groupKeys[group];
+            for (int d = dimensionColumns.size() - 1; d >= 0; d--) {
+                int size = Math.max(1, dimensionColumns.get(d).getDictionarySize());
+                groupCodes[group][d] = (int) (key % size);
+                key /= size;
+            }
+        }
+
+        // Order the cells by day, so the cells of a date range are contiguous, and number the days that have cells
+        int cellCount = cells.size();
+        Integer[] order = new Integer[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            order[cell] = cell;
+        }
+        long[] keys = cellKeys;
+        Arrays.sort(order, Comparator.comparingLong(cell -> keys[cell]));
+        int[] position = new int[cellCount];
+        int[] cellGroups = new int[cellCount];
+        int[] cellDays = new int[cellCount];
+        int[] dayStarts = new int[cellCount + 1];
+        int dayCount = 0;
+        for (int i = 0; i < cellCount; i++) {
+            position[order[i]] = i;
+            cellGroups[i] = (int) (keys[order[i]] & 0xFFFFFFFFL);
+            if (i == 0 || keys[order[i]] >> 32 != keys[order[i - 1]] >> 32) {
+                dayStarts[dayCount++] = i;
+            }
+            cellDays[i] = dayCount - 1;
+        }
+        dayStarts[dayCount] = cellCount;
+        dayStarts = Arrays.copyOf(dayStarts, dayCount + 1);
+        long[] dayMinMillis = new long[dayCount];
+        long[] dayMaxMillis = new long[dayCount];
+        Arrays.fill(dayMinMillis, Long.MAX_VALUE);
+        Arrays.fill(dayMaxMillis, Long.MIN_VALUE);
+
+        // Second pass: aggregate the measures in row order
+        double[][] sums = new double[measureColumns.size()][cellCount];
+        int[][] counts = new int[measureColumns.size()][cellCount];
+        for (int row = 0; row < rowCount; row++) {
+            if (rowCells[row] < 0) continue;
+
+            int cell = position[rowCells[row]];
+            long millis = dateColumn.getMillis(row);
+            int day = cellDays[cell];
+            dayMinMillis[day] = Math.min(dayMinMillis[day], millis);
+            dayMaxMillis[day] = Math.max(dayMaxMillis[day], millis);
+
+            for (int m = 0; m < measureColumns.size(); m++) {
+                NumericColumn column = measureColumns.get(m);
+                if (column.isPresent(row)) {
+                    sums[m][cell] += column.getDouble(row);
+                    counts[m][cell]++;
+                }
+            }
+        }
+
+        return new AggregateCube(table, dateColumn, List.copyOf(dimensions), List.copyOf(measures), groupCodes,
+                dayStarts, dayMinMillis, dayMaxMillis, cellGroups, sums, counts);
+    }
+
+    public List<String> getDimensions() {
+        return dimensions;
+    }
+
+    public List<String> getMeasures() {
+        return measures;
+    }
+
+    public int getCellCount() {
+        return cellGroups.length;
+    }
+
+    /**
+     * Returns the number of days on which the table has rows with a valid date.
+     */
+    public int getDayCount() {
+        return dayMinMillis.length;
+    }
+
+    /**
+     * Returns `true` if the dates of the cube were parsed as the given format parses them, so ranges parsed
+     * with it can be answered.
+     */
+    public boolean isParsedWith(SimpleDateFormat format) {
+        return dateColumn.isParsedWith(format);
+    }
+
+    /**
+     * Returns the total of the numeric columns over the rows matching the filters whose date lies within
+     * `[startMillis, endMillis]`, or `null` if the cube cannot answer the query.
+     */
+    public Double sum(Map<String, List<String>> columnFilters, List<String> numericColumns, long startMillis, long endMillis) {
+        boolean[] acceptedGroups = acceptedGroups(columnFilters);
+        if (acceptedGroups == null) {
+            return null;
+        }
+
+        int[] measureIndexes = new int[numericColumns != null ? numericColumns.size() : 0];
+        for (int i = 0; i < measureIndexes.length; i++) {
+            Column column = table.getColumn(numericColumns.get(i));
+            if (column != null && !(column instanceof NumericColumn)) {
+                return null;
+            }
+            measureIndexes[i] = column != null ? measures.indexOf(numericColumns.get(i)) : -1;
+        }
+
+        boolean[] includedDays = new boolean[dayMinMillis.length];
+        for (int day = 0; day < includedDays.length; day++) {
+            if (dayMaxMillis[day] < startMillis || dayMinMillis[day] > endMillis) {
+                continue;
+            }
+            if (dayMinMillis[day] < startMillis || dayMaxMillis[day] > endMillis) {
+                return null; // Only part of the day is in range
+            }
+            includedDays[day] = true;
+        }
+
+        double totalSum = 0.0;
+        for (int measure : measureIndexes) {
+            if (measure < 0) continue;
+
+            double sum = 0.0;
+            for (int day = 0; day < includedDays.length; day++) {
+                if (!includedDays[day]) continue;
+                for (int cell = dayStarts[day]; cell < dayStarts[day + 1]; cell++) {
+                    if (acceptedGroups[cellGroups[cell]] && counts[measure][cell] > 0) {
+                        sum += sums[measure][cell];
+                    }
+                }
+            }
+            totalSum += sum;
+        }
+        return totalSum;
+    }
+
+    /**
+     * Returns the number of rows matching the filters and the date range that have a value in the numeric column,
+     * or `-1` if the cube cannot answer the query.
+     */
+    public long count(Map<String, List<String>> columnFilters, String numericColumn, long startMillis, long endMillis) {
+        boolean[] acceptedGroups = acceptedGroups(columnFilters);
+        int measure = measures.indexOf(numericColumn);
+        if (acceptedGroups == null || measure < 0) {
+            return -1;
+        }
+
+        long count = 0;
+        for (int day = 0; day < dayMinMillis.length; day++) {
+            if (dayMaxMillis[day] < startMillis || dayMinMillis[day] > endMillis) {
+                continue;
+            }
+            if (dayMinMillis[day] < startMillis || dayMaxMillis[day] > endMillis) {
+                return -1;
+            }
+            for (int cell = dayStarts[day]; cell < dayStarts[day + 1]; cell++) {
+                if (acceptedGroups[cellGroups[cell]]) {
+                    count += counts[measure][cell];
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean[] acceptedGroups(Map<String, List<String>> columnFilters) {
+        boolean[] accepted = new boolean[groupCodes.length];
+        Arrays.fill(accepted, true);
+        if (columnFilters == null) {
+            return accepted;
+        }
+
+        for (Map.Entry<String, List<String>> entry : columnFilters.entrySet()) {
+            List<String> filterValues = entry.getValue();
+            if (filterValues == null || filterValues.isEmpty()) continue;
+
+            boolean isExcludeFilter = filterValues.contains("!exclude");
+            Set<String> values = new HashSet<>(filterValues);
+            if (isExcludeFilter) {
+                values.remove("!exclude");
+            }
+
+            Column column = table.getColumn(entry.getKey());
+            if (column == null) {
+                if (values.contains("") == isExcludeFilter) {
+                    Arrays.fill(accepted, false);
+                }
+                continue;
+            }
+            int dimension = dimensions.indexOf(entry.getKey());
+            if (dimension < 0) {
+                return null;
+            }
+
+            DictionaryColumn dictionary = (DictionaryColumn) column;
+            boolean[] acceptedCodes = new boolean[dictionary.getDictionarySize()];
+            for (int code = 0; code < acceptedCodes.length; code++) {
+                acceptedCodes[code] = values.contains(dictionary.getDictionaryValue(code).trim()) != isExcludeFilter;
+            }
+            for (int group = 0; group < accepted.length; group++) {
+                accepted[group] &= acceptedCodes[groupCodes[group][dimension]];
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Open-addressing map from `long` keys to non-negative `int` values.
+     */
+    private static final class LongIntMap {
+        private long[] keys = new long[64];
+        private int[] values = new int[64];
+        private boolean[] used = new boolean[64];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = slot(key, mask); used[slot]; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if (2 * (size + 1) > keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                used[slot] = true;
+                size++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
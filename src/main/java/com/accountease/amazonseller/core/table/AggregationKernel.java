@@ -0,0 +1,390 @@
+package com.accountease.amazonseller.core.table;
+
+/**
+ * Class AggregationKernel
+ *
+ * Computes the count, sum, minimum and maximum of a primitive column (`double[]` or `long[]`) over the rows of a
+ * {@link RowBitmap}. The rows are visited 64 at a time as masks (`RowBitmap.forEachWord`), the same shape as masked
+ * vector operations: a full mask is one dense block of values, other masks select single values.
+ *
+ * Method scalar:
+ * - Visits the rows one at a time in ascending order with a single accumulator, like `SummationProcessor`, so sums
+ *   of doubles are identical to those of a row-by-row loop.
+ *
+ * Method lanes:
+ * - Splits every full block of 64 rows into four independent lanes of sums, minima and maxima, which the JIT
+ *   compiles into unrolled, pipelined (and where supported, packed SIMD) instructions; lanes are combined at the end.
+ * - Sums of doubles are added in a different order than by `scalar`, so they may differ in the last bits.
+ * - Long sums detect overflow with a branch-free sign check per lane instead of `Math.addExact` per value.
+ *
+ * Method vector:
+ * - Returns the kernel built on the Vector API ({@link VectorKernel}), or `null` if it is not available: it is only
+ *   compiled with the Maven profile `vector` (`mvn -Pvector package`) and needs the JVM option
+ *   `--add-modules jdk.incubator.vector`. Looked up reflectively, so the default build runs on any Java 17 JVM.
+ *
+ * Method get:
+ * - Returns the kernel selected at runtime: `vector` if it is available, otherwise `lanes`.
+ * - The system property `accountease.aggregation` (`scalar`, `lanes` or `vector`) selects a kernel explicitly;
+ *   `vector` falls back to `lanes` if the Vector API is not available.
+ *
+ * Key Features:
+ * - Rows must be below the length of the array; rows of a column that hold no value have to be excluded from
+ *   the bitmap by the caller.
+ * - An empty bitmap gives a count of 0, a sum of 0, and a minimum and maximum of +/- infinity
+ *   (`Long.MAX_VALUE` / `Long.MIN_VALUE` for longs).
+ * - Long sums throw an `ArithmeticException` if they overflow.
+ *
+ * Example Usage (`NumericColumn.aggregateCents` is the caller of the application):
+ * ```
+ * AggregationKernel.DoubleAggregate result = AggregationKernel.get().aggregate(amounts, rows);
+ * double average = result.getSum() / result.getCount();
+ * ```
+ */
+public abstract class AggregationKernel {
+
+    public static final String PROPERTY = "accountease.aggregation";
+
+    private static final AggregationKernel SCALAR = new Scalar();
+    private static final AggregationKernel LANES = new Lanes();
+    private static final AggregationKernel VECTOR = newVectorKernel();
+
+    AggregationKernel() {
+    }
+
+    public static AggregationKernel scalar() {
+        return SCALAR;
+    }
+
+    public static AggregationKernel lanes() {
+        return LANES;
+    }
+
+    public static AggregationKernel vector() {
+        return VECTOR;
+    }
+
+    public static AggregationKernel get() {
+        String name = System.getProperty(PROPERTY, "");
+        if (name.equalsIgnoreCase(SCALAR.getName())) {
+            return SCALAR;
+        }
+        if (name.equalsIgnoreCase(LANES.getName()) || VECTOR == null) {
+            return LANES;
+        }
+        return VECTOR;
+    }
+
+    public abstract DoubleAggregate aggregate(double[] values, RowBitmap rows);
+
+    public abstract LongAggregate aggregate(long[] values, RowBitmap rows);
+
+    public abstract String getName();
+
+    @Override
+    public String toString() {
+        return "AggregationKernel{" + getName() + '}';
+    }
+
+    /**
+     * Returns the Vector API kernel, or `null` if it was not compiled or the JVM does not provide the module.
+     */
+    private static AggregationKernel newVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> kernel = Class.forName(AggregationKernel.class.getPackageName() + ".VectorKernel");
+            return (AggregationKernel) kernel.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null; // Built without the profile "vector"
+        }
+    }
+
+    public static final class DoubleAggregate {
+        private final long count;
+        private final double sum;
+        private final double min;
+        private final double max;
+
+        DoubleAggregate(long count, double sum, double min, double max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "DoubleAggregate{count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + '}';
+        }
+    }
+
+    public static final class LongAggregate {
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        LongAggregate(long count, long sum, long min, long max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "LongAggregate{count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + '}';
+        }
+    }
+
+    private static final class Scalar extends AggregationKernel {
+
+        @Override
+        public DoubleAggregate aggregate(double[] values, RowBitmap rows) {
+            DoubleVisitor visitor = new DoubleVisitor(values);
+            rows.forEachWord(visitor);
+            return new DoubleAggregate(visitor.count, visitor.sum, visitor.min, visitor.max);
+        }
+
+        @Override
+        public LongAggregate aggregate(long[] values, RowBitmap rows) {
+            LongVisitor visitor = new LongVisitor(values);
+            rows.forEachWord(visitor);
+            return new LongAggregate(visitor.count, visitor.sum, visitor.min, visitor.max);
+        }
+
+        @Override
+        public String getName() {
+            return "scalar";
+        }
+
+        private static final class DoubleVisitor implements RowBitmap.WordVisitor {
+            private final double[] values;
+            private long count;
+            private double sum;
+            private double min = Double.POSITIVE_INFINITY;
+            private double max = Double.NEGATIVE_INFINITY;
+
+            DoubleVisitor(double[] values) {
+                this.values = values;
+            }
+
+            @Override
+            public void visit(int firstRow, long mask) {
+                count += Long.bitCount(mask);
+                while (mask != 0) {
+                    double value = values[firstRow + Long.numberOfTrailingZeros(mask)];
+                    sum += value;
+                    min = value < min ? value : min;
+                    max = value > max ? value : max;
+                    mask &= mask - 1;
+                }
+            }
+        }
+
+        private static final class LongVisitor implements RowBitmap.WordVisitor {
+            private final long[] values;
+            private long count;
+            private long sum;
+            private long min = Long.MAX_VALUE;
+            private long max = Long.MIN_VALUE;
+
+            LongVisitor(long[] values) {
+                this.values = values;
+            }
+
+            @Override
+            public void visit(int firstRow, long mask) {
+                count += Long.bitCount(mask);
+                while (mask != 0) {
+                    long value = values[firstRow + Long.numberOfTrailingZeros(mask)];
+                    sum = Math.addExact(sum, value);
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                    mask &= mask - 1;
+                }
+            }
+        }
+    }
+
+    private static final class Lanes extends AggregationKernel {
+
+        @Override
+        public DoubleAggregate aggregate(double[] values, RowBitmap rows) {
+            DoubleVisitor visitor = new DoubleVisitor(values);
+            rows.forEachWord(visitor);
+            return visitor.result();
+        }
+
+        @Override
+        public LongAggregate aggregate(long[] values, RowBitmap rows) {
+            LongVisitor visitor = new LongVisitor(values);
+            rows.forEachWord(visitor);
+            return visitor.result();
+        }
+
+        @Override
+        public String getName() {
+            return "lanes";
+        }
+
+        private static final class DoubleVisitor implements RowBitmap.WordVisitor {
+            private final double[] values;
+            private long count;
+            private double sum0, sum1, sum2, sum3;
+            private double min0 = Double.POSITIVE_INFINITY, min1 = min0, min2 = min0, min3 = min0;
+            private double max0 = Double.NEGATIVE_INFINITY, max1 = max0, max2 = max0, max3 = max0;
+
+            DoubleVisitor(double[] values) {
+                this.values = values;
+            }
+
+            @Override
+            public void visit(int firstRow, long mask) {
+                if (mask == -1L) {
+                    double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                    double lo0 = min0, lo1 = min1, lo2 = min2, lo3 = min3;
+                    double hi0 = max0, hi1 = max1, hi2 = max2, hi3 = max3;
+                    for (int i = firstRow, end = firstRow + 64; i < end; i += 4) {
+                        double a = values[i], b = values[i + 1], c = values[i + 2], d = values[i + 3];
+                        s0 += a;
+                        s1 += b;
+                        s2 += c;
+                        s3 += d;
+                        lo0 = a < lo0 ? a : lo0;
+                        lo1 = b < lo1 ? b : lo1;
+                        lo2 = c < lo2 ? c : lo2;
+                        lo3 = d < lo3 ? d : lo3;
+                        hi0 = a > hi0 ? a : hi0;
+                        hi1 = b > hi1 ? b : hi1;
+                        hi2 = c > hi2 ? c : hi2;
+                        hi3 = d > hi3 ? d : hi3;
+                    }
+                    count += 64;
+                    sum0 += s0;
+                    sum1 += s1;
+                    sum2 += s2;
+                    sum3 += s3;
+                    min0 = lo0;
+                    min1 = lo1;
+                    min2 = lo2;
+                    min3 = lo3;
+                    max0 = hi0;
+                    max1 = hi1;
+                    max2 = hi2;
+                    max3 = hi3;
+                    return;
+                }
+
+                count += Long.bitCount(mask);
+                while (mask != 0) {
+                    double value = values[firstRow + Long.numberOfTrailingZeros(mask)];
+                    sum0 += value;
+                    min0 = value < min0 ? value : min0;
+                    max0 = value > max0 ? value : max0;
+                    mask &= mask - 1;
+                }
+            }
+
+            DoubleAggregate result() {
+                return new DoubleAggregate(count, (sum0 + sum1) + (sum2 + sum3),
+                        Math.min(Math.min(min0, min1), Math.min(min2, min3)),
+                        Math.max(Math.max(max0, max1), Math.max(max2, max3)));
+            }
+        }
+
+        private static final class LongVisitor implements RowBitmap.WordVisitor {
+            private final long[] values;
+            private long count;
+            private long sum;
+            private long min = Long.MAX_VALUE;
+            private long max = Long.MIN_VALUE;
+
+            LongVisitor(long[] values) {
+                this.values = values;
+            }
+
+            @Override
+            public void visit(int firstRow, long mask) {
+                if (mask == -1L) {
+                    long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                    long overflow = 0;
+                    long lo0 = min, lo1 = min, lo2 = min, lo3 = min;
+                    long hi0 = max, hi1 = max, hi2 = max, hi3 = max;
+                    for (int i = firstRow, end = firstRow + 64; i < end; i += 4) {
+                        long a = values[i], b = values[i + 1], c = values[i + 2], d = values[i + 3];
+                        long r0 = s0 + a, r1 = s1 + b, r2 = s2 + c, r3 = s3 + d;
+                        // The sign bit is set if an addition overflowed: both operands differ in sign from the result
+                        overflow |= ((s0 ^ r0) & (a ^ r0)) | ((s1 ^ r1) & (b ^ r1)) | ((s2 ^ r2) & (c ^ r2)) | ((s3 ^ r3) & (d ^ r3));
+                        s0 = r0;
+                        s1 = r1;
+                        s2 = r2;
+                        s3 = r3;
+                        lo0 = Math.min(lo0, a);
+                        lo1 = Math.min(lo1, b);
+                        lo2 = Math.min(lo2, c);
+                        lo3 = Math.min(lo3, d);
+                        hi0 = Math.max(hi0, a);
+                        hi1 = Math.max(hi1, b);
+                        hi2 = Math.max(hi2, c);
+                        hi3 = Math.max(hi3, d);
+                    }
+                    if (overflow < 0) {
+                        throw new ArithmeticException("long overflow");
+                    }
+                    count += 64;
+                    sum = Math.addExact(sum, Math.addExact(Math.addExact(s0, s1), Math.addExact(s2, s3)));
+                    min = Math.min(Math.min(lo0, lo1), Math.min(lo2, lo3));
+                    max = Math.max(Math.max(hi0, hi1), Math.max(hi2, hi3));
+                    return;
+                }
+
+                count += Long.bitCount(mask);
+                while (mask != 0) {
+                    long value = values[firstRow + Long.numberOfTrailingZeros(mask)];
+                    sum = Math.addExact(sum, value);
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                    mask &= mask - 1;
+                }
+            }
+
+            LongAggregate result() {
+                return new LongAggregate(count, sum, min, max);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.accountease.amazonseller.core.table;
+
+/**
+ * A {@link Column} that can grow while a table is being built.
+ */
+interface AppendableColumn extends Column {
+
+    void append(String value);
+
+    /**
+     * Returns a new, empty column of the same kind and settings (e.g. the same date pattern).
+     */
+    AppendableColumn emptyCopy();
+
+    /**
+     * Appends the first `rowCount` values of another column. Columns override this to copy
+     * already parsed values from a column of the same kind instead of parsing the text again.
+     */
+    default void appendFrom(Column source, int rowCount) {
+        for (int row = 0; row < rowCount; row++) {
+            append(source.getString(row));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.accountease.amazonseller.core.table;
+
+/**
+ * Interface Column
+ *
+ * One column of a {@link ColumnTable}. Values are addressed by their 0-based row index.
+ *
+ * Key Points:
+ * - Implementations store the values of a single column contiguously, so scanning a column
+ *   touches only the memory of that column.
+ * - `getString` never returns `null`; empty cells are returned as empty strings.
+ */
+public interface Column {
+
+    String getString(int row);
+}
@@ -0,0 +1,126 @@
+package com.accountease.amazonseller.core.table;
+
+/**
+ * Class ColumnStatistics
+ *
+ * Value statistics of a {@link DictionaryColumn} within one {@link ColumnTable}: the number of rows per distinct
+ * value, taken when the table is built from the counts the column keeps while rows are appended.
+ *
+ * Key Features:
+ * - `getFrequency` tells how many rows of the table hold a value, so filters can estimate how many rows
+ *   they will keep before touching any of them.
+ * - `bitmap` returns the rows of a value as a compressed {@link RowBitmap}; together these bitmaps form an
+ *   inverted index of the column, so filters are answered by bitmap operations instead of scanning it.
+ *   The index is built on first use, with one pass over the column, so tables that are only merged into
+ *   larger ones (see `ColumnTable.Builder.buildPart()`) never build it.
+ * - Statistics only cover the rows of their table; rows appended to the columns afterwards are not counted.
+ */
+public final class ColumnStatistics {
+    private final DictionaryColumn column;
+    private final int rowCount;
+    private final int[] counts;
+
+    private volatile RowBitmap[] bitmaps;
+
+    ColumnStatistics(DictionaryColumn column, int rowCount) {
+        this.column = column;
+        this.rowCount = rowCount;
+        this.counts = column.countCodes(rowCount);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of distinct values occurring in the rows of the table.
+     */
+    public int getDistinctCount() {
+        int distinct = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Returns the number of rows with the given dictionary code.
+     */
+    public int getFrequency(int code) {
+        return code >= 0 && code < counts.length ? counts[code] : 0;
+    }
+
+    public int getFrequency(String value) {
+        return getFrequency(column.codeOf(value));
+    }
+
+    /**
+     * Returns the number of rows whose code is accepted; `acceptedCodes` is indexed by dictionary code.
+     */
+    public int countCodes(boolean[] acceptedCodes) {
+        int count = 0;
+        for (int code = 0; code < Math.min(acceptedCodes.length, counts.length); code++) {
+            if (acceptedCodes[code]) {
+                count += counts[code];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the rows of the table with the given dictionary code.
+     */
+    public RowBitmap bitmap(int code) {
+        RowBitmap[] index = index();
+        return code >= 0 && code < index.length ? index[code] : RowBitmap.empty();
+    }
+
+    /**
+     * Returns all rows of the table whose code is accepted, as the union of their bitmaps.
+     */
+    public RowBitmap selectCodesBitmap(boolean[] acceptedCodes) {
+        RowBitmap[] index = index();
+        RowBitmap result = RowBitmap.empty();
+        for (int code = 0; code < Math.min(acceptedCodes.length, index.length); code++) {
+            if (acceptedCodes[code]) {
+                result = result.or(index[code]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all rows of the table whose code is accepted, in ascending order, using the index.
+     */
+    public RowSelection selectCodes(boolean[] acceptedCodes) {
+        return selectCodesBitmap(acceptedCodes).toSelection();
+    }
+
+    private RowBitmap[] index() {
+        RowBitmap[] index = bitmaps;
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            if (bitmaps == null) {
+                RowBitmap.Builder[] builders = new RowBitmap.Builder[counts.length];
+                for (int code = 0; code < counts.length; code++) {
+                    if (counts[code] > 0) {
+                        builders[code] = new RowBitmap.Builder();
+                    }
+                }
+                for (int row = 0; row < rowCount; row++) {
+                    builders[column.getCode(row)].add(row);
+                }
+                RowBitmap[] built = new RowBitmap[counts.length];
+                for (int code = 0; code < counts.length; code++) {
+                    built[code] = builders[code] != null ? builders[code].build() : RowBitmap.empty();
+                }
+                bitmaps = built;
+            }
+            return bitmaps;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.accountease.amazonseller.core.table;
+
+import java.util.*;
+
+/**
+ * Class ColumnTable
+ *
+ * This class is the in-memory representation of a report dataset. Instead of one map per row,
+ * the values are stored column by column, and rows are addressed by their 0-based index.
+ *
+ * Structure:
+ * - The column headers are resolved to column indexes once, when the table is built.
+ * - Every column is a {@link Column} holding the values of all rows.
+ * - Processors resolve the column they need once and then scan it by row index.
+ *
+ * Row Views:
+ * - {@link #rowView(int)} returns a read-only `Map` of column headers to values for a single row.
+ * - {@link #asRowList()} returns a read-only `List` of such views, so APIs working on
+ *   `List<Map<String, String>>` can be used with a table without copying it.
+ *
+ * Statistics:
+ * - For every {@link DictionaryColumn}, the table keeps {@link ColumnStatistics} with the number of rows per value,
+ *   taken when the table is built. Filters use them to run the most selective predicate first and to choose
+ *   between scanning a column and looking rows up in its index.
+ *
+ * Key Features:
+ * - One array per column instead of one `HashMap` per row, which cuts the heap several times over.
+ * - Column scans read contiguous memory.
+ * - Duplicate header names behave like the row maps of {@link com.accountease.amazonseller.core.reader.ExcelReader}:
+ *   the last column with a given name wins.
+ *
+ * Example Usage:
+ * ```
+ * ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Gesamt"));
+ * builder.appendRow(new String[]{"Bestellung", "10,5"});
+ * ColumnTable table = builder.build();
+ * table.getValue(0, "Typ");      // "Bestellung"
+ * table.rowView(0).get("Gesamt"); // "10,5"
+ * ```
+ */
+public final class ColumnTable {
+    private final List<String> headers;
+    private final Map<String, Integer> columnIndexes;
+    private final Column[] columns;
+    private final ColumnStatistics[] statistics;
+    private final int rowCount;
+
+    ColumnTable(List<String> headers, Column[] columns, int rowCount) {
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < headers.size(); i++) {
+            indexes.remove(headers.get(i));
+            indexes.put(headers.get(i), i);
+        }
+
+        this.headers = List.copyOf(headers);
+        this.columnIndexes = Collections.unmodifiableMap(indexes);
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.statistics = new ColumnStatistics[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] instanceof DictionaryColumn) {
+                statistics[i] = new ColumnStatistics((DictionaryColumn) columns[i], rowCount);
+            }
+        }
+    }
+
+    public static Builder builder(List<String> headers) {
+        return new Builder(headers, TableSchema.empty());
+    }
+
+    public static Builder builder(List<String> headers, TableSchema schema) {
+        return new Builder(headers, schema);
+    }
+
+    /**
+     * Returns a builder that continues the given table with further rows. The rows of the table are copied
+     * into new columns first, column by column and without parsing any cell again, so the table itself is never
+     * modified: other threads may keep reading it (and any table it shares columns with) while rows are appended.
+     */
+    public static Builder builder(ColumnTable table) {
+        AppendableColumn[] columns = new AppendableColumn[table.columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            AppendableColumn column = (AppendableColumn) table.columns[i];
+            columns[i] = column.emptyCopy();
+            columns[i].appendFrom(column, table.rowCount);
+        }
+        return new Builder(table.headers, columns, table.rowCount);
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the index of the column with the given header, or `-1` if the table has no such column.
+     */
+    public int columnIndexOf(String columnName) {
+        Integer index = columnIndexes.get(columnName);
+        return index != null ? index : -1;
+    }
+
+    public Column getColumn(int columnIndex) {
+        return columns[columnIndex];
+    }
+
+    /**
+     * Returns the column with the given header, or `null` if the table has no such column.
+     */
+    public Column getColumn(String columnName) {
+        int index = columnIndexOf(columnName);
+        return index >= 0 ? columns[index] : null;
+    }
+
+    /**
+     * Returns the value statistics of the column with the given header, or `null` if the table has no such column
+     * or keeps no statistics for it (only dictionary-encoded columns have statistics).
+     */
+    public ColumnStatistics getStatistics(String columnName) {
+        int index = columnIndexOf(columnName);
+        return index >= 0 ? statistics[index] : null;
+    }
+
+    public String getValue(int row, int columnIndex) {
+        return columns[columnIndex].getString(row);
+    }
+
+    public String getValue(int row, String columnName) {
+        int index = columnIndexOf(columnName);
+        return index >= 0 ? columns[index].getString(row) : null;
+    }
+
+    public RowSelection allRows() {
+        return RowSelection.all(rowCount);
+    }
+
+    public Map<String, String> rowView(int row) {
+        Objects.checkIndex(row, rowCount);
+        return new RowView(row);
+    }
+
+    public List<Map<String, String>> asRowList() {
+        return new AbstractList<>() {
+            @Override
+            public Map<String, String> get(int index) {
+                return rowView(index);
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        };
+    }
+
+    public List<Map<String, String>> asRowList(RowSelection selection) {
+        return new AbstractList<>() {
+            @Override
+            public Map<String, String> get(int index) {
+                return rowView(selection.get(index));
+            }
+
+            @Override
+            public int size() {
+                return selection.size();
+            }
+        };
+    }
+
+    /**
+     * Read-only map of column headers to the values of one row.
+     */
+    private final class RowView extends AbstractMap<String, String> {
+        private final int row;
+
+        RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer index = columnIndexes.get(key);
+            return index != null ? columns[index].getString(row) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return columnIndexes.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return columnIndexes.size();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    Iterator<Map.Entry<String, Integer>> it = columnIndexes.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            Map.Entry<String, Integer> column = it.next();
+                            return new SimpleImmutableEntry<>(column.getKey(), columns[column.getValue()].getString(row));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return columnIndexes.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Builds a {@link ColumnTable} row by row.
+     *
+     * Rows are passed as arrays aligned with the headers. Missing trailing values and `null`
+     * values are stored as empty strings. The {@link TableSchema} decides how each column is stored.
+     */
+    public static final class Builder {
+        private final List<String> headers;
+        private final AppendableColumn[] columns;
+        private int rowCount;
+
+        private Builder(List<String> headers, TableSchema schema) {
+            this.headers = List.copyOf(headers);
+            this.columns = new AppendableColumn[this.headers.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = schema.newColumn(this.headers.get(i));
+            }
+        }
+
+        private Builder(List<String> headers, AppendableColumn[] columns, int rowCount) {
+            this.headers = headers;
+            this.columns = columns;
+            this.rowCount = rowCount;
+        }
+
+        public void appendRow(String[] values) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].append(i < values.length ? values[i] : "");
+            }
+            rowCount++;
+        }
+
+        /**
+         * Appends a row in which numeric cells may be given as numbers: where `values[i]` is `null` and
+         * column `i` is a {@link NumericColumn}, `numbers[i]` is stored without formatting or parsing it.
+         * Other `null` values are stored as rendered by `Double.toString(numbers[i])`.
+         */
+        public void appendRow(String[] values, double[] numbers) {
+            for (int i = 0; i < columns.length; i++) {
+                String value = i < values.length ? values[i] : "";
+                if (value != null) {
+                    columns[i].append(value);
+                } else if (columns[i] instanceof NumericColumn) {
+                    ((NumericColumn) columns[i]).appendNumber(numbers[i]);
+                } else {
+                    columns[i].append(Double.toString(numbers[i]));
+                }
+            }
+            rowCount++;
+        }
+
+        /**
+         * Appends all rows of another table whose headers match the first headers of this builder.
+         * Parsed values are copied column by column where both columns have the same type, so
+         * merging tables does not parse any cell again. Builder columns beyond the table's columns
+         * are filled with `fillValue`.
+         */
+        public void appendTable(ColumnTable table, String fillValue) {
+            if (table.headers.size() > headers.size() || !headers.subList(0, table.headers.size()).equals(table.headers)) {
+                throw new IllegalArgumentException("Table headers " + table.headers + " do not match " + headers);
+            }
+
+            for (int i = 0; i < columns.length; i++) {
+                if (i < table.columns.length) {
+                    columns[i].appendFrom(table.columns[i], table.rowCount);
+                } else {
+                    for (int row = 0; row < table.rowCount; row++) {
+                        columns[i].append(fillValue);
+                    }
+                }
+            }
+            rowCount += table.rowCount;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Creates a table over the rows appended so far. Invalid cells of numeric columns are
+         * reported here, once per build, instead of on every summation.
+         */
+        public ColumnTable build() {
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] instanceof NumericColumn && ((NumericColumn) columns[i]).getInvalidCount() > 0) {
+                    NumericColumn column = (NumericColumn) columns[i];
+                    System.err.println("Column \"" + headers.get(i) + "\" contains " + column.getInvalidCount()
+                            + " values that are not numbers, e.g. " + column.getInvalidValues() + ".");
+                }
+            }
+            return buildPart();
+        }
+
+        /**
+         * Creates a table like {@link #build()}, but without reporting invalid cells. Meant for parts of a
+         * larger table that are merged with {@link #appendTable(ColumnTable, String)}, whose final
+         * `build()` reports the invalid cells of all parts at once.
+         */
+        public ColumnTable buildPart() {
+            return new ColumnTable(headers, Arrays.copyOf(columns, columns.length, Column[].class), rowCount);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.accountease.amazonseller.core.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class DictionaryColumn
+ *
+ * A dictionary-encoded {@link Column} for fields with few distinct values, such as `Typ`,
+ * `Versand` or `Beschreibung`.
+ *
+ * Structure:
+ * - Every distinct value is stored once in the dictionary and identified by an int code.
+ * - Every row stores only the code of its value in an `int[]`.
+ *
+ * Key Features:
+ * - Hundreds of thousands of repeated cells share a handful of `String` instances.
+ * - Equality filters can be evaluated once per dictionary entry and then compared by code.
+ * - The number of rows per code is counted while appending, so a table gets the value frequencies
+ *   of the column ({@link ColumnStatistics}) without scanning it.
+ */
+public final class DictionaryColumn implements AppendableColumn {
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+    private int[] rowCodes;
+    private int[] counts = new int[16];
+    private int size;
+
+    DictionaryColumn() {
+        this.rowCodes = new int[16];
+    }
+
+    DictionaryColumn(List<String> dictionary, int[] rowCodes, int size) {
+        for (String value : dictionary) {
+            codes.put(value, this.dictionary.size());
+            this.dictionary.add(value);
+        }
+        this.rowCodes = rowCodes.length > 0 ? rowCodes : new int[16];
+        this.size = size;
+        this.counts = new int[Math.max(this.dictionary.size(), 16)];
+        for (int row = 0; row < size; row++) {
+            counts[rowCodes[row]]++;
+        }
+    }
+
+    @Override
+    public void append(String value) {
+        int code = codeFor(value != null ? value : "");
+
+        if (size == rowCodes.length) {
+            rowCodes = Arrays.copyOf(rowCodes, size * 2);
+        }
+        rowCodes[size++] = code;
+        counts[code]++;
+    }
+
+    @Override
+    public AppendableColumn emptyCopy() {
+        return new DictionaryColumn();
+    }
+
+    @Override
+    public void appendFrom(Column source, int rowCount) {
+        if (!(source instanceof DictionaryColumn)) {
+            AppendableColumn.super.appendFrom(source, rowCount);
+            return;
+        }
+
+        DictionaryColumn other = (DictionaryColumn) source;
+        int[] codeMap = new int[other.dictionary.size()];
+        for (int code = 0; code < codeMap.length; code++) {
+            codeMap[code] = codeFor(other.dictionary.get(code));
+        }
+
+        if (size + rowCount > rowCodes.length) {
+            rowCodes = Arrays.copyOf(rowCodes, Math.max(size + rowCount, size * 2));
+        }
+        for (int row = 0; row < rowCount; row++) {
+            int code = codeMap[other.rowCodes[row]];
+            rowCodes[size++] = code;
+            counts[code]++;
+        }
+    }
+
+    private int codeFor(String value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            codes.put(value, code);
+            if (code == counts.length) {
+                counts = Arrays.copyOf(counts, counts.length * 2);
+            }
+        }
+        return code;
+    }
+
+    @Override
+    public String getString(int row) {
+        return dictionary.get(rowCodes[row]);
+    }
+
+    public int getCode(int row) {
+        return rowCodes[row];
+    }
+
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+
+    public String getDictionaryValue(int code) {
+        return dictionary.get(code);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of rows below `rowCount` per code, for every code of the dictionary.
+     */
+    int[] countCodes(int rowCount) {
+        if (rowCount == size) {
+            return Arrays.copyOf(counts, dictionary.size());
+        }
+        int[] result = new int[dictionary.size()];
+        for (int row = 0; row < rowCount; row++) {
+            result[rowCodes[row]]++;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the code of the given value, or `-1` if the value does not occur in the column.
+     */
+    public int codeOf(String value) {
+        Integer code = codes.get(value);
+        return code != null ? code : -1;
+    }
+}
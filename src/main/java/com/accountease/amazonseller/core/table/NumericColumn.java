@@ -0,0 +1,230 @@
+package com.accountease.amazonseller.core.table;
+
+import com.accountease.amazonseller.core.processor.ExactAmount;
+
+import java.util.*;
+
+/**
+ * Class NumericColumn
+ *
+ * A {@link Column} for amounts such as `Umsätze` or `Gesamt`. Every cell is parsed once, when the
+ * table is built, into a primitive `double[]`; a null bitmap marks the rows that hold a number.
+ *
+ * Parsing Rules (same as {@link com.accountease.amazonseller.core.processor.SummationProcessor}):
+ * - Commas are replaced with dots and surrounding spaces are removed.
+ * - Empty cells are stored as null.
+ * - Cells that cannot be parsed are stored as null and recorded as invalid. The original text
+ *   stays available through {@link #getString(int)}.
+ *
+ * Numbers From the Reader:
+ * - {@link #appendNumber(double)} stores a number that a reader took directly from the file, without
+ *   formatting and parsing it again. Its text is rendered with `Double.toString` only when
+ *   {@link #getString(int)} is called, so no `String` is kept for such cells.
+ *
+ * Exact Sums:
+ * - {@link #aggregateCents(RowBitmap)} adds up the selected values in cents with {@link AggregationKernel#get()},
+ *   a block of 64 rows at a time. The cents of all values (`ExactAmount.toCents`) and a bitmap of the rows holding
+ *   a number are computed on first use and kept with the column, which costs 8 bytes per row.
+ * - Numbers without a value in cents (`NaN`, infinities, or beyond the range of `long`) are left out of that bitmap
+ *   and only fail the sum if one of their rows is selected, like the row-by-row sum of `SummationProcessor`.
+ *
+ * Key Features:
+ * - Summation reads the primitive array directly instead of parsing strings on every report.
+ * - Invalid cells are reported once at load time via {@link #getInvalidCount()} and
+ *   {@link #getInvalidValues()}.
+ */
+public final class NumericColumn implements AppendableColumn {
+    private static final int MAX_RECORDED_INVALID_VALUES = 10;
+
+    private final StringColumn text;
+    private final BitSet present;
+    private final BitSet renderedText;
+    private final Set<String> invalidValues = new LinkedHashSet<>();
+    private double[] values;
+    private int invalidCount;
+    private int size;
+    private volatile Cents cents;
+
+    NumericColumn() {
+        this(new StringColumn(), new BitSet(), new BitSet(), new double[16], 0, 0, List.of());
+    }
+
+    NumericColumn(StringColumn text, BitSet present, BitSet renderedText, double[] values, int size,
+                  int invalidCount, List<String> invalidValues) {
+        this.text = text;
+        this.present = present;
+        this.renderedText = renderedText;
+        this.values = values.length > 0 ? values : new double[16];
+        this.size = size;
+        this.invalidCount = invalidCount;
+        this.invalidValues.addAll(invalidValues);
+    }
+
+    @Override
+    public void append(String value) {
+        text.append(value);
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        String valueStr = value != null ? value.replace(",", ".").trim() : "";
+        if (!valueStr.isEmpty()) {
+            try {
+                values[size] = Double.parseDouble(valueStr);
+                present.set(size);
+            } catch (NumberFormatException e) {
+                invalidCount++;
+                if (invalidValues.size() < MAX_RECORDED_INVALID_VALUES) {
+                    invalidValues.add(valueStr);
+                }
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Appends a number taken directly from the file. The text of the cell is rendered on demand.
+     */
+    public void appendNumber(double value) {
+        text.append("");
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = value;
+        present.set(size);
+        renderedText.set(size);
+        size++;
+    }
+
+    @Override
+    public AppendableColumn emptyCopy() {
+        return new NumericColumn();
+    }
+
+    @Override
+    public void appendFrom(Column source, int rowCount) {
+        if (!(source instanceof NumericColumn)) {
+            AppendableColumn.super.appendFrom(source, rowCount);
+            return;
+        }
+
+        NumericColumn other = (NumericColumn) source;
+        text.appendFrom(other.text, rowCount);
+        if (size + rowCount > values.length) {
+            values = Arrays.copyOf(values, Math.max(size + rowCount, size * 2));
+        }
+        System.arraycopy(other.values, 0, values, size, rowCount);
+        for (int row = other.present.nextSetBit(0); row >= 0 && row < rowCount; row = other.present.nextSetBit(row + 1)) {
+            present.set(size + row);
+        }
+        for (int row = other.renderedText.nextSetBit(0); row >= 0 && row < rowCount; row = other.renderedText.nextSetBit(row + 1)) {
+            renderedText.set(size + row);
+        }
+        size += rowCount;
+
+        invalidCount += other.invalidCount;
+        for (String value : other.invalidValues) {
+            if (invalidValues.size() < MAX_RECORDED_INVALID_VALUES) {
+                invalidValues.add(value);
+            }
+        }
+    }
+
+    @Override
+    public String getString(int row) {
+        return renderedText.get(row) ? Double.toString(values[row]) : text.getString(row);
+    }
+
+    /**
+     * Returns `true` if the row holds a number, `false` for empty or invalid cells.
+     */
+    public boolean isPresent(int row) {
+        return present.get(row);
+    }
+
+    /**
+     * Returns the parsed number of the row; only meaningful if {@link #isPresent(int)} is `true`.
+     */
+    public double getDouble(int row) {
+        return values[row];
+    }
+
+    /**
+     * Returns the count, sum, minimum and maximum in cents of the numbers in the given rows; empty and invalid cells
+     * are skipped. Throws an `ArithmeticException` if a number in one of the rows or the sum does not fit into a `long`.
+     */
+    public AggregationKernel.LongAggregate aggregateCents(RowBitmap rows) {
+        Cents current = cents;
+        if (current == null || current.size != size) {
+            current = new Cents(this);
+            cents = current;
+        }
+        if (!current.unconvertible.isEmpty()) {
+            RowBitmap.RowIterator selected = rows.and(current.unconvertible).iterator();
+            if (selected.hasNext()) {
+                ExactAmount.toCents(values[selected.next()]); // Throws with the value in its message
+            }
+        }
+        return AggregationKernel.get().aggregate(current.values, rows.and(current.rows));
+    }
+
+    int size() {
+        return size;
+    }
+
+    StringColumn text() {
+        return text;
+    }
+
+    BitSet presentRows() {
+        return present;
+    }
+
+    /**
+     * Returns the rows whose text is rendered from the number instead of being stored.
+     */
+    BitSet renderedRows() {
+        return renderedText;
+    }
+
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns up to ten distinct invalid values, in order of first occurrence.
+     */
+    public List<String> getInvalidValues() {
+        return List.copyOf(invalidValues);
+    }
+
+    /**
+     * The numbers of a column in cents, with the bitmap of the rows holding one, as of the given size of the column.
+     * Rows whose number has no value in cents are kept in a bitmap of their own.
+     */
+    private static final class Cents {
+        private final int size;
+        private final long[] values;
+        private final RowBitmap rows;
+        private final RowBitmap unconvertible;
+
+        Cents(NumericColumn column) {
+            this.size = column.size;
+            this.values = new long[size];
+            RowBitmap.Builder builder = new RowBitmap.Builder();
+            RowBitmap.Builder failed = new RowBitmap.Builder();
+            for (int row = column.present.nextSetBit(0); row >= 0 && row < size; row = column.present.nextSetBit(row + 1)) {
+                try {
+                    values[row] = ExactAmount.toCents(column.values[row]);
+                    builder.add(row);
+                } catch (ArithmeticException e) {
+                    failed.add(row);
+                }
+            }
+            this.rows = builder.build();
+            this.unconvertible = failed.build();
+        }
+    }
+}
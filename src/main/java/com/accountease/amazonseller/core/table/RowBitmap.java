@@ -0,0 +1,691 @@
+package com.accountease.amazonseller.core.table;
+
+import java.util.Arrays;
+
+/**
+ * Class RowBitmap
+ *
+ * A compressed set of row indexes, used for the value indexes of dictionary columns and for selections that are
+ * combined with bitmap operations instead of comparing values row by row.
+ *
+ * Structure:
+ * - Rows are split into chunks of 65536 by their upper 16 bits; only chunks holding rows are stored.
+ * - Every chunk is stored in the smallest of three containers:
+ *   - an array container: the sorted lower 16 bits of up to 4096 rows,
+ *   - a bitset container: 1024 `long` words, one bit per row of the chunk,
+ *   - a run container: sorted runs of consecutive rows, e.g. all rows of a month in a date-sorted report.
+ *
+ * Key Features:
+ * - `and`, `or` and `andNot` work chunk by chunk; bitset chunks are combined a 64-bit word at a time.
+ * - Bitmaps are immutable; operations return new bitmaps and share unchanged containers.
+ * - Rows are iterated in ascending order, like a {@link RowSelection}, into which a bitmap can be converted,
+ *   or visited as 64-bit masks, one block of 64 rows at a time (see {@link AggregationKernel}).
+ */
+public final class RowBitmap {
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private static final RowBitmap EMPTY = new RowBitmap(new char[0], new Container[0], 0);
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int size;
+
+    private RowBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static RowBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the bitmap of all rows below `rowCount`.
+     */
+    public static RowBitmap all(int rowCount) {
+        Builder builder = new Builder();
+        builder.addRange(0, rowCount);
+        return builder.build();
+    }
+
+    public static RowBitmap of(RowSelection selection) {
+        Builder builder = new Builder();
+        for (int i = 0; i < selection.size(); i++) {
+            builder.add(selection.get(i));
+        }
+        return builder.build();
+    }
+
+    public static RowBitmap of(int... rows) {
+        int[] sorted = rows.clone();
+        Arrays.sort(sorted);
+        Builder builder = new Builder();
+        for (int row : sorted) {
+            builder.add(row);
+        }
+        return builder.build();
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int row) {
+        int index = Arrays.binarySearch(keys, 0, size, (char) (row >>> 16));
+        return index >= 0 && containers[index].contains((char) row);
+    }
+
+    /**
+     * Returns the rows contained in both bitmaps.
+     */
+    public RowBitmap and(RowBitmap other) {
+        Combiner result = new Combiner(Math.min(size, other.size));
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.add(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the rows contained in either bitmap.
+     */
+    public RowBitmap or(RowBitmap other) {
+        Combiner result = new Combiner(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.add(keys[i], containers[i]);
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.add(other.keys[j], other.containers[j]);
+                j++;
+            } else {
+                result.add(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the rows of this bitmap that are not contained in the other one.
+     */
+    public RowBitmap andNot(RowBitmap other) {
+        Combiner result = new Combiner(size);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.add(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.add(keys[i], containers[i]);
+            }
+        }
+        return result.build();
+    }
+
+    public int[] toArray() {
+        int[] rows = new int[cardinality()];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count = containers[i].fill(keys[i] << 16, rows, count);
+        }
+        return rows;
+    }
+
+    public RowSelection toSelection() {
+        int[] rows = toArray();
+        return RowSelection.of(rows, rows.length);
+    }
+
+    /**
+     * Passes the rows to the visitor 64 at a time, in ascending order: for every block of 64 rows holding at least
+     * one row of the bitmap, the first row of the block and a mask with a bit per row of the block.
+     */
+    public void forEachWord(WordVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            containers[i].visitWords(keys[i] << 16, visitor);
+        }
+    }
+
+    /**
+     * Receives the rows of a bitmap as 64-bit masks; see {@link #forEachWord(WordVisitor)}.
+     */
+    public interface WordVisitor {
+        /**
+         * @param firstRow The first row of the block, a multiple of 64.
+         * @param mask     Bit `i` is set if row `firstRow + i` is in the bitmap; never 0.
+         */
+        void visit(int firstRow, long mask);
+    }
+
+    /**
+     * Returns an iterator over the rows in ascending order.
+     */
+    public RowIterator iterator() {
+        return new RowIterator();
+    }
+
+    /**
+     * Iterates over the rows of a bitmap, one chunk at a time.
+     */
+    public final class RowIterator {
+        private int[] buffer = new int[0];
+        private int count;
+        private int position;
+        private int container;
+
+        private RowIterator() {
+        }
+
+        public boolean hasNext() {
+            while (position == count && container < size) {
+                int cardinality = containers[container].cardinality();
+                if (buffer.length < cardinality) {
+                    buffer = new int[Math.max(cardinality, Math.min(buffer.length * 2, 1 << 16))];
+                }
+                count = containers[container].fill(keys[container] << 16, buffer, 0);
+                position = 0;
+                container++;
+            }
+            return position < count;
+        }
+
+        /**
+         * Returns the next row; only valid after {@link #hasNext()} returned `true`.
+         */
+        public int next() {
+            return buffer[position++];
+        }
+    }
+
+    /**
+     * Returns a short description of the containers, e.g. `RowBitmap{rows=70000, array=1, bitset=0, run=1}`.
+     */
+    @Override
+    public String toString() {
+        int[] counts = new int[3];
+        for (int i = 0; i < size; i++) {
+            counts[containers[i] instanceof ArrayContainer ? 0 : containers[i] instanceof BitsetContainer ? 1 : 2]++;
+        }
+        return "RowBitmap{rows=" + cardinality() + ", array=" + counts[0] + ", bitset=" + counts[1] + ", run=" + counts[2] + '}';
+    }
+
+    /**
+     * Builds a bitmap from rows added in ascending order.
+     */
+    public static final class Builder {
+        private char[] keys = new char[4];
+        private Container[] containers = new Container[4];
+        private int size;
+
+        private final long[] words = new long[WORDS];
+        private int currentKey = -1;
+        private int last = -1;
+
+        public void add(int row) {
+            if (row <= last) {
+                throw new IllegalArgumentException("Rows must be added in ascending order: " + row + " after " + last);
+            }
+            last = row;
+            int key = row >>> 16;
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+            int low = row & 0xFFFF;
+            words[low >>> 6] |= 1L << low;
+        }
+
+        /**
+         * Adds all rows from `from` (inclusive) to `to` (exclusive).
+         */
+        public void addRange(int from, int to) {
+            for (int row = Math.max(from, last + 1); row < to; ) {
+                int key = row >>> 16;
+                if (key != currentKey) {
+                    flush();
+                    currentKey = key;
+                }
+                int end = Math.min(to, (key + 1) << 16);
+                setBits(words, row & 0xFFFF, ((end - 1) & 0xFFFF) + 1);
+                last = end - 1;
+                row = end;
+            }
+        }
+
+        private void flush() {
+            if (currentKey < 0) {
+                return;
+            }
+            Container container = Container.fromBits(words);
+            Arrays.fill(words, 0);
+            if (container == null) {
+                return;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            keys[size] = (char) currentKey;
+            containers[size++] = container;
+        }
+
+        public RowBitmap build() {
+            flush();
+            currentKey = -1;
+            return size == 0 ? EMPTY : new RowBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size), size);
+        }
+    }
+
+    /**
+     * Collects the results of chunk operations, dropping empty chunks.
+     */
+    private static final class Combiner {
+        private final char[] keys;
+        private final Container[] containers;
+        private int size;
+
+        Combiner(int capacity) {
+            this.keys = new char[capacity];
+            this.containers = new Container[capacity];
+        }
+
+        void add(char key, Container container) {
+            if (container != null) {
+                keys[size] = key;
+                containers[size++] = container;
+            }
+        }
+
+        RowBitmap build() {
+            return size == 0 ? EMPTY : new RowBitmap(keys, containers, size);
+        }
+    }
+
+    private static void setBits(long[] words, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            words[word] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    /**
+     * The rows of one chunk, as lower 16 bits.
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        /**
+         * Sets the bits of the rows in `words`, which holds 1024 words.
+         */
+        abstract void orInto(long[] words);
+
+        /**
+         * Writes the rows, each combined with `high`, to `rows` from `offset` on and returns the new offset.
+         */
+        abstract int fill(int high, int[] rows, int offset);
+
+        /**
+         * Passes the non-empty words of the chunk, each combined with `high`, to the visitor.
+         */
+        abstract void visitWords(int high, WordVisitor visitor);
+
+        long[] toBits() {
+            long[] words = new long[WORDS];
+            orInto(words);
+            return words;
+        }
+
+        Container and(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, true);
+            }
+            if (other instanceof ArrayContainer) {
+                return ((ArrayContainer) other).filter(this, true);
+            }
+            long[] words = toBits();
+            long[] otherWords = other instanceof BitsetContainer ? ((BitsetContainer) other).words : other.toBits();
+            for (int i = 0; i < WORDS; i++) {
+                words[i] &= otherWords[i];
+            }
+            return fromBits(words);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer && other instanceof ArrayContainer
+                    && cardinality() + other.cardinality() <= ARRAY_MAX) {
+                return ((ArrayContainer) this).union((ArrayContainer) other);
+            }
+            long[] words = toBits();
+            other.orInto(words);
+            return fromBits(words);
+        }
+
+        Container andNot(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, false);
+            }
+            long[] words = toBits();
+            long[] otherWords = other instanceof BitsetContainer ? ((BitsetContainer) other).words : other.toBits();
+            for (int i = 0; i < WORDS; i++) {
+                words[i] &= ~otherWords[i];
+            }
+            return fromBits(words);
+        }
+
+        /**
+         * Returns the smallest container for the bits in `words`, or `null` if no bit is set.
+         * The array may be taken over by the returned container.
+         */
+        static Container fromBits(long[] words) {
+            int cardinality = 0;
+            int runs = 0;
+            long previousHighBit = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+                // A run starts at every set bit whose lower neighbour is not set
+                runs += Long.bitCount(word & ~((word << 1) | previousHighBit));
+                previousHighBit = word >>> 63;
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+
+            int arrayBytes = cardinality <= ARRAY_MAX ? 2 * cardinality : Integer.MAX_VALUE;
+            int bitsetBytes = WORDS * 8;
+            if (4 * runs < Math.min(arrayBytes, bitsetBytes)) {
+                return RunContainer.fromBits(words, runs, cardinality);
+            }
+            if (arrayBytes < bitsetBytes) {
+                return ArrayContainer.fromBits(words, cardinality);
+            }
+            return new BitsetContainer(words.clone(), cardinality);
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        private final char[] values;
+
+        ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        static ArrayContainer fromBits(long[] words, int cardinality) {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values);
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, low) >= 0;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+
+        @Override
+        int fill(int high, int[] rows, int offset) {
+            for (char value : values) {
+                rows[offset++] = high | value;
+            }
+            return offset;
+        }
+
+        @Override
+        void visitWords(int high, WordVisitor visitor) {
+            int word = -1;
+            long mask = 0;
+            for (char value : values) {
+                if (value >>> 6 != word) {
+                    if (mask != 0) {
+                        visitor.visit(high | (word << 6), mask);
+                    }
+                    word = value >>> 6;
+                    mask = 0;
+                }
+                mask |= 1L << value;
+            }
+            if (mask != 0) {
+                visitor.visit(high | (word << 6), mask);
+            }
+        }
+
+        /**
+         * Keeps the values that are (`keep == true`) or are not contained in the other container.
+         */
+        Container filter(Container other, boolean keep) {
+            char[] result = new char[values.length];
+            int count = 0;
+            for (char value : values) {
+                if (other.contains(value) == keep) {
+                    result[count++] = value;
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+            return count == values.length ? this : new ArrayContainer(Arrays.copyOf(result, count));
+        }
+
+        Container union(ArrayContainer other) {
+            char[] result = new char[values.length + other.values.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < values.length || j < other.values.length) {
+                if (j == other.values.length || (i < values.length && values[i] < other.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == values.length || values[i] > other.values[j]) {
+                    result[count++] = other.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(Arrays.copyOf(result, count));
+        }
+    }
+
+    private static final class BitsetContainer extends Container {
+        private final long[] words;
+        private final int cardinality;
+
+        BitsetContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        void orInto(long[] target) {
+            for (int i = 0; i < WORDS; i++) {
+                target[i] |= words[i];
+            }
+        }
+
+        @Override
+        int fill(int high, int[] rows, int offset) {
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    rows[offset++] = high | ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        void visitWords(int high, WordVisitor visitor) {
+            for (int i = 0; i < WORDS; i++) {
+                if (words[i] != 0) {
+                    visitor.visit(high | (i << 6), words[i]);
+                }
+            }
+        }
+    }
+
+    private static final class RunContainer extends Container {
+        // Pairs of (first value, number of values - 1)
+        private final char[] runs;
+        private final int cardinality;
+
+        RunContainer(char[] runs, int cardinality) {
+            this.runs = runs;
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer fromBits(long[] words, int runCount, int cardinality) {
+            char[] runs = new char[2 * runCount];
+            int count = 0;
+            int start = -1;
+            for (int value = 0; value <= WORDS * 64; value++) {
+                boolean set = value < WORDS * 64 && (words[value >>> 6] & (1L << value)) != 0;
+                if (set && start < 0) {
+                    start = value;
+                } else if (!set && start >= 0) {
+                    runs[count++] = (char) start;
+                    runs[count++] = (char) (value - 1 - start);
+                    start = -1;
+                }
+                if (!set && value < WORDS * 64 && (value & 63) == 0 && words[value >>> 6] == 0) {
+                    value += 63; // Skip empty words
+                }
+            }
+            return new RunContainer(runs, cardinality);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            int lo = 0;
+            int hi = runs.length / 2 - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int start = runs[2 * mid];
+                if (low < start) {
+                    hi = mid - 1;
+                } else if (low > start + runs[2 * mid + 1]) {
+                    lo = mid + 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void orInto(long[] words) {
+            for (int i = 0; i < runs.length; i += 2) {
+                setBits(words, runs[i], runs[i] + runs[i + 1] + 1);
+            }
+        }
+
+        @Override
+        int fill(int high, int[] rows, int offset) {
+            for (int i = 0; i < runs.length; i += 2) {
+                int end = runs[i] + runs[i + 1];
+                for (int value = runs[i]; value <= end; value++) {
+                    rows[offset++] = high | value;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        void visitWords(int high, WordVisitor visitor) {
+            int word = -1;
+            long mask = 0;
+            for (int i = 0; i < runs.length; i += 2) {
+                int start = runs[i];
+                int end = start + runs[i + 1] + 1;
+                while (start < end) {
+                    int blockEnd = Math.min(end, ((start >>> 6) + 1) << 6);
+                    long bits = (blockEnd - start == 64 ? -1L : ((1L << (blockEnd - start)) - 1)) << start;
+                    if (start >>> 6 != word) {
+                        if (mask != 0) {
+                            visitor.visit(high | (word << 6), mask);
+                        }
+                        word = start >>> 6;
+                        mask = 0;
+                    }
+                    mask |= bits;
+                    start = blockEnd;
+                }
+            }
+            if (mask != 0) {
+                visitor.visit(high | (word << 6), mask);
+            }
+        }
+    }
+}
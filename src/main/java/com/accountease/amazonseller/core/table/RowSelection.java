@@ -0,0 +1,130 @@
+package com.accountease.amazonseller.core.table;
+
+import java.util.Arrays;
+
+/**
+ * Class RowSelection
+ *
+ * An ordered set of row indexes of a {@link ColumnTable}. Filters return a selection instead of
+ * copying rows, and the next processing step only visits the selected rows.
+ *
+ * Key Points:
+ * - Row indexes are stored in ascending order, so iteration follows the order of the source file.
+ * - Selections are immutable once created.
+ */
+public final class RowSelection {
+    private final int[] rows;
+    private final int size;
+
+    private RowSelection(int[] rows, int size) {
+        this.rows = rows;
+        this.size = size;
+    }
+
+    public static RowSelection all(int rowCount) {
+        int[] rows = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = i;
+        }
+        return new RowSelection(rows, rowCount);
+    }
+
+    public static RowSelection empty() {
+        return new RowSelection(new int[0], 0);
+    }
+
+    /**
+     * Creates a selection from the first `size` entries of `rows`, which must be ascending.
+     * The array is taken over and must not be modified afterwards.
+     */
+    public static RowSelection of(int[] rows, int size) {
+        return new RowSelection(rows, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        return rows[index];
+    }
+
+    /**
+     * Returns the rows contained in both selections, in ascending order.
+     *
+     * If one selection is much smaller than the other, its rows are looked up in the larger one by
+     * binary search instead of merging both.
+     */
+    public RowSelection intersect(RowSelection other) {
+        if (size > other.size) {
+            return other.intersect(this);
+        }
+        if ((long) size * 32 < other.size) {
+            return lookUpIn(other);
+        }
+
+        int[] result = new int[Math.min(size, other.size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (rows[i] < other.rows[j]) {
+                i++;
+            } else if (rows[i] > other.rows[j]) {
+                j++;
+            } else {
+                result[count++] = rows[i];
+                i++;
+                j++;
+            }
+        }
+        return new RowSelection(result, count);
+    }
+
+    private RowSelection lookUpIn(RowSelection larger) {
+        int[] result = new int[size];
+        int count = 0;
+        int from = 0;
+        for (int i = 0; i < size && from < larger.size; i++) {
+            int found = Arrays.binarySearch(larger.rows, from, larger.size, rows[i]);
+            if (found >= 0) {
+                result[count++] = rows[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return new RowSelection(result, count);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(rows, size);
+    }
+
+    /**
+     * Collects selected row indexes in ascending order.
+     */
+    public static final class Builder {
+        private int[] rows;
+        private int size;
+
+        public Builder(int expectedSize) {
+            rows = new int[Math.max(expectedSize, 16)];
+        }
+
+        public void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        public RowSelection build() {
+            return new RowSelection(rows, size);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.accountease.amazonseller.core.table;
+
+import java.util.Arrays;
+
+/**
+ * Class StringColumn
+ *
+ * A {@link Column} that keeps its values in a single, growable `String[]`.
+ * Values are appended by {@link ColumnTable.Builder} while a file is being read.
+ */
+public final class StringColumn implements AppendableColumn {
+    private String[] values;
+    private int size;
+
+    StringColumn() {
+        this(new String[16], 0);
+    }
+
+    StringColumn(String[] values, int size) {
+        this.values = values.length > 0 ? values : new String[16];
+        this.size = size;
+    }
+
+    @Override
+    public void append(String value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value != null ? value : "";
+    }
+
+    @Override
+    public AppendableColumn emptyCopy() {
+        return new StringColumn();
+    }
+
+    @Override
+    public void appendFrom(Column source, int rowCount) {
+        if (!(source instanceof StringColumn)) {
+            AppendableColumn.super.appendFrom(source, rowCount);
+            return;
+        }
+        if (size + rowCount > values.length) {
+            values = Arrays.copyOf(values, Math.max(size + rowCount, size * 2));
+        }
+        System.arraycopy(((StringColumn) source).values, 0, values, size, rowCount);
+        size += rowCount;
+    }
+
+    @Override
+    public String getString(int row) {
+        return values[row];
+    }
+
+    int size() {
+        return size;
+    }
+}
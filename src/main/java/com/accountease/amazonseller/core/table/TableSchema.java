@@ -0,0 +1,128 @@
+package com.accountease.amazonseller.core.table;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Class TableSchema
+ *
+ * Describes how the columns of a {@link ColumnTable} are stored when a file is loaded.
+ * Columns that are not mentioned in the schema are stored as plain text.
+ *
+ * Column Types:
+ * - `TEXT`: one `String` per row ({@link StringColumn}).
+ * - `DICTIONARY`: one int code per row plus a dictionary of distinct values ({@link DictionaryColumn}).
+ * - `NUMERIC`: numbers parsed once into a primitive `double[]` with a null bitmap ({@link NumericColumn}).
+ * - `TIMESTAMP`: dates parsed once into epoch milliseconds ({@link TimestampColumn}), using the pattern
+ *   given to {@link #withTimestamp(String, String)} or `FilterConstants.DATE_PATTERN`.
+ * - `UTF8`: UTF-8 bytes in a paged arena, compared and hashed without decoding ({@link Utf8Column}).
+ *
+ * Projection:
+ * - {@link #withProjection(java.util.Collection)} restricts the table to the listed columns. Cells of other
+ *   columns are not converted while reading, which saves load time and memory in proportion to the unused columns.
+ *
+ * Method transactionReport:
+ * - Returns the schema used for Amazon transaction reports, based on the columns in {@link FilterConstants}.
+ *
+ * Schemas are immutable; `with` returns a new schema.
+ */
+public final class TableSchema {
+
+    public enum ColumnType { TEXT, DICTIONARY, NUMERIC, TIMESTAMP, UTF8 }
+
+    private final Map<String, ColumnType> columnTypes;
+    private final Map<String, String> timestampPatterns;
+    private final Set<String> projection;
+
+    private TableSchema(Map<String, ColumnType> columnTypes, Map<String, String> timestampPatterns, Set<String> projection) {
+        this.columnTypes = columnTypes;
+        this.timestampPatterns = timestampPatterns;
+        this.projection = projection;
+    }
+
+    public static TableSchema empty() {
+        return new TableSchema(Map.of(), Map.of(), null);
+    }
+
+    public static TableSchema transactionReport() {
+        TableSchema schema = empty();
+        for (String column : FilterConstants.DICTIONARY_COLUMNS) {
+            schema = schema.with(column, ColumnType.DICTIONARY);
+        }
+        for (String column : FilterConstants.NUMERIC_COLUMNS) {
+            schema = schema.with(column, ColumnType.NUMERIC);
+        }
+        for (String column : FilterConstants.UTF8_COLUMNS) {
+            schema = schema.with(column, ColumnType.UTF8);
+        }
+        return schema.withTimestamp(FilterConstants.DATE_COLUMN_EXCEL, FilterConstants.DATE_PATTERN);
+    }
+
+    public TableSchema with(String columnName, ColumnType type) {
+        Map<String, ColumnType> types = new HashMap<>(columnTypes);
+        types.put(columnName, type);
+        return new TableSchema(Map.copyOf(types), timestampPatterns, projection);
+    }
+
+    public TableSchema withTimestamp(String columnName, String pattern) {
+        Map<String, String> patterns = new HashMap<>(timestampPatterns);
+        patterns.put(columnName, pattern);
+        return with(columnName, ColumnType.TIMESTAMP).withPatterns(Map.copyOf(patterns));
+    }
+
+    private TableSchema withPatterns(Map<String, String> patterns) {
+        return new TableSchema(columnTypes, patterns, projection);
+    }
+
+    /**
+     * Returns a schema that only keeps the given columns. All other columns are left out of the
+     * table, and readers skip converting their cells.
+     */
+    public TableSchema withProjection(Collection<String> columnNames) {
+        return new TableSchema(columnTypes, timestampPatterns, Set.copyOf(columnNames));
+    }
+
+    public ColumnType typeOf(String columnName) {
+        return columnTypes.getOrDefault(columnName, ColumnType.TEXT);
+    }
+
+    /**
+     * Returns `true` if the column is kept in the table, i.e. the schema has no projection or the projection contains it.
+     */
+    public boolean isProjected(String columnName) {
+        return projection == null || projection.contains(columnName);
+    }
+
+    /**
+     * Returns a stable description of the schema, e.g. to detect whether a cached table
+     * was built with the same schema.
+     */
+    @Override
+    public String toString() {
+        return "TableSchema{columnTypes=" + new TreeMap<>(columnTypes)
+                + ", timestampPatterns=" + new TreeMap<>(timestampPatterns)
+                + ", projection=" + (projection != null ? new TreeSet<>(projection) : "all") + '}';
+    }
+
+    AppendableColumn newColumn(String columnName) {
+        switch (typeOf(columnName)) {
+            case DICTIONARY:
+                return new DictionaryColumn();
+            case NUMERIC:
+                return new NumericColumn();
+            case TIMESTAMP:
+                return new TimestampColumn(timestampPatterns.getOrDefault(columnName, FilterConstants.DATE_PATTERN));
+            case UTF8:
+                return new Utf8Column();
+            case TEXT:
+            default:
+                return new StringColumn();
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.accountease.amazonseller.core.table;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Class TableSnapshot
+ *
+ * Writes a {@link ColumnTable} to a compact binary file and reads it back, column by column.
+ * Typed columns are stored in their parsed form (dictionary codes, doubles, epoch milliseconds, UTF-8 arenas),
+ * so reading a snapshot neither touches POI nor parses any cell again.
+ *
+ * File Layout:
+ * - Magic bytes and format version.
+ * - The key the snapshot was written for (e.g. a content hash of the source file).
+ * - Headers, row count, and then one block per column, tagged with its type. A timestamp column also stores the
+ *   pattern, time zone and leniency its values were parsed with, so a reader in another time zone renders and
+ *   compares them exactly as the writer did.
+ *
+ * Method read:
+ * - Maps the file read-only and copies every column from it into heap arrays; the returned table does not
+ *   refer to the mapping.
+ * - Returns `null` if the file is missing, was written for a different key, or cannot be read (e.g. because
+ *   it is truncated or corrupt).
+ *
+ * Method write:
+ * - Writes to a temporary file first and then moves it into place, so readers never see a
+ *   half-written snapshot. The temporary file is removed if writing fails.
+ * - A snapshot is limited to {@link #MAX_SIZE} bytes, the most a single mapping can hold. For larger tables,
+ *   nothing is written (and an outdated snapshot is removed), and `write` returns `false`.
+ */
+public final class TableSnapshot {
+    private static final long MAGIC = 0x4145534E41505331L; // "AESNAPS1"
+    private static final int VERSION = 4;
+
+    public static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    private static final byte TYPE_TEXT = 0;
+    private static final byte TYPE_DICTIONARY = 1;
+    private static final byte TYPE_NUMERIC = 2;
+    private static final byte TYPE_TIMESTAMP = 3;
+    private static final byte TYPE_UTF8 = 4;
+
+    private TableSnapshot() {
+    }
+
+    public static boolean write(ColumnTable table, Path file, byte[] key) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        int rowCount = table.getRowCount();
+        if (minimumSize(table) > MAX_SIZE) {
+            Files.deleteIfExists(file);
+            return false;
+        }
+
+        try {
+            try (Output out = new Output(FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+                out.putLong(MAGIC);
+                out.putInt(VERSION);
+                out.putBytes(key);
+                out.putStrings(table.getHeaders());
+                out.putInt(rowCount);
+
+                for (int i = 0; i < table.getColumnCount(); i++) {
+                    writeColumn(out, table.getColumn(i), rowCount);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (TooLargeException e) {
+            Files.deleteIfExists(file);
+            return false;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static ColumnTable read(Path file, byte[] key) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) > MAX_SIZE) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getLong() != MAGIC || buffer.getInt() != VERSION || !Arrays.equals(getBytes(buffer), key)) {
+                return null;
+            }
+
+            List<String> headers = getStrings(buffer);
+            int rowCount = getLength(buffer, 0);
+            Column[] columns = new Column[headers.size()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = readColumn(buffer, rowCount);
+            }
+            return new ColumnTable(headers, columns, rowCount);
+        } catch (RuntimeException e) {
+            return null; // Truncated or corrupt, e.g. a length that is negative or beyond the end of the file
+        }
+    }
+
+    /**
+     * Returns a lower bound of the snapshot size of the table: the fixed number of bytes per row and column,
+     * without any text. Tables above {@link #MAX_SIZE} by this bound are not written at all.
+     */
+    private static long minimumSize(ColumnTable table) {
+        long bytesPerRow = 0;
+        long utf8Bytes = 0;
+        for (int i = 0; i < table.getColumnCount(); i++) {
+            Column column = table.getColumn(i);
+            if (column instanceof NumericColumn) {
+                bytesPerRow += Integer.BYTES + Double.BYTES;
+            } else if (column instanceof TimestampColumn) {
+                bytesPerRow += Integer.BYTES + Long.BYTES;
+            } else if (column instanceof Utf8Column) {
+                bytesPerRow += Integer.BYTES;
+                for (int row = 0; row < table.getRowCount(); row++) {
+                    utf8Bytes += ((Utf8Column) column).length(row);
+                }
+            } else {
+                bytesPerRow += Integer.BYTES;
+            }
+        }
+        return bytesPerRow * table.getRowCount() + utf8Bytes;
+    }
+
+    private static void writeColumn(Output out, Column column, int rowCount) throws IOException {
+        if (column instanceof DictionaryColumn) {
+            DictionaryColumn dictionary = (DictionaryColumn) column;
+            List<String> values = new ArrayList<>();
+            for (int code = 0; code < dictionary.getDictionarySize(); code++) {
+                values.add(dictionary.getDictionaryValue(code));
+            }
+            out.putByte(TYPE_DICTIONARY);
+            out.putStrings(values);
+            for (int row = 0; row < rowCount; row++) {
+                out.putInt(dictionary.getCode(row));
+            }
+        } else if (column instanceof NumericColumn) {
+            NumericColumn numeric = (NumericColumn) column;
+            out.putByte(TYPE_NUMERIC);
+            out.putStrings(texts(numeric.text(), rowCount));
+            out.putBits(numeric.presentRows(), rowCount);
+            out.putBits(numeric.renderedRows(), rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                out.putDouble(numeric.getDouble(row));
+            }
+            out.putInt(numeric.getInvalidCount());
+            out.putStrings(numeric.getInvalidValues());
+        } else if (column instanceof TimestampColumn) {
+            TimestampColumn timestamps = (TimestampColumn) column;
+            out.putByte(TYPE_TIMESTAMP);
+            out.putStrings(List.of(timestamps.pattern(), timestamps.timeZone().getID()));
+            out.putByte(timestamps.isLenient() ? (byte) 1 : 0);
+            out.putStrings(texts(timestamps.text(), rowCount));
+            out.putBits(timestamps.presentRows(), rowCount);
+            out.putBits(timestamps.renderedRows(), rowCount);
+            out.putBits(timestamps.utcSuffixRows(), rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                out.putLong(timestamps.getMillis(row));
+            }
+            out.putInt(timestamps.getInvalidCount());
+        } else if (column instanceof Utf8Column) {
+            Utf8Column utf8 = (Utf8Column) column;
+            long total = 0;
+            out.putByte(TYPE_UTF8);
+            for (int row = 0; row < rowCount; row++) {
+                out.putInt(utf8.length(row));
+                total += utf8.length(row);
+            }
+            out.putInt(Math.toIntExact(total));
+            for (int row = 0; row < rowCount; row++) {
+                out.putBytes(utf8.page(row), utf8.offset(row), utf8.length(row));
+            }
+        } else {
+            out.putByte(TYPE_TEXT);
+            out.putStrings(texts(column, rowCount));
+        }
+    }
+
+    private static Column readColumn(ByteBuffer buffer, int rowCount) {
+        byte type = buffer.get();
+        switch (type) {
+            case TYPE_DICTIONARY: {
+                List<String> dictionary = getStrings(buffer);
+                requireRemaining(buffer, (long) rowCount * Integer.BYTES);
+                int[] codes = new int[rowCount];
+                buffer.asIntBuffer().get(codes);
+                buffer.position(buffer.position() + rowCount * Integer.BYTES);
+                return new DictionaryColumn(dictionary, codes, rowCount);
+            }
+            case TYPE_NUMERIC: {
+                StringColumn text = textColumn(getStrings(buffer));
+                BitSet present = getBits(buffer);
+                BitSet renderedText = getBits(buffer);
+                requireRemaining(buffer, (long) rowCount * Double.BYTES);
+                double[] values = new double[rowCount];
+                buffer.asDoubleBuffer().get(values);
+                buffer.position(buffer.position() + rowCount * Double.BYTES);
+                int invalidCount = buffer.getInt();
+                return new NumericColumn(text, present, renderedText, values, rowCount, invalidCount, getStrings(buffer));
+            }
+            case TYPE_TIMESTAMP: {
+                List<String> format = getStrings(buffer);
+                SimpleDateFormat dateFormat = new SimpleDateFormat(format.get(0));
+                dateFormat.setTimeZone(TimeZone.getTimeZone(format.get(1)));
+                dateFormat.setLenient(buffer.get() != 0);
+                StringColumn text = textColumn(getStrings(buffer));
+                BitSet present = getBits(buffer);
+                BitSet renderedText = getBits(buffer);
+                BitSet utcSuffix = getBits(buffer);
+                requireRemaining(buffer, (long) rowCount * Long.BYTES);
+                long[] millis = new long[rowCount];
+                buffer.asLongBuffer().get(millis);
+                buffer.position(buffer.position() + rowCount * Long.BYTES);
+                return new TimestampColumn(dateFormat, text, present, renderedText, utcSuffix, millis, rowCount, buffer.getInt());
+            }
+            case TYPE_UTF8: {
+                requireRemaining(buffer, (long) rowCount * Integer.BYTES);
+                int[] lengths = new int[rowCount];
+                buffer.asIntBuffer().get(lengths);
+                buffer.position(buffer.position() + rowCount * Integer.BYTES);
+                byte[] bytes = getBytes(buffer);
+                Utf8Column column = new Utf8Column();
+                int offset = 0;
+                for (int length : lengths) {
+                    if (length < 0 || length > bytes.length - offset) {
+                        throw new IllegalArgumentException("Corrupt value length in snapshot: " + length);
+                    }
+                    column.appendBytes(bytes, offset, length);
+                    offset += length;
+                }
+                return column;
+            }
+            case TYPE_TEXT:
+                return textColumn(getStrings(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown column type in snapshot: " + type);
+        }
+    }
+
+    private static List<String> texts(Column column, int rowCount) {
+        List<String> values = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            values.add(column.getString(row));
+        }
+        return values;
+    }
+
+    private static StringColumn textColumn(List<String> values) {
+        return new StringColumn(values.toArray(new String[0]), values.size());
+    }
+
+    /**
+     * Reads the number of elements that follow, checking that they fit into the rest of the file before anything
+     * is allocated for them.
+     */
+    private static int getLength(ByteBuffer buffer, int elementBytes) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length in snapshot: " + length);
+        }
+        requireRemaining(buffer, (long) length * elementBytes);
+        return length;
+    }
+
+    private static void requireRemaining(ByteBuffer buffer, long bytes) {
+        if (bytes > buffer.remaining()) {
+            throw new IllegalArgumentException("Snapshot ends before " + bytes + " more bytes");
+        }
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[getLength(buffer, Byte.BYTES)];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static BitSet getBits(ByteBuffer buffer) {
+        long[] words = new long[getLength(buffer, Long.BYTES)];
+        buffer.asLongBuffer().get(words);
+        buffer.position(buffer.position() + words.length * Long.BYTES);
+        return BitSet.valueOf(words);
+    }
+
+    private static List<String> getStrings(ByteBuffer buffer) {
+        int count = getLength(buffer, Integer.BYTES);
+        int[] lengths = new int[count];
+        buffer.asIntBuffer().get(lengths);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+
+        byte[] bytes = getBytes(buffer);
+        List<String> values = new ArrayList<>(count);
+        int offset = 0;
+        for (int length : lengths) {
+            values.add(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            offset += length;
+        }
+        return values;
+    }
+
+    /**
+     * Buffered, big-endian writer on top of a file channel.
+     */
+    private static final class Output implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        private long flushed;
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(Byte.BYTES);
+            buffer.put(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            putInt(bytes.length);
+            putBytes(bytes, 0, bytes.length);
+        }
+
+        void putBytes(byte[] bytes, int offset, int length) throws IOException {
+            int end = offset + length;
+            while (offset < end) {
+                ensure(1);
+                int chunk = Math.min(buffer.remaining(), end - offset);
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+
+        void putBits(BitSet bits, int size) throws IOException {
+            long[] words = bits.get(0, size).toLongArray();
+            putInt(words.length);
+            for (long word : words) {
+                putLong(word);
+            }
+        }
+
+        void putStrings(List<String> values) throws IOException {
+            byte[][] encoded = new byte[values.size()][];
+            int total = 0;
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = values.get(i).getBytes(StandardCharsets.UTF_8);
+                total += encoded[i].length;
+            }
+
+            putInt(encoded.length);
+            for (byte[] value : encoded) {
+                putInt(value.length);
+            }
+            putInt(total);
+            for (byte[] value : encoded) {
+                int offset = 0;
+                while (offset < value.length) {
+                    ensure(1);
+                    int chunk = Math.min(buffer.remaining(), value.length - offset);
+                    buffer.put(value, offset, chunk);
+                    offset += chunk;
+                }
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            flushed += buffer.position();
+            if (flushed > MAX_SIZE) {
+                throw new TooLargeException();
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Thrown by {@link Output} once a snapshot grows beyond {@link #MAX_SIZE}.
+     */
+    private static final class TooLargeException extends IOException {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,288 @@
+package com.accountease.amazonseller.core.table;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Class TimestampColumn
+ *
+ * A {@link Column} for date values such as `Datum/Uhrzeit`. Every cell is parsed once, when the
+ * table is built, into epoch milliseconds stored in a primitive `long[]`.
+ *
+ * Parsing Rules (same as {@link com.accountease.amazonseller.core.processor.DateFilter}):
+ * - The suffix ` UTC` is removed and the value is parsed with the column's date pattern.
+ * - Empty cells and cells that cannot be parsed are stored as null; the original text stays
+ *   available through {@link #getString(int)}.
+ *
+ * Rendered Text:
+ * - A cell whose text is exactly what the date pattern formats its timestamp to (optionally followed by ` UTC`)
+ *   keeps no `String`: {@link #getString(int)} formats the timestamp again when it is called, like
+ *   {@link NumericColumn} does for numbers from the reader.
+ * - Only the text of all other cells (empty, invalid, or written differently, e.g. `1.7.2024 8:00:00`) is stored.
+ *
+ * Range Scans:
+ * - {@link #selectRange(long, long, int)} answers `[start, end]` queries through an index of row
+ *   indexes sorted by timestamp. Two binary searches find the matching slice, so a half-year window
+ *   on a multi-year file only touches the rows inside the window.
+ * - The index is built on first use and rebuilt if rows were appended since.
+ */
+public final class TimestampColumn implements AppendableColumn {
+    private static final String UTC_SUFFIX = " UTC";
+
+    private final StringColumn text;
+    private final BitSet present;
+    private final BitSet renderedText;
+    private final BitSet utcSuffix;
+    private final SimpleDateFormat dateFormat;
+    private long[] millis;
+    private int invalidCount;
+    private int size;
+
+    private int[] sortedRows;
+    private int sortedSize = -1;
+
+    TimestampColumn(String pattern) {
+        this(new SimpleDateFormat(pattern));
+    }
+
+    /**
+     * Creates an empty column parsing with the given format; the format is taken over and must not be used elsewhere.
+     */
+    TimestampColumn(SimpleDateFormat dateFormat) {
+        this(dateFormat, new StringColumn(), new BitSet(), new BitSet(), new BitSet(), new long[16], 0, 0);
+    }
+
+    TimestampColumn(SimpleDateFormat dateFormat, StringColumn text, BitSet present, BitSet renderedText, BitSet utcSuffix,
+                    long[] millis, int size, int invalidCount) {
+        this.dateFormat = dateFormat;
+        this.text = text;
+        this.present = present;
+        this.renderedText = renderedText;
+        this.utcSuffix = utcSuffix;
+        this.millis = millis.length > 0 ? millis : new long[16];
+        this.size = size;
+        this.invalidCount = invalidCount;
+    }
+
+    @Override
+    public void append(String value) {
+        if (size == millis.length) {
+            millis = Arrays.copyOf(millis, size * 2);
+        }
+
+        String dateStr = value != null ? value : "";
+        boolean rendered = false;
+        if (!dateStr.isEmpty()) {
+            String stripped = dateStr.replace(UTC_SUFFIX, "");
+            try {
+                synchronized (dateFormat) {
+                    Date date = dateFormat.parse(stripped);
+                    millis[size] = date.getTime();
+                    rendered = dateFormat.format(date).equals(stripped);
+                }
+                present.set(size);
+            } catch (ParseException e) {
+                invalidCount++;
+            }
+
+            if (rendered && (dateStr.length() == stripped.length() || dateStr.equals(stripped + UTC_SUFFIX))) {
+                renderedText.set(size);
+                if (dateStr.length() != stripped.length()) {
+                    utcSuffix.set(size);
+                }
+            } else {
+                rendered = false;
+            }
+        }
+        text.append(rendered ? "" : value);
+        size++;
+    }
+
+    @Override
+    public AppendableColumn emptyCopy() {
+        synchronized (dateFormat) {
+            return new TimestampColumn((SimpleDateFormat) dateFormat.clone());
+        }
+    }
+
+    @Override
+    public void appendFrom(Column source, int rowCount) {
+        if (!(source instanceof TimestampColumn) || !((TimestampColumn) source).isParsedWith(dateFormat)) {
+            AppendableColumn.super.appendFrom(source, rowCount);
+            return;
+        }
+
+        TimestampColumn other = (TimestampColumn) source;
+        text.appendFrom(other.text, rowCount);
+        if (size + rowCount > millis.length) {
+            millis = Arrays.copyOf(millis, Math.max(size + rowCount, size * 2));
+        }
+        System.arraycopy(other.millis, 0, millis, size, rowCount);
+        for (int row = other.present.nextSetBit(0); row >= 0 && row < rowCount; row = other.present.nextSetBit(row + 1)) {
+            present.set(size + row);
+        }
+        for (int row = other.renderedText.nextSetBit(0); row >= 0 && row < rowCount; row = other.renderedText.nextSetBit(row + 1)) {
+            renderedText.set(size + row);
+        }
+        for (int row = other.utcSuffix.nextSetBit(0); row >= 0 && row < rowCount; row = other.utcSuffix.nextSetBit(row + 1)) {
+            utcSuffix.set(size + row);
+        }
+        size += rowCount;
+        invalidCount += other.invalidCount;
+    }
+
+    @Override
+    public String getString(int row) {
+        if (!renderedText.get(row)) {
+            return text.getString(row);
+        }
+
+        String value;
+        synchronized (dateFormat) {
+            value = dateFormat.format(new Date(millis[row]));
+        }
+        return utcSuffix.get(row) ? value + UTC_SUFFIX : value;
+    }
+
+    public boolean isPresent(int row) {
+        return present.get(row);
+    }
+
+    public long getMillis(int row) {
+        return millis[row];
+    }
+
+    int size() {
+        return size;
+    }
+
+    String pattern() {
+        return dateFormat.toPattern();
+    }
+
+    StringColumn text() {
+        return text;
+    }
+
+    BitSet presentRows() {
+        return present;
+    }
+
+    /**
+     * Returns the rows whose text is rendered from the timestamp instead of being stored.
+     */
+    BitSet renderedRows() {
+        return renderedText;
+    }
+
+    /**
+     * Returns the rendered rows whose text ends with ` UTC`.
+     */
+    BitSet utcSuffixRows() {
+        return utcSuffix;
+    }
+
+    TimeZone timeZone() {
+        return dateFormat.getTimeZone();
+    }
+
+    boolean isLenient() {
+        return dateFormat.isLenient();
+    }
+
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns `true` if values of this column were parsed exactly as the given format would parse them
+     * (same pattern, time zone and leniency), so its timestamps can be compared with dates parsed by it.
+     */
+    public boolean isParsedWith(SimpleDateFormat format) {
+        return dateFormat.toPattern().equals(format.toPattern())
+                && dateFormat.getTimeZone().equals(format.getTimeZone())
+                && dateFormat.isLenient() == format.isLenient();
+    }
+
+    /**
+     * Returns the rows below `rowCount` whose timestamp lies within `[startMillis, endMillis]`,
+     * in ascending row order.
+     */
+    public RowSelection selectRange(long startMillis, long endMillis, int rowCount) {
+        int[] index = sortedRows();
+
+        int from = lowerBound(index, startMillis);
+        int to = lowerBound(index, endMillis == Long.MAX_VALUE ? endMillis : endMillis + 1);
+
+        int[] rows = new int[Math.max(to - from, 0)];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (index[i] < rowCount) {
+                rows[count++] = index[i];
+            }
+        }
+        Arrays.sort(rows, 0, count);
+        return RowSelection.of(rows, count);
+    }
+
+    private synchronized int[] sortedRows() {
+        if (sortedSize != size) {
+            int[] rows = new int[present.cardinality()];
+            int count = 0;
+            boolean ordered = true;
+            for (int row = present.nextSetBit(0); row >= 0 && row < size; row = present.nextSetBit(row + 1)) {
+                if (count > 0 && millis[rows[count - 1]] > millis[row]) {
+                    ordered = false;
+                }
+                rows[count++] = row;
+            }
+            if (!ordered) {
+                mergeSort(rows, new int[count], 0, count);
+            }
+            sortedRows = rows;
+            sortedSize = size;
+        }
+        return sortedRows;
+    }
+
+    private int lowerBound(int[] index, long value) {
+        int low = 0;
+        int high = index.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (millis[index[mid]] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void mergeSort(int[] rows, int[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(rows, buffer, from, mid);
+        mergeSort(rows, buffer, mid, to);
+        if (millis[rows[mid - 1]] <= millis[rows[mid]]) {
+            return;
+        }
+
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && millis[buffer[left]] <= millis[buffer[right]])) {
+                rows[i] = buffer[left++];
+            } else {
+                rows[i] = buffer[right++];
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.accountease.amazonseller.core.table;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Class Utf8Column
+ *
+ * A {@link Column} for free-text fields with many distinct values, such as `Bestellnummer` or SKUs.
+ * Instead of one `String` object per cell, the values are stored as UTF-8 bytes in an arena of large
+ * `byte[]` pages and addressed by offset and length.
+ *
+ * Structure:
+ * - Values are appended to the current page (up to 1 MB); a value never spans two pages.
+ * - Every row stores the address (page and offset) and the length of its value.
+ *
+ * Key Features:
+ * - Millions of cells occupy a few hundred large arrays instead of millions of small objects,
+ *   which keeps garbage collection pauses short in long-running processes.
+ * - {@link #equalsBytes(int, byte[])} and {@link #hash(int)} work on the raw bytes, so filters and
+ *   distinct-value extraction never decode a cell to a `String`.
+ * - Like `String.trim()`, comparisons and hashing ignore leading and trailing bytes up to the space character.
+ * - {@link Utf8Set} tests the cells against a set of filter values, and {@link #distinctRows(RowSelection)}
+ *   deduplicates them, both on the raw bytes.
+ * - {@link #getString(int)} decodes the value on demand; the result is not cached.
+ */
+public final class Utf8Column implements AppendableColumn {
+    private static final int FIRST_PAGE_SIZE = 1 << 12;
+    private static final int PAGE_SIZE = 1 << 20;
+
+    private byte[][] pages = new byte[4][];
+    private int pageCount;
+    private int pagePosition;
+    private long[] addresses;
+    private int[] lengths;
+    private int size;
+
+    Utf8Column() {
+        this.addresses = new long[16];
+        this.lengths = new int[16];
+    }
+
+    @Override
+    public void append(String value) {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        appendBytes(bytes, 0, bytes.length);
+    }
+
+    void appendBytes(byte[] bytes, int offset, int length) {
+        if (size == addresses.length) {
+            addresses = Arrays.copyOf(addresses, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+
+        if (pageCount == 0 || length > pages[pageCount - 1].length - pagePosition) {
+            newPage(length);
+        }
+        System.arraycopy(bytes, offset, pages[pageCount - 1], pagePosition, length);
+        addresses[size] = ((long) (pageCount - 1) << 32) | pagePosition;
+        lengths[size] = length;
+        pagePosition += length;
+        size++;
+    }
+
+    /**
+     * Starts a new page. The first pages grow from 4 KB to {@code PAGE_SIZE}, so small tables stay small;
+     * a value longer than a page gets a page of its own.
+     */
+    private void newPage(int minCapacity) {
+        if (pageCount == pages.length) {
+            pages = Arrays.copyOf(pages, pageCount * 2);
+        }
+        int capacity = Math.min(PAGE_SIZE, FIRST_PAGE_SIZE << Math.min(pageCount, 8));
+        pages[pageCount++] = new byte[Math.max(capacity, minCapacity)];
+        pagePosition = 0;
+    }
+
+    @Override
+    public AppendableColumn emptyCopy() {
+        return new Utf8Column();
+    }
+
+    @Override
+    public void appendFrom(Column source, int rowCount) {
+        if (!(source instanceof Utf8Column)) {
+            AppendableColumn.super.appendFrom(source, rowCount);
+            return;
+        }
+        Utf8Column other = (Utf8Column) source;
+        for (int row = 0; row < rowCount; row++) {
+            appendBytes(other.page(row), other.offset(row), other.lengths[row]);
+        }
+    }
+
+    @Override
+    public String getString(int row) {
+        return new String(page(row), offset(row), lengths[row], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns `true` if the trimmed value of the row consists of exactly the given bytes.
+     */
+    public boolean equalsBytes(int row, byte[] value) {
+        byte[] page = page(row);
+        int from = offset(row);
+        int to = from + lengths[row];
+        while (from < to && (page[from] & 0xFF) <= ' ') from++;
+        while (to > from && (page[to - 1] & 0xFF) <= ' ') to--;
+        return Arrays.equals(page, from, to, value, 0, value.length);
+    }
+
+    /**
+     * Returns the hash of the trimmed value of the row, equal to {@link #hash(byte[], int, int)} of its bytes.
+     */
+    public int hash(int row) {
+        byte[] page = page(row);
+        int from = offset(row);
+        int to = from + lengths[row];
+        while (from < to && (page[from] & 0xFF) <= ' ') from++;
+        while (to > from && (page[to - 1] & 0xFF) <= ' ') to--;
+        return hash(page, from, to);
+    }
+
+    /**
+     * Returns `true` if the trimmed value of the row is empty.
+     */
+    public boolean isBlank(int row) {
+        byte[] page = page(row);
+        int from = offset(row);
+        int to = from + lengths[row];
+        for (int i = from; i < to; i++) {
+            if ((page[i] & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns `true` if the trimmed values of both rows consist of the same bytes.
+     */
+    public boolean sameValue(int row, int otherRow) {
+        byte[] page = page(row);
+        int from = offset(row);
+        int to = from + lengths[row];
+        while (from < to && (page[from] & 0xFF) <= ' ') from++;
+        while (to > from && (page[to - 1] & 0xFF) <= ' ') to--;
+
+        byte[] otherPage = page(otherRow);
+        int otherFrom = offset(otherRow);
+        int otherTo = otherFrom + lengths[otherRow];
+        while (otherFrom < otherTo && (otherPage[otherFrom] & 0xFF) <= ' ') otherFrom++;
+        while (otherTo > otherFrom && (otherPage[otherTo - 1] & 0xFF) <= ' ') otherTo--;
+
+        return Arrays.equals(page, from, to, otherPage, otherFrom, otherTo);
+    }
+
+    /**
+     * Returns the first row of every distinct, non-blank trimmed value among the selected rows,
+     * in the order of first occurrence. Values are deduplicated on their raw bytes; only the
+     * returned rows need to be decoded.
+     */
+    public int[] distinctRows(RowSelection selection) {
+        int capacity = Integer.highestOneBit(Math.max(selection.size(), 1) * 2 - 1) << 1;
+        int mask = capacity - 1;
+        int[] slots = new int[capacity];
+        int[] hashes = new int[capacity];
+        Arrays.fill(slots, -1);
+
+        int[] distinct = new int[Math.min(selection.size(), 16)];
+        int count = 0;
+        for (int i = 0; i < selection.size(); i++) {
+            int row = selection.get(i);
+            if (isBlank(row)) {
+                continue;
+            }
+
+            int hash = hash(row);
+            int slot = hash & mask;
+            while (slots[slot] >= 0 && !(hashes[slot] == hash && sameValue(slots[slot], row))) {
+                slot = (slot + 1) & mask;
+            }
+            if (slots[slot] < 0) {
+                slots[slot] = row;
+                hashes[slot] = hash;
+                if (count == distinct.length) {
+                    distinct = Arrays.copyOf(distinct, count * 2);
+                }
+                distinct[count++] = row;
+            }
+        }
+        return Arrays.copyOf(distinct, count);
+    }
+
+    static int hash(byte[] bytes, int from, int to) {
+        int hash = 0x811c9dc5;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ (bytes[i] & 0xFF)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int length(int row) {
+        return lengths[row];
+    }
+
+    byte[] page(int row) {
+        return pages[(int) (addresses[row] >>> 32)];
+    }
+
+    int offset(int row) {
+        return (int) addresses[row];
+    }
+}
@@ -0,0 +1,56 @@
+package com.accountease.amazonseller.core.table;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Class Utf8Set
+ *
+ * An immutable set of values encoded as UTF-8, which is tested directly against the cells of a
+ * {@link Utf8Column}. Filters with many values (e.g. a list of order numbers) are evaluated by
+ * hashing and comparing the raw bytes of each cell, without decoding it to a `String`.
+ */
+public final class Utf8Set {
+    private final byte[][] slots;
+    private final int[] hashes;
+    private final int mask;
+
+    private Utf8Set(byte[][] slots, int[] hashes) {
+        this.slots = slots;
+        this.hashes = hashes;
+        this.mask = slots.length - 1;
+    }
+
+    public static Utf8Set of(Collection<String> values) {
+        int capacity = Integer.highestOneBit(Math.max(values.size(), 1) * 2 - 1) << 1;
+        byte[][] slots = new byte[capacity][];
+        int[] hashes = new int[capacity];
+        Utf8Set set = new Utf8Set(slots, hashes);
+
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int hash = Utf8Column.hash(bytes, 0, bytes.length);
+            int slot = hash & set.mask;
+            while (slots[slot] != null && !(hashes[slot] == hash && Arrays.equals(slots[slot], bytes))) {
+                slot = (slot + 1) & set.mask;
+            }
+            slots[slot] = bytes;
+            hashes[slot] = hash;
+        }
+        return set;
+    }
+
+    /**
+     * Returns `true` if the trimmed value of the given row is contained in this set.
+     */
+    public boolean contains(Utf8Column column, int row) {
+        int hash = column.hash(row);
+        for (int slot = hash & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && column.equalsBytes(row, slots[slot])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package com.accountease.amazonseller.core.table;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Class VectorKernel
+ *
+ * The {@link AggregationKernel} built on the Vector API (`jdk.incubator.vector`). It is only compiled with the Maven
+ * profile `vector` and only used if the JVM runs with `--add-modules jdk.incubator.vector`; otherwise
+ * `AggregationKernel.vector()` returns `null` and the other kernels are used.
+ *
+ * Key Features:
+ * - Values are processed in vectors of the preferred width of the CPU (`SPECIES_PREFERRED`, e.g. 8 values with
+ *   AVX-512). Sums, minima and maxima are kept per lane within a block of 64 rows and reduced at its end, so vectors
+ *   stay in local variables, which the JIT keeps in registers instead of allocating them.
+ * - Only full masks of 64 rows are read as vectors; other masks are visited row by row like in the lanes kernel,
+ *   because masked loads (`VectorMask.fromLong`) are not compiled into vector instructions on Java 17.
+ * - Long sums of a block cannot overflow while all its values are below 2^56 in magnitude. If a block holds a larger
+ *   value, the rows are aggregated again by the scalar kernel, which adds them in row order with `Math.addExact`.
+ */
+final class VectorKernel extends AggregationKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    VectorKernel() {
+    }
+
+    @Override
+    public DoubleAggregate aggregate(double[] values, RowBitmap rows) {
+        DoubleVisitor visitor = new DoubleVisitor(values);
+        rows.forEachWord(visitor);
+        return new DoubleAggregate(visitor.count, visitor.sum, visitor.min, visitor.max);
+    }
+
+    @Override
+    public LongAggregate aggregate(long[] values, RowBitmap rows) {
+        LongVisitor visitor = new LongVisitor(values);
+        rows.forEachWord(visitor);
+        if (visitor.large) {
+            return scalar().aggregate(values, rows);
+        }
+        return new LongAggregate(visitor.count, visitor.sum, visitor.min, visitor.max);
+    }
+
+    @Override
+    public String getName() {
+        return "vector";
+    }
+
+    private static final class DoubleVisitor implements RowBitmap.WordVisitor {
+        private final double[] values;
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        DoubleVisitor(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public void visit(int firstRow, long mask) {
+            if (mask != -1L) {
+                count += Long.bitCount(mask);
+                while (mask != 0) {
+                    double value = values[firstRow + Long.numberOfTrailingZeros(mask)];
+                    sum += value;
+                    min = value < min ? value : min;
+                    max = value > max ? value : max;
+                    mask &= mask - 1;
+                }
+                return;
+            }
+
+            DoubleVector s = DoubleVector.zero(DOUBLES);
+            DoubleVector lo = DoubleVector.broadcast(DOUBLES, min);
+            DoubleVector hi = DoubleVector.broadcast(DOUBLES, max);
+            for (int i = firstRow, end = firstRow + 64; i < end; i += DOUBLES.length()) {
+                DoubleVector v = DoubleVector.fromArray(DOUBLES, values, i);
+                s = s.add(v);
+                lo = lo.min(v);
+                hi = hi.max(v);
+            }
+            count += 64;
+            sum += s.reduceLanes(VectorOperators.ADD);
+            min = lo.reduceLanes(VectorOperators.MIN);
+            max = hi.reduceLanes(VectorOperators.MAX);
+        }
+    }
+
+    private static final class LongVisitor implements RowBitmap.WordVisitor {
+        private final long[] values;
+        private long count;
+        private long sum;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private boolean large;
+
+        LongVisitor(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public void visit(int firstRow, long mask) {
+            if (mask != -1L) {
+                count += Long.bitCount(mask);
+                while (mask != 0) {
+                    long value = values[firstRow + Long.numberOfTrailingZeros(mask)];
+                    sum = Math.addExact(sum, value);
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                    mask &= mask - 1;
+                }
+                return;
+            }
+
+            LongVector s = LongVector.zero(LONGS);
+            LongVector bits = LongVector.zero(LONGS);
+            LongVector lo = LongVector.broadcast(LONGS, min);
+            LongVector hi = LongVector.broadcast(LONGS, max);
+            for (int i = firstRow, end = firstRow + 64; i < end; i += LONGS.length()) {
+                LongVector v = LongVector.fromArray(LONGS, values, i);
+                s = s.add(v);
+                bits = bits.or(v.lanewise(VectorOperators.XOR, v.lanewise(VectorOperators.ASHR, 63)));
+                lo = lo.min(v);
+                hi = hi.max(v);
+            }
+            // 64 values below 2^56 in magnitude cannot overflow, in any order of addition
+            large |= bits.reduceLanes(VectorOperators.OR) >>> 56 != 0;
+            count += 64;
+            sum = Math.addExact(sum, s.reduceLanes(VectorOperators.ADD));
+            min = lo.reduceLanes(VectorOperators.MIN);
+            max = hi.reduceLanes(VectorOperators.MAX);
+        }
+    }
+}
@@ -1,35 +1,40 @@
 package com.accountease.amazonseller.utils;
 
+import com.accountease.amazonseller.core.Dataset;
 import com.accountease.amazonseller.core.filters.ExclusionFilters;
 import com.accountease.amazonseller.core.filters.StandardFilters;
 import com.accountease.amazonseller.core.filters.ValueListFilters;
 import com.accountease.amazonseller.core.ReportSetting;
 
 import java.util.Collections;
+import java.util.List;
 
 public class ReportDebugTool {
 
     public static void main(String[] args) {
 
         try {
-            // Вызываем обработку отчётов напрямую
-            processAndPrintReport(StandardFilters.getTotalSellerShippingFee());
-            processAndPrintReport(StandardFilters.getTotalAmazonShippingFee());
-            processAndPrintReport(StandardFilters.getTotalSalesSumSeller());
-            processAndPrintReport(StandardFilters.getTotalSalesSumAmazon());
-            processAndPrintReport(StandardFilters.getTotalAdvertisingCosts());
-            processAndPrintReport(StandardFilters.getTotalAmazonFulfillmentFees());
-            processAndPrintReport(StandardFilters.getTotalPromotionalDiscountsFees());
-            processAndPrintReport(StandardFilters.getTotalAdjustmentsFees());
-            processAndPrintReport(ExclusionFilters.getTotalServiceFees());
-            processAndPrintReport(StandardFilters.getTotalStorageAndServiceFeesForAmazonFulfillment());
-            processAndPrintReport(StandardFilters.getTotalRefundsForShippingCredits());
-            processAndPrintReport(StandardFilters.getTotalRefundsForPromotionalDiscounts());
-            processAndPrintReport(StandardFilters.getTotalShippingCreditNotes());
-            processAndPrintReport(ExclusionFilters.getTotalFBALogisticsInventoryCredits());
-            processAndPrintReport(StandardFilters.getTotalRefundsForAmazonShippedItems());
-            processAndPrintReport(StandardFilters.getTotalRefundsForAmazonTransactionFees());
-            processAndPrintReport(StandardFilters.getTotalRefundAmountForReturnedShipments());
+            // Все отчёты считаются за один проход по данным
+            List<ReportSetting> reports = List.of(
+                    StandardFilters.getTotalSellerShippingFee(),
+                    StandardFilters.getTotalAmazonShippingFee(),
+                    StandardFilters.getTotalSalesSumSeller(),
+                    StandardFilters.getTotalSalesSumAmazon(),
+                    StandardFilters.getTotalAdvertisingCosts(),
+                    StandardFilters.getTotalAmazonFulfillmentFees(),
+                    StandardFilters.getTotalPromotionalDiscountsFees(),
+                    StandardFilters.getTotalAdjustmentsFees(),
+                    ExclusionFilters.getTotalServiceFees(),
+                    StandardFilters.getTotalStorageAndServiceFeesForAmazonFulfillment(),
+                    StandardFilters.getTotalRefundsForShippingCredits(),
+                    StandardFilters.getTotalRefundsForPromotionalDiscounts(),
+                    StandardFilters.getTotalShippingCreditNotes(),
+                    ExclusionFilters.getTotalFBALogisticsInventoryCredits(),
+                    StandardFilters.getTotalRefundsForAmazonShippedItems(),
+                    StandardFilters.getTotalRefundsForAmazonTransactionFees(),
+                    StandardFilters.getTotalRefundAmountForReturnedShipments()
+            );
+            ReportSetting.processReports(reports, Dataset.defaultDataset()).forEach(ReportDebugTool::printReport);
 
             // Делаем финальный отчёт через метод
             ReportSetting finalReport = ReportProcessingTools.processAndFilterWithUniqueValues(
@@ -49,6 +54,10 @@ public class ReportDebugTool {
         // Обработка отчёта
         Double totalSum = report.processReport();
 
+        printReport(report, totalSum);
+    }
+
+    private static void printReport(ReportSetting report, Double totalSum) {
         // Вывод результата
         System.out.println(report.getName());
         System.out.println(totalSum);
@@ -1,7 +1,9 @@
 package com.accountease.amazonseller.utils;
 
+import com.accountease.amazonseller.core.Dataset;
 import com.accountease.amazonseller.core.ReportSetting;
 import com.accountease.amazonseller.core.processor.UniqueValuesProcessor;
+import com.accountease.amazonseller.core.table.ColumnTable;
 
 import java.util.List;
 import java.util.Map;
@@ -36,6 +38,7 @@ public class ReportProcessingTools {
 
     /**
      * Обрабатывает два отчёта, извлекает уникальные значения из первого и применяет их к шаблонному отчёту.
+     * Использует набор данных по умолчанию ({@link Dataset#defaultDataset()}).
      *
      * @param firstReport    Исходный отчёт, из которого извлекаются уникальные значения.
      * @param templateReport Шаблонный отчёт, к которому применяются уникальные значения.
@@ -44,10 +47,27 @@ public class ReportProcessingTools {
     public static ReportSetting processAndFilterWithUniqueValues(
             ReportSetting firstReport,
             ReportSetting templateReport) {
+        return processAndFilterWithUniqueValues(Dataset.defaultDataset(), firstReport, templateReport);
+    }
+
+    /**
+     * Обрабатывает два отчёта, извлекая уникальные значения из первого в заданном наборе данных.
+     *
+     * @param dataset        Набор данных, из которого извлекаются уникальные значения.
+     * @param firstReport    Исходный отчёт, из которого извлекаются уникальные значения.
+     * @param templateReport Шаблонный отчёт, к которому применяются уникальные значения.
+     * @return Новый ReportSetting с применённой фильтрацией.
+     */
+    public static ReportSetting processAndFilterWithUniqueValues(
+            Dataset dataset,
+            ReportSetting firstReport,
+            ReportSetting templateReport) {
         // Извлекаем уникальные значения из первого отчёта
         UniqueValuesProcessor processor = new UniqueValuesProcessor();
+        ColumnTable table = dataset.getTable();
         List<String> uniqueValues = processor.extractUniqueValuesFromLastNumericColumn(
-                ReportSetting.getData(),
+                table,
+                table.allRows(),
                 firstReport.getNumericColumns(),
                 firstReport.getColumnFilters()
         );
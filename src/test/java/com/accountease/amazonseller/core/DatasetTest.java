@@ -0,0 +1,190 @@
+package com.accountease.amazonseller.core;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.filters.StandardFilters;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Dataset class.
+ *
+ * The tests write small transaction reports into a temporary directory and verify that:
+ * - A dataset reads its file only when its table is first needed.
+ * - Several datasets can be held at once and the same report gives each its own total.
+ * - Reloading picks up new rows and changes the version; a closed dataset can no longer be used.
+ * - Date windows and report totals are computed once per range and dropped when the data changes.
+ * - The aggregate cube is switched on per dataset and gives the totals of scanning the rows.
+ */
+@Tag("unit")
+@Epic("Report Setting Functionality")
+@DisplayName("DatasetTest")
+class DatasetTest {
+
+    private static final String HEADER = "Preamble\nDatum/Uhrzeit,Typ,Versand,Umsätze\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Read the file only when the table is first needed")
+    void testLazyLoading() throws IOException {
+        Path missing = tempDir.resolve("missing.csv");
+        Dataset dataset = Dataset.of(missing.toString(), 1);
+        assertFalse(dataset.isLoaded());
+        assertEquals(0, dataset.getVersion());
+
+        assertThrows(RuntimeException.class, dataset::getTable);
+
+        write(missing, "01.08.2024 10:00:00 UTC,Bestellung,Amazon,\"10,00\"\n");
+        assertEquals(1, dataset.getTable().getRowCount());
+        assertTrue(dataset.isLoaded());
+        assertEquals(1, dataset.getVersion());
+    }
+
+    @Test
+    @DisplayName("Evaluate the same report against independent datasets")
+    void testIndependentDatasets() throws IOException {
+        Path july = write(tempDir.resolve("july.csv"),
+                "01.07.2024 10:00:00 UTC,Bestellung,Amazon,\"10,00\"\n"
+                        + "02.07.2024 10:00:00 UTC,Bestellung,Verkäufer,\"99,00\"\n"
+                        + "03.07.2024 10:00:00 UTC,Bestellung,Amazon,\"2,50\"\n");
+        Path august = write(tempDir.resolve("august.csv"),
+                "01.08.2024 10:00:00 UTC,Bestellung,Amazon,\"7,00\"\n");
+
+        ReportSetting report = StandardFilters.getTotalSalesSumAmazon();
+        try (Dataset first = Dataset.of(july.toString(), 1); Dataset second = Dataset.of(august.toString(), 1)) {
+            assertEquals(12.5, report.processReport(first), 1e-9);
+            assertEquals(7.0, report.processReport(second), 1e-9);
+
+            first.close();
+            assertEquals(7.0, report.processReport(second), 1e-9, "Closing one dataset should not affect others.");
+        }
+    }
+
+    @Test
+    @DisplayName("Pick up appended rows on reload and change the version")
+    void testReload() throws IOException {
+        Path csv = write(tempDir.resolve("transactions.csv"),
+                "01.07.2024 10:00:00 UTC,Bestellung,Amazon,\"10,00\"\n");
+        Dataset dataset = Dataset.of(csv.toString(), 1);
+        assertEquals(1, dataset.getTable().getRowCount());
+        long version = dataset.getVersion();
+
+        Files.writeString(csv, "02.07.2024 10:00:00 UTC,Bestellung,Amazon,\"4,00\"\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 2000));
+
+        assertEquals(2, dataset.reload().getRowCount());
+        assertTrue(dataset.getVersion() > version);
+        assertEquals(14.0, StandardFilters.getTotalSalesSumAmazon().processReport(dataset), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Reuse the date window of a range until the data changes")
+    void testDateWindow() throws IOException {
+        Path csv = write(tempDir.resolve("transactions.csv"),
+                "30.06.2024 10:00:00 UTC,Bestellung,Amazon,\"1,00\"\n"
+                        + "01.07.2024 10:00:00 UTC,Bestellung,Amazon,\"10,00\"\n");
+        Dataset dataset = Dataset.of(csv.toString(), 1);
+
+        DateWindow window = dataset.dateWindow(FilterConstants.DATE_COLUMN_EXCEL, FilterConstants.START_DATE,
+                FilterConstants.END_DATE, FilterConstants.newDateFormat());
+        assertEquals(1, window.getRows().size());
+        assertEquals(1, window.getRows().get(0));
+        assertSame(window, dataset.dateWindow(FilterConstants.DATE_COLUMN_EXCEL, FilterConstants.START_DATE,
+                FilterConstants.END_DATE, FilterConstants.newDateFormat()));
+        assertNotSame(window, dataset.dateWindow(FilterConstants.DATE_COLUMN_EXCEL, "01.06.2024 00:00:00",
+                FilterConstants.END_DATE, FilterConstants.newDateFormat()));
+
+        Files.writeString(csv, "02.07.2024 10:00:00 UTC,Bestellung,Amazon,\"4,00\"\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 2000));
+        dataset.reload();
+
+        DateWindow reloaded = dataset.dateWindow(FilterConstants.DATE_COLUMN_EXCEL, FilterConstants.START_DATE,
+                FilterConstants.END_DATE, FilterConstants.newDateFormat());
+        assertNotSame(window, reloaded);
+        assertEquals(2, reloaded.getRows().size());
+        assertEquals(dataset.getVersion(), reloaded.getVersion());
+        assertEquals(1, window.getRows().size(), "Earlier windows should keep their rows.");
+        assertEquals(14.0, StandardFilters.getTotalSalesSumAmazon().processReport(dataset), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Return cached totals until the dataset is reloaded")
+    void testResultCache() throws IOException {
+        Path csv = write(tempDir.resolve("transactions.csv"),
+                "01.07.2024 10:00:00 UTC,Bestellung,Amazon,\"10,00\"\n");
+        Dataset dataset = Dataset.of(csv.toString(), 1);
+        ReportCache cache = dataset.getResultCache();
+
+        assertEquals(10.0, StandardFilters.getTotalSalesSumAmazon().processReport(dataset), 1e-9);
+        assertEquals(10.0, StandardFilters.getTotalSalesSumAmazon().processReport(dataset), 1e-9);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size());
+
+        Files.writeString(csv, "02.07.2024 10:00:00 UTC,Bestellung,Amazon,\"4,00\"\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 2000));
+        dataset.reload();
+
+        assertEquals(0, cache.size(), "Reloading should invalidate the cached totals.");
+        assertEquals(14.0, StandardFilters.getTotalSalesSumAmazon().processReport(dataset), 1e-9);
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Answer reports from the aggregate cube once it is switched on")
+    void testAggregateCube() throws IOException {
+        Path csv = write(tempDir.resolve("transactions.csv"),
+                "30.06.2024 10:00:00 UTC,Bestellung,Amazon,\"1,00\"\n"
+                        + "01.07.2024 10:00:00 UTC,Bestellung,Amazon,\"10,00\"\n"
+                        + "02.07.2024 10:00:00 UTC,Bestellung,Verkäufer,\"99,00\"\n"
+                        + "15.07.2024 10:00:00 UTC,Bestellung,Amazon,\"2,50\"\n");
+        Dataset dataset = Dataset.of(csv.toString(), 1);
+        ReportSetting report = StandardFilters.getTotalSalesSumAmazon();
+        assertEquals(FilterConstants.AGGREGATE_CUBE, dataset.usesAggregateCube());
+
+        dataset.setAggregateCube(false);
+        assertNull(report.sumFromCube(dataset));
+        assertEquals(12.5, report.processReport(dataset), 1e-9);
+        assertEquals(1, dataset.getResultCache().size());
+
+        dataset.setAggregateCube(true);
+        assertTrue(dataset.usesAggregateCube());
+        assertEquals(0, dataset.getResultCache().size(), "Totals computed without the cube should be dropped.");
+        assertEquals(12.5, report.sumFromCube(dataset), 1e-9);
+        assertEquals(12.5, report.processReport(dataset), 1e-9);
+        assertEquals(12.5, ReportBatch.of(List.of(report)).process(dataset).get(report), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Throw IllegalStateException once the dataset is closed")
+    void testClosedDataset() throws IOException {
+        Path csv = write(tempDir.resolve("transactions.csv"),
+                "01.07.2024 10:00:00 UTC,Bestellung,Amazon,\"10,00\"\n");
+        Dataset dataset = Dataset.of(csv.toString(), 1);
+        dataset.getTable();
+        dataset.close();
+
+        assertFalse(dataset.isLoaded());
+        assertThrows(IllegalStateException.class, dataset::getTable);
+        assertThrows(RuntimeException.class, () -> StandardFilters.getTotalSalesSumAmazon().processReport(dataset));
+    }
+
+    private static Path write(Path file, String rows) throws IOException {
+        return Files.writeString(file, HEADER + rows, StandardCharsets.UTF_8);
+    }
+}
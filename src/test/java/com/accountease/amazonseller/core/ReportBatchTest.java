@@ -0,0 +1,105 @@
+package com.accountease.amazonseller.core;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.filters.ReportCatalog;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReportBatch class.
+ *
+ * The tests build tables with random transactions for the columns used by the reports of {@link ReportCatalog}
+ * and verify that the totals computed in a single pass are identical to those of
+ * {@link ReportSetting#processReport(Dataset)}, both for typed columns and for plain text columns.
+ */
+@Tag("unit")
+@Epic("Report Setting Functionality")
+@DisplayName("ReportBatchTest")
+class ReportBatchTest {
+
+    private static final int ROW_COUNT = 3000;
+
+    @Test
+    @DisplayName("Compute the same totals as processReport over typed columns")
+    void testTotalsMatchProcessReport() {
+        assertTotalsMatch(TableSchema.transactionReport());
+    }
+
+    @Test
+    @DisplayName("Compute the same totals as processReport over text columns")
+    void testTotalsMatchProcessReportForTextColumns() {
+        assertTotalsMatch(TableSchema.empty());
+    }
+
+    @Test
+    @DisplayName("Return a total for every report, in order, including duplicates and missing columns")
+    void testReportsWithoutMatchingColumns() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of(FilterConstants.DATE_COLUMN_EXCEL, "Gesamt"));
+        builder.appendRow(new String[]{"01.08.2024 10:00:00 UTC", "2,50"});
+        Dataset dataset = Dataset.of(builder.build());
+
+        ReportSetting total = new ReportSetting("Gesamt", Map.of(), List.of("Gesamt"));
+        ReportSetting missing = new ReportSetting("Fehlt", Map.of("Typ", List.of("Bestellung")), List.of("Gesamt"));
+        ReportSetting excluded = new ReportSetting("Ohne", Map.of("Typ", List.of("!exclude", "Bestellung")), List.of("Gesamt", "Fehlt"));
+
+        Map<ReportSetting, Double> totals = ReportSetting.processReports(List.of(total, missing, excluded, total), dataset);
+
+        assertEquals(List.of(total, missing, excluded), new ArrayList<>(totals.keySet()));
+        assertEquals(2.5, totals.get(total));
+        assertEquals(0.0, totals.get(missing));
+        assertEquals(2.5, totals.get(excluded));
+    }
+
+    private static void assertTotalsMatch(TableSchema schema) {
+        List<ReportSetting> reports = ReportCatalog.getReports();
+        ColumnTable table = randomTable(reports, schema);
+        Dataset dataset = Dataset.of(table);
+        Dataset reference = Dataset.of(table); // Own result cache, so processReport evaluates every report itself
+
+        Map<ReportSetting, Double> totals = ReportBatch.of(reports).process(dataset);
+
+        assertEquals(reports.size(), totals.size());
+        for (ReportSetting report : reports) {
+            assertEquals(report.processReport(reference), totals.get(report), report.getName());
+        }
+    }
+
+    private static ColumnTable randomTable(List<ReportSetting> reports, TableSchema schema) {
+        Map<String, List<String>> candidates = new TreeMap<>();
+        Set<String> numericColumns = new TreeSet<>();
+        for (ReportSetting report : reports) {
+            report.getColumnFilters().forEach((column, values) -> {
+                List<String> columnValues = candidates.computeIfAbsent(column, c -> new ArrayList<>(List.of("Sonstiges", "")));
+                values.stream().filter(v -> !v.equals("!exclude") && !columnValues.contains(v)).forEach(columnValues::add);
+            });
+            numericColumns.addAll(report.getNumericColumns());
+        }
+
+        List<String> headers = new ArrayList<>();
+        headers.add(FilterConstants.DATE_COLUMN_EXCEL);
+        headers.addAll(candidates.keySet());
+        headers.addAll(numericColumns);
+
+        Random random = new Random(17);
+        ColumnTable.Builder builder = ColumnTable.builder(headers, schema);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            String[] row = new String[headers.size()];
+            row[0] = String.format("%02d.%02d.2024 10:00:00 UTC", 1 + random.nextInt(28), 1 + random.nextInt(12));
+            int column = 1;
+            for (List<String> values : candidates.values()) {
+                row[column++] = values.get(random.nextInt(values.size()));
+            }
+            while (column < row.length) {
+                row[column++] = random.nextInt(10) == 0 ? "" : String.format(Locale.GERMANY, "%.2f", random.nextDouble() * 200 - 100);
+            }
+            builder.appendRow(row);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.accountease.amazonseller.core;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.text.SimpleDateFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReportCache class.
+ *
+ * These tests verify that:
+ * - Reports with the same filters, numeric columns, date range and table version share one key,
+ *   regardless of their names and the order of filters and filter values.
+ * - The least recently used total is evicted once the cache is full.
+ * - Hits and misses are counted.
+ */
+@Tag("unit")
+@Epic("Report Setting Functionality")
+@DisplayName("ReportCacheTest")
+class ReportCacheTest {
+
+    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss");
+
+    @Test
+    @DisplayName("Build the same key for equivalent reports")
+    void testCanonicalKey() {
+        Map<String, List<String>> filters = new LinkedHashMap<>();
+        filters.put("Typ", List.of("Bestellung", "Erstattung"));
+        filters.put("Versand", List.of("Amazon"));
+        Map<String, List<String>> reordered = new LinkedHashMap<>();
+        reordered.put("Versand", List.of("Amazon", "Amazon"));
+        reordered.put("Typ", List.of("Erstattung", "Bestellung"));
+        reordered.put("Beschreibung", List.of());
+
+        ReportCache.Key key = key(new ReportSetting("A", filters, List.of("Umsätze")), 1);
+        assertEquals(key, key(new ReportSetting("B", reordered, List.of("Umsätze")), 1));
+        assertEquals(key.hashCode(), key(new ReportSetting("B", reordered, List.of("Umsätze")), 1).hashCode());
+
+        assertNotEquals(key, key(new ReportSetting("A", filters, List.of("Umsätze")), 2), "Versions should differ.");
+        assertNotEquals(key, key(new ReportSetting("A", filters, List.of("Gesamt")), 1));
+        assertNotEquals(key, key(new ReportSetting("A", Map.of("Typ", List.of("Bestellung", "!exclude")),
+                List.of("Umsätze")), 1));
+        assertNotEquals(key, ReportCache.Key.of(new ReportSetting("A", filters, List.of("Umsätze")), "Datum/Uhrzeit",
+                "01.01.2024 00:00:00", "31.12.2024 23:59:59", DATE_FORMAT, 1));
+    }
+
+    @Test
+    @DisplayName("Evict the least recently used total")
+    void testEviction() {
+        ReportCache cache = new ReportCache(2);
+        ReportCache.Key first = key(new ReportSetting("1", Map.of("Typ", List.of("Bestellung")), List.of("Umsätze")), 1);
+        ReportCache.Key second = key(new ReportSetting("2", Map.of("Typ", List.of("Erstattung")), List.of("Umsätze")), 1);
+        ReportCache.Key third = key(new ReportSetting("3", Map.of("Typ", List.of("Anpassung")), List.of("Umsätze")), 1);
+
+        cache.put(first, 1.0);
+        cache.put(second, 2.0);
+        assertEquals(1.0, cache.get(first));
+        cache.put(third, 3.0);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(second), "The least recently used total should be evicted.");
+        assertEquals(1.0, cache.get(first));
+        assertEquals(3.0, cache.get(third));
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(3, cache.getHits(), "Counters should survive clear().");
+        assertThrows(IllegalArgumentException.class, () -> new ReportCache(-1));
+    }
+
+    private static ReportCache.Key key(ReportSetting report, long version) {
+        return ReportCache.Key.of(report, "Datum/Uhrzeit", "01.07.2024 00:00:00", "31.12.2024 23:59:59",
+                DATE_FORMAT, version);
+    }
+}
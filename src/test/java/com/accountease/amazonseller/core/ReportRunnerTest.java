@@ -0,0 +1,135 @@
+package com.accountease.amazonseller.core;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReportRunner class.
+ *
+ * These tests verify that:
+ * - Reports run concurrently give the same totals as evaluating them one after another.
+ * - Reports run on a caller's executor leave it running, and failing reports only fail their own future.
+ * - `runAll` throws the failure of the first failing report in the order of the reports.
+ */
+@Tag("unit")
+@Epic("Report Setting Functionality")
+@DisplayName("ReportRunnerTest")
+class ReportRunnerTest {
+
+    private static final List<String> TYPES = List.of("Bestellung", "Erstattung", "Anpassung", "Servicegebühr");
+
+    @Test
+    @DisplayName("Compute the same totals as processReport, concurrently")
+    void testRunAll() {
+        ColumnTable table = table();
+        List<ReportSetting> reports = new ArrayList<>();
+        for (String type : TYPES) {
+            reports.add(new ReportSetting(type, Map.of("Typ", List.of(type)), List.of("Gesamt")));
+            reports.add(new ReportSetting("Ohne " + type, Map.of("Typ", List.of(type, "!exclude")), List.of("Gesamt")));
+        }
+
+        // Reports of several runs share one dataset: its table, date window and cube are built once
+        Dataset dataset = Dataset.of(table);
+        Map<ReportSetting, Double> totals;
+        try (ReportRunner runner = ReportRunner.create()) {
+            totals = runner.runAll(reports, dataset);
+        }
+
+        assertEquals(reports, new ArrayList<>(totals.keySet()));
+        Dataset reference = Dataset.of(table);
+        for (ReportSetting report : reports) {
+            assertEquals(report.processReport(reference), totals.get(report), 1e-6, report.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Fail only the futures of failing reports and keep the caller's executor")
+    void testSubmitOnExecutor() throws Exception {
+        Dataset dataset = Dataset.of(table());
+        ReportSetting ok = new ReportSetting("Gesamt", Map.of(), List.of("Gesamt"));
+        ReportSetting broken = new ReportSetting("Kaputt", null, null) {
+            @Override
+            public Double processReport(Dataset dataset) {
+                throw new RuntimeException("Error processing the report: broken");
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            try (ReportRunner runner = ReportRunner.using(executor)) {
+                Map<ReportSetting, CompletableFuture<Double>> futures = runner.submit(List.of(ok, broken, ok), dataset);
+
+                assertEquals(List.of(ok, broken), new ArrayList<>(futures.keySet()));
+                assertEquals(ok.processReport(dataset), futures.get(ok).get());
+                ExecutionException failure = assertThrows(ExecutionException.class, () -> futures.get(broken).get());
+                assertEquals("Error processing the report: broken", failure.getCause().getMessage());
+
+                RuntimeException thrown = assertThrows(RuntimeException.class, () -> runner.runAll(List.of(ok, broken), dataset));
+                assertEquals("Error processing the report: broken", thrown.getMessage());
+            }
+            assertFalse(executor.isShutdown(), "The caller's executor should keep running.");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Throw the failure of the first failing report in report order")
+    void testRunAllFailureOrder() {
+        Dataset dataset = Dataset.of(table());
+        CountDownLatch secondFailed = new CountDownLatch(1);
+        ReportSetting first = new ReportSetting("Erster", null, null) {
+            @Override
+            public Double processReport(Dataset dataset) {
+                try {
+                    secondFailed.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new RuntimeException("first");
+            }
+        };
+        ReportSetting second = new ReportSetting("Zweiter", null, null) {
+            @Override
+            public Double processReport(Dataset dataset) {
+                secondFailed.countDown();
+                throw new RuntimeException("second");
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (ReportRunner runner = ReportRunner.using(executor)) {
+            RuntimeException thrown = assertThrows(RuntimeException.class, () -> runner.runAll(List.of(first, second), dataset));
+            assertEquals("first", thrown.getMessage(), "The second report fails first, but the first report comes first.");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ColumnTable table() {
+        List<String> headers = List.of(FilterConstants.DATE_COLUMN_EXCEL, "Typ", "Gesamt");
+        ColumnTable.Builder builder = ColumnTable.builder(headers, TableSchema.transactionReport());
+        Random random = new Random(23);
+        for (int i = 0; i < 2000; i++) {
+            builder.appendRow(new String[]{
+                    String.format("%02d.%02d.2024 %02d:00:00 UTC", 1 + random.nextInt(28), 1 + random.nextInt(12), random.nextInt(24)),
+                    TYPES.get(random.nextInt(TYPES.size())),
+                    String.format(Locale.GERMANY, "%.2f", random.nextDouble() * 200 - 100)
+            });
+        }
+        return builder.build();
+    }
+}
@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * This class validates the basic functionality of the ReportSetting class:
  * - Constructor initialization of fields
  * - Correct implementation of the `toString` method
+ * - The columns a report reads
  *
  * The tests ensure the core properties of the ReportSetting class work as expected.
  */
@@ -60,4 +61,13 @@ class ReportSettingTest {
         String expected = "ReportSetting{name='Test Report', columnFilters={TestColumn=[Value1, Value2]}, numericColumns=[NumericColumn]}";
         assertEquals(expected, reportSetting.toString());
     }
+
+    /**
+     * Validates that `getColumns` lists the date column, the filtered columns and the numeric columns.
+     */
+    @Test
+    @DisplayName("Verify getColumns returns all columns the report reads")
+    void testGetColumns() {
+        assertEquals(List.of("Datum/Uhrzeit", "TestColumn", "NumericColumn"), List.copyOf(reportSetting.getColumns()));
+    }
 }
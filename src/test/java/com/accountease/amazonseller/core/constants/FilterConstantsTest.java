@@ -62,6 +62,22 @@ public class FilterConstantsTest {
                 "FilterConstants.COLUMN_BESTELLNUMMER does not match the expected value.");
     }
 
+    @Test
+    @DisplayName("Verify DICTIONARY_COLUMNS constant")
+    void testDictionaryColumns() {
+        assertEquals(List.of("Typ", "Versand", "Beschreibung"), FilterConstants.DICTIONARY_COLUMNS,
+                "FilterConstants.DICTIONARY_COLUMNS does not match the expected value.");
+    }
+
+    @Test
+    @DisplayName("Verify NUMERIC_COLUMNS constant")
+    void testNumericColumns() {
+        assertEquals(List.of("Verkaufsgebühren", "Umsätze", "Gesamt", "Gebühren zu Versand durch Amazon",
+                        "Rabatte aus Werbeaktionen", "Gutschrift für Versandkosten"),
+                FilterConstants.NUMERIC_COLUMNS,
+                "FilterConstants.NUMERIC_COLUMNS does not match the expected value.");
+    }
+
     @Test
     @DisplayName("Verify TYP_BESTELLUNG constant")
     void testTypBestellung() {
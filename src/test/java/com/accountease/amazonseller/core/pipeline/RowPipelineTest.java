@@ -0,0 +1,116 @@
+package com.accountease.amazonseller.core.pipeline;
+
+import com.accountease.amazonseller.core.processor.DateFilter;
+import com.accountease.amazonseller.core.processor.MultiColumnFilter;
+import com.accountease.amazonseller.core.processor.SummationProcessor;
+import com.accountease.amazonseller.core.reader.DelimitedFileReader;
+import com.accountease.amazonseller.core.reader.ExcelReader;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RowPipeline class.
+ *
+ * The tests push the rows of a small CSV report through the stages of the processors and verify that:
+ * - Date filter, column filters (including `!exclude`) and summation give the same total as the list-based processors.
+ * - Rows dropped by a stage do not reach later stages.
+ * - Only the columns read by the stages are accepted from the reader.
+ */
+@Tag("unit")
+@Epic("Streaming Row Pipeline")
+@DisplayName("RowPipelineTest")
+class RowPipelineTest {
+
+    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss");
+
+    @TempDir
+    Path tempDir;
+
+    private String testFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        testFile = tempDir.resolve("transactions.csv").toString();
+        Files.writeString(Path.of(testFile), "Preamble\n"
+                + "Datum/Uhrzeit,Typ,Beschreibung,Gesamt,Bestellnummer\n"
+                + "30.06.2024 23:59:59 UTC,Bestellung,Artikel,\"100,00\",A-1\n"
+                + "01.07.2024 10:00:00 UTC,Bestellung,Artikel,\"10,50\",A-2\n"
+                + "02.07.2024 10:00:00 UTC,Servicegebühr,Werbekosten,\"-5,00\",A-3\n"
+                + "03.07.2024 10:00:00 UTC,Servicegebühr,Lagergebühr,\"-2,25\",A-4\n"
+                + "04.07.2024 10:00:00 UTC,Bestellung,Artikel,,A-5\n", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Compute the same total as the list-based processors")
+    void testSameTotalAsListProcessors() throws IOException, ParseException {
+        Map<String, List<String>> filters = Map.of("Typ", List.of("Bestellung", "Servicegebühr"),
+                "Beschreibung", List.of("!exclude", "Werbekosten"));
+        DateFilter dateFilter = new DateFilter("Datum/Uhrzeit", "01.07.2024 00:00:00", "31.12.2024 23:59:59", DATE_FORMAT);
+
+        SummationProcessor.SumStage sum = new SummationProcessor().sumStage(List.of("Gesamt"));
+        ExcelReader.readRows(testFile, 1, RowPipeline.of(dateFilter.asStage(), new MultiColumnFilter().asStage(filters), sum));
+
+        List<Map<String, String>> rows = DelimitedFileReader.readTable(testFile, 1, DelimitedFileReader.COMMA,
+                TableSchema.empty()).asRowList();
+        Double expected = new SummationProcessor().calculateTotalSum(
+                new MultiColumnFilter().filterByColumns(filters, dateFilter.filter(rows)), List.of("Gesamt"));
+
+        assertEquals(expected, sum.getTotalSum());
+        assertEquals(8.25, sum.getTotalSum(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Stop a row at the first stage that drops it")
+    void testDroppedRowsSkipLaterStages() throws IOException {
+        List<String> reached = new ArrayList<>();
+        RowStage collector = new RowStage() {
+            @Override
+            public Set<String> getColumns() {
+                return Set.of("Bestellnummer");
+            }
+
+            @Override
+            public void onHeaders(List<String> headers) {
+            }
+
+            @Override
+            public boolean onRow(String[] values) {
+                reached.add(values[4]);
+                return true;
+            }
+        };
+
+        RowPipeline pipeline = RowPipeline.of(new MultiColumnFilter().asStage(Map.of("Typ", List.of("Servicegebühr"))), collector);
+        ExcelReader.readRows(testFile, 1, pipeline);
+
+        assertEquals(List.of("A-3", "A-4"), reached);
+        assertEquals(5, pipeline.getRowsRead());
+    }
+
+    @Test
+    @DisplayName("Accept only the columns read by the stages")
+    void testAcceptsOnlyStageColumns() {
+        RowPipeline pipeline = RowPipeline.of(
+                new MultiColumnFilter().asStage(Map.of("Typ", List.of("Bestellung"))),
+                new SummationProcessor().sumStage(List.of("Gesamt")));
+
+        assertTrue(pipeline.acceptsColumn("Typ"));
+        assertTrue(pipeline.acceptsColumn("Gesamt"));
+        assertFalse(pipeline.acceptsColumn("Beschreibung"));
+    }
+}
@@ -1,5 +1,8 @@
 package com.accountease.amazonseller.core.processor;
 
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowSelection;
+import com.accountease.amazonseller.core.table.TableSchema;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -121,4 +124,36 @@ class DateFilterTest {
                 "Expected constructor to throw ParseException for invalid end date."
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Filter rows of a column table")
+    void testFilterTable() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of(DATE_COLUMN_EXCEL, "value"));
+        builder.appendRow(new String[]{"05.01.2025 12:30:00 UTC", "valid"});
+        builder.appendRow(new String[]{"15.01.2025 08:45:00 UTC", "outOfRange"});
+        builder.appendRow(new String[]{"", "missingDate"});
+        builder.appendRow(new String[]{"DateFilterTestDate", "invalid"});
+        ColumnTable table = builder.build();
+
+        RowSelection result = dateFilter.filter(table, table.allRows());
+
+        assertArrayEquals(new int[]{0}, result.toArray(), "Expected only the row inside the range.");
+    }
+
+    @Test
+    @DisplayName("Filter rows of a column table through its timestamp index")
+    void testFilterTimestampTable() {
+        TableSchema schema = TableSchema.empty().withTimestamp(DATE_COLUMN_EXCEL, DATE_FORMAT.toPattern());
+        ColumnTable.Builder builder = ColumnTable.builder(List.of(DATE_COLUMN_EXCEL, "value"), schema);
+        builder.appendRow(new String[]{"10.01.2025 23:59:59 UTC", "lastSecond"});
+        builder.appendRow(new String[]{"15.01.2025 08:45:00 UTC", "outOfRange"});
+        builder.appendRow(new String[]{"01.01.2025 00:00:00 UTC", "firstSecond"});
+        builder.appendRow(new String[]{"DateFilterTestDate", "invalid"});
+        ColumnTable table = builder.build();
+
+        assertArrayEquals(new int[]{0, 2}, dateFilter.filter(table, table.allRows()).toArray(),
+                "Expected the rows on both range boundaries.");
+        assertArrayEquals(new int[]{2}, dateFilter.filter(table, RowSelection.of(new int[]{1, 2, 3}, 3)).toArray(),
+                "Expected the result to be limited to the given selection.");
+    }
+}
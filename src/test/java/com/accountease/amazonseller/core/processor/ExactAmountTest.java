@@ -0,0 +1,90 @@
+package com.accountease.amazonseller.core.processor;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ExactAmount class.
+ *
+ * These tests verify that:
+ * - Decimal strings with a comma or a point are parsed into the same cents as `BigDecimal` rounds them to.
+ * - Text that is not a plain decimal number is rejected, so callers can fall back to `Double.parseDouble`.
+ * - Doubles of amounts convert back to their exact cents, rounded half up like their decimal strings,
+ *   and overflowing sums throw.
+ */
+@Tag("unit")
+@Epic("Summation Processor")
+@DisplayName("ExactAmountTest")
+class ExactAmountTest {
+
+    @Test
+    @DisplayName("Parse decimal strings into cents")
+    void testParseCents() {
+        assertEquals(1234, ExactAmount.parseCents("12,34"));
+        assertEquals(1234, ExactAmount.parseCents(" 12.34 "));
+        assertEquals(-50, ExactAmount.parseCents("-0,5"));
+        assertEquals(50, ExactAmount.parseCents(",5"));
+        assertEquals(100_000, ExactAmount.parseCents("+1000"));
+        assertEquals(100, ExactAmount.parseCents("1."));
+        assertEquals(13, ExactAmount.parseCents("0,125"), "Rounded half up.");
+        assertEquals(-13, ExactAmount.parseCents("-0,1250"), "Rounded away from zero.");
+        assertEquals(12, ExactAmount.parseCents("0,1249999"));
+
+        for (String invalid : List.of("", "  ", "-", "1.234,56", "1e3", "abc", "12,34 EUR", "99999999999999999999")) {
+            assertEquals(ExactAmount.NOT_A_NUMBER, ExactAmount.parseCents(invalid), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("Agree with BigDecimal on random amounts")
+    void testParseCentsMatchesBigDecimal() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            String text = String.format(Locale.GERMANY, "%." + random.nextInt(5) + "f", (random.nextDouble() - 0.5) * 1e6);
+            long expected = new BigDecimal(text.replace(".", "").replace(",", "."))
+                    .setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            assertEquals(expected, ExactAmount.parseCents(text.replace(".", "")), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Round doubles like their decimal strings")
+    void testToCentsMatchesParseCents() {
+        Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            String text = String.format(Locale.ROOT, "%." + (2 + random.nextInt(3)) + "f", (random.nextDouble() - 0.5) * 1e6);
+            if (i % 2 == 0) {
+                text = text.substring(0, text.length() - 1) + "5"; // A half cent or more digits ending in 5
+            }
+            assertEquals(ExactAmount.parseCents(text), ExactAmount.toCents(Double.parseDouble(text)), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Convert doubles and add amounts exactly")
+    void testArithmetic() {
+        assertEquals(29, ExactAmount.toCents(0.29));
+        assertEquals(-123_456_789_01L, ExactAmount.toCents(-123_456_789.01));
+        assertThrows(ArithmeticException.class, () -> ExactAmount.toCents(Double.NaN));
+        assertThrows(ArithmeticException.class, () -> ExactAmount.toCents(1e30));
+        assertEquals(101, ExactAmount.toCents(1.005), "Rounded half up like \"1.005\", not to the nearest cent of the double.");
+        assertEquals(-101, ExactAmount.toCents(-1.005));
+        assertEquals(100, ExactAmount.toCents(1.0049999));
+
+        ExactAmount sum = ExactAmount.parse("0,10").plus(ExactAmount.parse("0.20"));
+        assertEquals(ExactAmount.ofCents(30), sum);
+        assertEquals(new BigDecimal("0.30"), sum.toBigDecimal());
+        assertEquals(0.3, sum.doubleValue());
+        assertEquals(ExactAmount.ofCents(100_000), ExactAmount.parse("1e3"));
+        assertThrows(NumberFormatException.class, () -> ExactAmount.parse("invalid"));
+        assertThrows(ArithmeticException.class, () -> ExactAmount.ofCents(Long.MAX_VALUE).plus(ExactAmount.ofCents(1)));
+    }
+}
@@ -1,5 +1,9 @@
 package com.accountease.amazonseller.core.processor;
 
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowBitmap;
+import com.accountease.amazonseller.core.table.RowSelection;
+import com.accountease.amazonseller.core.table.TableSchema;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -228,4 +232,127 @@ class MultiColumnFilterTest {
 
         assertTrue(result.isEmpty(), "Result should be empty when data is empty.");
     }
+
+    @Test
+    @DisplayName("Filter a column table - Validate selected rows")
+    void testFilterByColumnsTable() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB"));
+        for (Map<String, String> row : testData) {
+            builder.appendRow(new String[]{row.get("testColumnA"), row.get("testColumnB")});
+        }
+        ColumnTable table = builder.build();
+        Map<String, List<String>> columnFilters = Map.of(
+                "testColumnA", List.of("testValue1"),
+                "testColumnB", List.of("!exclude", "testValue3")
+        );
+
+        RowSelection result = multiColumnFilter.filterByColumns(columnFilters, table, table.allRows());
+
+        assertArrayEquals(new int[]{0}, result.toArray(), "Only the first row should match both filters.");
+    }
+
+    @Test
+    @DisplayName("Filter a dictionary-encoded column table - Validate selected rows")
+    void testFilterByColumnsDictionaryTable() {
+        TableSchema schema = TableSchema.empty()
+                .with("testColumnA", TableSchema.ColumnType.DICTIONARY)
+                .with("testColumnB", TableSchema.ColumnType.DICTIONARY);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB"), schema);
+        for (Map<String, String> row : testData) {
+            builder.appendRow(new String[]{row.get("testColumnA"), row.get("testColumnB")});
+        }
+        ColumnTable table = builder.build();
+        Map<String, List<String>> columnFilters = Map.of(
+                "testColumnA", List.of("testValue3"),
+                "testColumnB", List.of("!exclude", "testValue4")
+        );
+
+        RowSelection result = multiColumnFilter.filterByColumns(columnFilters, table, table.allRows());
+
+        assertArrayEquals(new int[]{3}, result.toArray(), "Only the last row should match both filters.");
+    }
+
+    @Test
+    @DisplayName("Filter a UTF-8 arena column table - Validate selected rows")
+    void testFilterByColumnsUtf8Table() {
+        TableSchema schema = TableSchema.empty()
+                .with("testColumnA", TableSchema.ColumnType.UTF8)
+                .with("testColumnB", TableSchema.ColumnType.UTF8);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB"), schema);
+        for (Map<String, String> row : testData) {
+            builder.appendRow(new String[]{row.get("testColumnA"), row.get("testColumnB")});
+        }
+        ColumnTable table = builder.build();
+        Map<String, List<String>> columnFilters = Map.of(
+                "testColumnA", List.of("testValue1", "testValue3"),
+                "testColumnB", List.of("!exclude", "testValue4")
+        );
+
+        RowSelection result = multiColumnFilter.filterByColumns(columnFilters, table, table.allRows());
+
+        assertArrayEquals(new int[]{0, 2, 3}, result.toArray(),
+                "Rows should match as for text columns, but be compared on raw bytes.");
+    }
+
+    @Test
+    @DisplayName("Filter a dictionary-encoded table by index, by bitmap and by scan - Validate selected rows")
+    void testFilterByColumnsCostBased() {
+        TableSchema schema = TableSchema.empty()
+                .with("Typ", TableSchema.ColumnType.DICTIONARY)
+                .with("Beschreibung", TableSchema.ColumnType.DICTIONARY);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Beschreibung", "Nummer"), schema);
+        Random random = new Random(3);
+        String[] types = {"Bestellung", "Bestellung", "Bestellung", "Erstattung", "Servicegebühr"};
+        for (int i = 0; i < 5000; i++) {
+            String description = random.nextInt(200) == 0 ? "Werbekosten" : "Artikel " + random.nextInt(20);
+            builder.appendRow(new String[]{types[random.nextInt(types.length)], description, String.valueOf(i % 7)});
+        }
+        ColumnTable table = builder.build();
+        List<Map<String, List<String>>> filters = List.of(
+                Map.of("Typ", List.of("Bestellung"), "Beschreibung", List.of("Werbekosten")),
+                Map.of("Typ", List.of("!exclude", "Erstattung"), "Beschreibung", List.of("Artikel 1", "Artikel 2")),
+                Map.of("Typ", List.of("Anpassung")),
+                Map.of("Typ", List.of("!exclude", "Anpassung"), "Nummer", List.of("3")),
+                Map.of("Beschreibung", List.of("Werbekosten"), "Fehlt", List.of("!exclude", "x"))
+        );
+
+        for (Map<String, List<String>> columnFilters : filters) {
+            for (RowSelection selection : List.of(table.allRows(), everyOtherRow(table), RowSelection.of(new int[]{1, 4000}, 2))) {
+                List<Integer> expected = new ArrayList<>();
+                List<Map<String, String>> rows = table.asRowList(selection);
+                List<Map<String, String>> matching = multiColumnFilter.filterByColumns(columnFilters, rows);
+                for (int i = 0, j = 0; i < rows.size() && j < matching.size(); i++) {
+                    if (rows.get(i).equals(matching.get(j))) {
+                        expected.add(selection.get(i));
+                        j++;
+                    }
+                }
+
+                RowSelection result = multiColumnFilter.filterByColumns(columnFilters, table, selection);
+
+                assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), result.toArray(),
+                        "Rows should not depend on the order or strategy of the filters: " + columnFilters);
+                assertArrayEquals(result.toArray(),
+                        multiColumnFilter.filterByColumns(columnFilters, table, RowBitmap.of(selection)).toArray(),
+                        "Bitmap filters should select the same rows: " + columnFilters);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Choose index lookups only where they touch fewer rows than a scan")
+    void testUseIndex() {
+        assertTrue(MultiColumnFilter.useIndex(100, 10000, 10000));
+        assertFalse(MultiColumnFilter.useIndex(6000, 10000, 10000));
+        assertTrue(MultiColumnFilter.useIndex(10, 5000, 10000));
+        assertFalse(MultiColumnFilter.useIndex(1000, 5000, 10000));
+    }
+
+    private static RowSelection everyOtherRow(ColumnTable table) {
+        RowSelection.Builder builder = new RowSelection.Builder(table.getRowCount() / 2);
+        for (int row = 0; row < table.getRowCount(); row += 2) {
+            builder.add(row);
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,90 @@
+package com.accountease.amazonseller.core.processor;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowBitmap;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput benchmark for the exact summation of SummationProcessor.
+ *
+ * Tagged `benchmark`, so it only runs with `mvn test -Pbenchmark`. It sums two million amounts with
+ * `calculateTotalSum` (doubles) and `calculateExactSum` (cents), once from a text column and once from a
+ * numeric column, prints the best throughput of several rounds and verifies that:
+ * - The exact sum of text values is at least as fast as the double sum, which parses with `Double.parseDouble`.
+ * - The exact sum of a numeric column, which rounds every value to cents, keeps at least half the speed of adding
+ *   the doubles.
+ */
+@Tag("benchmark")
+@Epic("Summation Processor")
+@DisplayName("SummationBenchmarkTest")
+class SummationBenchmarkTest {
+
+    private static final int ROWS = 2_000_000;
+    private static final int ROUNDS = 10;
+
+    private static ColumnTable table;
+
+    private final SummationProcessor summationProcessor = new SummationProcessor();
+
+    @BeforeAll
+    static void setUp() {
+        TableSchema schema = TableSchema.empty().with("numeric", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("text", "numeric"), schema);
+        Random random = new Random(42);
+        for (int row = 0; row < ROWS; row++) {
+            String amount = String.format(Locale.GERMANY, "%.2f", (random.nextInt(2_000_000) - 1_000_000) / 100.0);
+            builder.appendRow(new String[]{amount, amount});
+        }
+        table = builder.build();
+    }
+
+    @Test
+    @DisplayName("Sum text values exactly at least as fast as doubles")
+    void testTextThroughput() {
+        List<String> columns = List.of("text");
+        RowBitmap rows = RowBitmap.all(ROWS);
+
+        double doubles = throughput(() -> summationProcessor.calculateTotalSum(table, rows, columns));
+        double cents = throughput(() -> summationProcessor.calculateExactSum(table, rows, columns));
+
+        System.out.printf("Text column: double sum %.1f M rows/s, exact sum %.1f M rows/s%n", doubles, cents);
+        assertTrue(cents >= doubles, "The exact sum should not be slower than the double sum.");
+    }
+
+    @Test
+    @DisplayName("Sum numeric columns exactly at comparable speed")
+    void testNumericThroughput() {
+        List<String> columns = List.of("numeric");
+        RowBitmap rows = RowBitmap.all(ROWS);
+
+        double doubles = throughput(() -> summationProcessor.calculateTotalSum(table, rows, columns));
+        double cents = throughput(() -> summationProcessor.calculateExactSum(table, rows, columns));
+
+        System.out.printf("Numeric column: double sum %.1f M rows/s, exact sum %.1f M rows/s%n", doubles, cents);
+        assertTrue(cents >= doubles / 2, "The exact sum should keep at least half the speed of the double sum.");
+    }
+
+    /**
+     * Returns the best throughput of several rounds, in millions of rows per second.
+     */
+    private static double throughput(Supplier<Object> sum) {
+        Object first = sum.get();
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            Object result = sum.get();
+            best = Math.min(best, System.nanoTime() - start);
+            assertEquals(first, result);
+        }
+        return ROWS / (best / 1e3);
+    }
+}
@@ -1,5 +1,8 @@
 package com.accountease.amazonseller.core.processor;
 
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.RowBitmap;
+import com.accountease.amazonseller.core.table.TableSchema;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -154,4 +157,130 @@ class SummationProcessorTest {
         assertEquals(50.5, result, 0.001, "Expected total sum for mixed cases to be 50.5.");
     }
 
+    @Test
+    @DisplayName("Calculate total sum over a column table")
+    void testCalculateTotalSumTable() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB", "testColumnC"));
+        for (Map<String, String> row : testData) {
+            builder.appendRow(new String[]{row.get("testColumnA"), row.get("testColumnB"), row.get("testColumnC")});
+        }
+        ColumnTable table = builder.build();
+        List<String> numericColumns = List.of("testColumnA", "testColumnB", "testColumnMissing");
+
+        Double result = summationProcessor.calculateTotalSum(table, table.allRows(), numericColumns);
+
+        assertEquals(83.5, result, 0.001, "Expected the same total as for the list of row maps.");
+    }
+
+    @Test
+    @DisplayName("Calculate total sum over numeric columns parsed at load time")
+    void testCalculateTotalSumNumericTable() {
+        TableSchema schema = TableSchema.empty()
+                .with("testColumnA", TableSchema.ColumnType.NUMERIC)
+                .with("testColumnC", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB", "testColumnC"), schema);
+        for (Map<String, String> row : testData) {
+            builder.appendRow(new String[]{row.get("testColumnA"), row.get("testColumnB"), row.get("testColumnC")});
+        }
+        ColumnTable table = builder.build();
+        List<String> numericColumns = List.of("testColumnA", "testColumnB", "testColumnC");
+
+        Double result = summationProcessor.calculateTotalSum(table, table.allRows(), numericColumns);
+
+        assertEquals(191.0, result, 0.001, "Expected the same total as for the list of row maps.");
+    }
+
+    @Test
+    @DisplayName("Calculate total sum over the rows of a bitmap")
+    void testCalculateTotalSumBitmap() {
+        TableSchema schema = TableSchema.empty().with("testColumnA", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB", "testColumnC"), schema);
+        for (Map<String, String> row : testData) {
+            builder.appendRow(new String[]{row.get("testColumnA"), row.get("testColumnB"), row.get("testColumnC")});
+        }
+        ColumnTable table = builder.build();
+        List<String> numericColumns = List.of("testColumnA", "testColumnB", "testColumnC");
+
+        Double result = summationProcessor.calculateTotalSum(table, RowBitmap.all(table.getRowCount()), numericColumns);
+
+        assertEquals(summationProcessor.calculateTotalSum(table, table.allRows(), numericColumns), result,
+                "Expected the same total as for a row selection.");
+        assertEquals(0.0, summationProcessor.calculateTotalSum(table, RowBitmap.empty(), numericColumns));
+    }
+
+    @Test
+    @DisplayName("Add up each column of a table before adding the columns")
+    void testCalculateTotalSumColumnOrder() {
+        TableSchema schema = TableSchema.empty().with("testColumnA", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB"), schema);
+        builder.appendRow(new String[]{"1", "10000000000000000"});
+        builder.appendRow(new String[]{"0", "-10000000000000000"});
+        ColumnTable table = builder.build();
+        List<String> numericColumns = List.of("testColumnA", "testColumnB");
+
+        // 1 + (1e16 - 1e16) per column, but (1 + 1e16) loses the 1 when adding row by row
+        assertEquals(1.0, summationProcessor.calculateTotalSum(table, table.allRows(), numericColumns));
+        assertEquals(1.0, summationProcessor.calculateTotalSum(table, RowBitmap.all(2), numericColumns));
+        assertEquals(0.0, summationProcessor.calculateTotalSum(table.asRowList(), numericColumns));
+        assertEquals(1.0, summationProcessor.calculateTotalSum(table, table.allRows(), List.of("testColumnA"))
+                + summationProcessor.calculateTotalSum(table, table.allRows(), List.of("testColumnB")));
+    }
+
+    @Test
+    @DisplayName("Calculate an exact total in cents")
+    void testCalculateExactSum() {
+        TableSchema schema = TableSchema.empty().with("testColumnA", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB"), schema);
+        double doubleTotal = 0.0;
+        for (int i = 0; i < 100_000; i++) {
+            builder.appendRow(new String[]{"0,10", i % 2 == 0 ? "0.20" : "invalid"});
+            doubleTotal += 0.10;
+        }
+        ColumnTable table = builder.build();
+        List<String> numericColumns = List.of("testColumnA", "testColumnB", "missingColumn");
+
+        ExactAmount exact = summationProcessor.calculateExactSum(table, table.allRows(), numericColumns);
+
+        assertEquals(ExactAmount.ofCents(2_000_000), exact, "10,000.00 + 10,000.00 in cents.");
+        assertEquals("20000.00", exact.toString());
+        assertNotEquals(10_000.0, doubleTotal, "Adding doubles drifts; adding cents does not.");
+        assertEquals(exact, summationProcessor.calculateExactSum(table, RowBitmap.all(table.getRowCount()), numericColumns));
+        assertEquals(ExactAmount.ZERO, summationProcessor.calculateExactSum(table, RowBitmap.empty(), numericColumns));
+        assertEquals(ExactAmount.ZERO, summationProcessor.calculateExactSum(table, table.allRows(), null));
+    }
+
+    @Test
+    @DisplayName("Round numeric and text columns alike")
+    void testCalculateExactSumRounding() {
+        TableSchema schema = TableSchema.empty().with("testColumnA", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA", "testColumnB"), schema);
+        builder.appendRow(new String[]{"1.005", "1.005"});
+        builder.appendRow(new String[]{"-2,675", "-2,675"});
+        ColumnTable table = builder.build();
+
+        ExactAmount numeric = summationProcessor.calculateExactSum(table, table.allRows(), List.of("testColumnA"));
+        ExactAmount text = summationProcessor.calculateExactSum(table, table.allRows(), List.of("testColumnB"));
+
+        assertEquals(ExactAmount.ofCents(101 - 268), numeric, "1.01 - 2.68, rounded half up.");
+        assertEquals(numeric, text);
+    }
+
+    @Test
+    @DisplayName("Calculate an exact total next to an unselected NaN cell")
+    void testCalculateExactSumOutsideSelection() {
+        TableSchema schema = TableSchema.empty().with("testColumnA", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("testColumnA"), schema);
+        builder.appendRow(new String[]{"1,50"});
+        builder.appendRow(new String[]{"NaN"});
+        builder.appendRow(new String[]{"2,25"});
+        ColumnTable table = builder.build();
+        List<String> numericColumns = List.of("testColumnA");
+
+        assertEquals(ExactAmount.ofCents(375), summationProcessor.calculateExactSum(table, RowBitmap.of(0, 2), numericColumns));
+        assertEquals(ExactAmount.ofCents(375), summationProcessor.calculateExactSum(table, RowBitmap.of(0, 2).toSelection(), numericColumns));
+        assertThrows(ArithmeticException.class,
+                () -> summationProcessor.calculateExactSum(table, RowBitmap.all(3), numericColumns));
+        assertThrows(ArithmeticException.class,
+                () -> summationProcessor.calculateExactSum(table, table.allRows(), numericColumns));
+    }
 }
@@ -1,5 +1,7 @@
 package com.accountease.amazonseller.core.processor;
 
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
 import io.qameta.allure.Epic;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -312,4 +314,37 @@ class UniqueValuesProcessorTest {
         assertThrows(IllegalArgumentException.class, () -> processor.extractUniqueValuesFromLastNumericColumn(data, numericColumns, null));
     }
 
+    @Tag("Non-isolated unit tests")
+    @DisplayName("Verify unique values are extracted from a filtered column table")
+    @Test
+    void testExtractUniqueValuesFromLastNumericColumn_Table() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("TestColumn1", "TestColumn2"));
+        builder.appendRow(new String[]{"10", "A"});
+        builder.appendRow(new String[]{"20", "B"});
+        builder.appendRow(new String[]{"10", "A"});
+        builder.appendRow(new String[]{"30", "C"});
+        ColumnTable table = builder.build();
+
+        List<String> result = processor.extractUniqueValuesFromLastNumericColumn(
+                table, table.allRows(), List.of("TestColumn1"), Map.of("TestColumn2", List.of("A", "B")));
+
+        assertEquals(List.of("10", "20"), result);
+    }
+
+    @Tag("unit")
+    @DisplayName("Verify unique values of a UTF-8 arena column are deduplicated on raw bytes")
+    @Test
+    void testGetUniqueValues_Utf8Table() {
+        TableSchema schema = TableSchema.empty().with("TestColumn1", TableSchema.ColumnType.UTF8);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("TestColumn1"), schema);
+        builder.appendRow(new String[]{"302-Ä"});
+        builder.appendRow(new String[]{" 302-Ä "});
+        builder.appendRow(new String[]{""});
+        builder.appendRow(new String[]{"302-B"});
+        ColumnTable table = builder.build();
+
+        List<String> result = processor.getUniqueValues(table, table.allRows(), "TestColumn1");
+
+        assertEquals(List.of("302-Ä", "302-B"), result);
+    }
 }
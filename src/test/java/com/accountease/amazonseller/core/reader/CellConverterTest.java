@@ -0,0 +1,46 @@
+package com.accountease.amazonseller.core.reader;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the number parsing of the CellConverter class.
+ *
+ * These tests verify that numbers parsed straight from the XML text are bit-for-bit identical
+ * to `Double.parseDouble`, both on the fast path and for values that fall back to it.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("CellConverterTest")
+class CellConverterTest {
+
+    @Test
+    @DisplayName("Parse numbers exactly like Double.parseDouble")
+    void testParseNumberMatchesParseDouble() {
+        String[] samples = {"0", "-0", "12.5", "-3.2", " 7 ", "0.05", "100", "1.0E7", "1E-5", "2.5e+3",
+                "123456789012345", "1234567890123456789", "0.1234567890123456789", "1e300", "4.9E-324",
+                ".5", "5.", "+8", "0.0000001"};
+        for (String sample : samples) {
+            assertEquals(Double.parseDouble(sample), CellConverter.parseNumber(new StringBuilder(sample)), sample);
+        }
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            String value = random.nextInt(4) == 0
+                    ? Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(30) - 10))
+                    : (random.nextInt(2000000) - 1000000) / 100.0 + "";
+            assertEquals(Double.parseDouble(value), CellConverter.parseNumber(value), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Throw NumberFormatException for text that is not a number")
+    void testInvalidNumber() {
+        assertThrows(NumberFormatException.class, () -> CellConverter.parseNumber("12,5"));
+        assertThrows(NumberFormatException.class, () -> CellConverter.parseNumber(""));
+    }
+}
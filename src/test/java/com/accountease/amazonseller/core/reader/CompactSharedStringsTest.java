@@ -0,0 +1,72 @@
+package com.accountease.amazonseller.core.reader;
+
+import io.qameta.allure.Epic;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CompactSharedStrings class.
+ *
+ * These tests verify that every entry of a shared strings table is resolved exactly like
+ * POI's `ReadOnlySharedStringsTable`, including rich text runs, phonetic runs, escapes and
+ * non-ASCII text, and that a workbook without shared strings yields an empty table.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("CompactSharedStringsTest")
+class CompactSharedStringsTest {
+
+    private static final String SHARED_STRINGS_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" count=\"9\" uniqueCount=\"5\">"
+            + "<si><t>Bestellung</t></si>"
+            + "<si><t xml:space=\"preserve\"> Umsätze </t></si>"
+            + "<si><r><rPr><b/></rPr><t>Versand durch </t></r><r><t>Amazon</t></r></si>"
+            + "<si><t>Zeile 1_x000D_Zeile 2 _x12_</t></si>"
+            + "<si><t>東京</t><rPh sb=\"0\" eb=\"2\"><t>トウキョウ</t></rPh></si>"
+            + "</sst>";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Resolve every entry like ReadOnlySharedStringsTable")
+    void testEntriesMatchPoi() throws Exception {
+        byte[] xml = SHARED_STRINGS_XML.getBytes(StandardCharsets.UTF_8);
+        CompactSharedStrings compact = CompactSharedStrings.load(new ByteArrayInputStream(xml));
+        ReadOnlySharedStringsTable poi = new ReadOnlySharedStringsTable(new ByteArrayInputStream(xml));
+
+        assertEquals(poi.getUniqueCount(), compact.getUniqueCount());
+        assertEquals(poi.getCount(), compact.getCount());
+        for (int i = 0; i < poi.getUniqueCount(); i++) {
+            assertEquals(poi.getItemAt(i).getString(), compact.getString(i), "Entry " + i);
+            assertEquals(poi.getItemAt(i).getString(), compact.getItemAt(i).getString(), "Entry " + i);
+        }
+        assertEquals("Zeile 1\rZeile 2 _x12_", compact.getString(3));
+    }
+
+    @Test
+    @DisplayName("Load an empty table for a workbook without shared strings")
+    void testWorkbookWithoutSharedStrings() throws Exception {
+        Path file = tempDir.resolve("numbers.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(file.toFile())) {
+            workbook.createSheet("Report").createRow(0).createCell(0).setCellValue(1.5);
+            workbook.write(out);
+        }
+
+        try (OPCPackage pkg = OPCPackage.open(file.toString(), PackageAccess.READ)) {
+            CompactSharedStrings compact = CompactSharedStrings.load(pkg);
+            assertEquals(0, compact.getUniqueCount());
+        }
+    }
+}
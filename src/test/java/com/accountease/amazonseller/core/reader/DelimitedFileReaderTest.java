@@ -0,0 +1,157 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.NumericColumn;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DelimitedFileReader class.
+ *
+ * The tests write small CSV/TSV files into a temporary directory and verify that:
+ * - Preamble records before `headerRowIndex` are ignored.
+ * - Quoted fields may contain delimiters, line breaks and escaped quotes.
+ * - Empty lines are skipped, missing fields become empty strings and values are trimmed.
+ * - Records spanning chunk boundaries are parsed correctly.
+ * - A missing header row or file results in the same exceptions as for Excel files.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("DelimitedFileReaderTest")
+class DelimitedFileReaderTest {
+
+    private static final String CSV_CONTENT = "\uFEFF\"Enthält Transaktionen, Zeitraum 01.01.2024 - 31.01.2024\"\r\n"
+            + "\"Alle Beträge in EUR\"\r\n"
+            + "\"Typ\",\"Versand\",\"Beschreibung\",\"Umsätze\"\r\n"
+            + "\"Bestellung\",\"Amazon\",\"Kabel, 2 m \"\"USB-C\"\"\",\"12,50\"\r\n"
+            + "\r\n"
+            + "\"Erstattung \",,\"Zeile 1\nZeile 2\"\r\n"
+            + "Übertrag,Verkäufer,,\"-3,20\"";
+
+    @TempDir
+    Path tempDir;
+
+    private String testFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        testFile = tempDir.resolve("transactions.csv").toString();
+        Files.writeString(Path.of(testFile), CSV_CONTENT, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Pass headers and aligned row values to the handler")
+    void testRowHandlerReceivesAlignedValues() throws IOException {
+        List<String> headers = new ArrayList<>();
+        List<Integer> rowIndexes = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
+
+        DelimitedFileReader.readDelimited(testFile, 2, DelimitedFileReader.COMMA, collector(headers, rowIndexes, rows));
+
+        assertEquals(List.of("Typ", "Versand", "Beschreibung", "Umsätze"), headers);
+        assertEquals(List.of(3, 5, 6), rowIndexes, "Empty lines should count as rows but be skipped.");
+        assertArrayEquals(new String[]{"Bestellung", "Amazon", "Kabel, 2 m \"USB-C\"", "12,50"}, rows.get(0));
+        assertArrayEquals(new String[]{"Erstattung", "", "Zeile 1\nZeile 2", ""}, rows.get(1));
+        assertArrayEquals(new String[]{"Übertrag", "Verkäufer", "", "-3,20"}, rows.get(2));
+    }
+
+    @Test
+    @DisplayName("Parse records spanning chunk boundaries")
+    void testRecordsSpanningChunks() throws IOException {
+        List<String[]> expected = new ArrayList<>();
+        DelimitedFileReader.readDelimited(testFile, 2, DelimitedFileReader.COMMA,
+                collector(new ArrayList<>(), new ArrayList<>(), expected));
+
+        for (int chunkSize = 1; chunkSize <= 7; chunkSize++) {
+            List<String[]> rows = new ArrayList<>();
+            DelimitedFileReader.read(testFile, 2, DelimitedFileReader.COMMA, StandardCharsets.UTF_8,
+                    collector(new ArrayList<>(), new ArrayList<>(), rows), chunkSize);
+
+            assertEquals(expected.size(), rows.size(), "Chunk size " + chunkSize);
+            for (int i = 0; i < rows.size(); i++) {
+                assertArrayEquals(expected.get(i), rows.get(i), "Chunk size " + chunkSize);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Read a tab-separated file into a typed column table")
+    void testReadTableFromTsv() throws IOException {
+        Path tsv = tempDir.resolve("transactions.tsv");
+        Files.writeString(tsv, "Typ\tUmsätze\nBestellung\t12,50\nErstattung\t-3,20\n", StandardCharsets.UTF_8);
+
+        ColumnTable table = DelimitedFileReader.readTable(tsv.toString(), 0, DelimitedFileReader.TAB,
+                TableSchema.empty().with("Umsätze", TableSchema.ColumnType.NUMERIC));
+
+        assertEquals(List.of("Typ", "Umsätze"), table.getHeaders());
+        assertEquals(2, table.getRowCount());
+        assertEquals("Erstattung", table.getValue(1, "Typ"));
+        assertEquals(-3.2, ((NumericColumn) table.getColumn("Umsätze")).getDouble(1), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Leave out columns outside the projection")
+    void testReadTableWithProjection() throws IOException {
+        ColumnTable table = DelimitedFileReader.readTable(testFile, 2, DelimitedFileReader.COMMA,
+                TableSchema.empty().withProjection(List.of("Typ", "Umsätze")));
+
+        assertEquals(List.of("Typ", "Umsätze"), table.getHeaders());
+        assertEquals(3, table.getRowCount());
+        assertEquals("-3,20", table.getValue(2, "Umsätze"));
+        assertNull(table.getValue(0, "Beschreibung"));
+    }
+
+    @Test
+    @DisplayName("Throw IllegalArgumentException if header row is missing")
+    void testHeaderRowIsMissing() throws IOException {
+        Path file = tempDir.resolve("gap.csv");
+        Files.writeString(file, "Preamble\n\nTyp,Versand\nBestellung,Amazon\n", StandardCharsets.UTF_8);
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> DelimitedFileReader.readTable(file.toString(), 1, DelimitedFileReader.COMMA, TableSchema.empty()));
+
+        assertTrue(exception.getMessage().contains("Header row not found at index"));
+    }
+
+    @Test
+    @DisplayName("Throw IllegalArgumentException if header row index is beyond the file")
+    void testHeaderRowIndexBeyondFile() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DelimitedFileReader.readTable(testFile, 1000, DelimitedFileReader.COMMA, TableSchema.empty()));
+    }
+
+    @Test
+    @DisplayName("Throw FileNotFoundException for a missing file")
+    void testMissingFile() {
+        assertThrows(FileNotFoundException.class,
+                () -> DelimitedFileReader.readTable(tempDir.resolve("missing.csv").toString(), 0,
+                        DelimitedFileReader.COMMA, TableSchema.empty()));
+    }
+
+    private static SheetRowHandler collector(List<String> headers, List<Integer> rowIndexes, List<String[]> rows) {
+        return new SheetRowHandler() {
+            @Override
+            public void onHeaders(List<String> h) {
+                headers.addAll(h);
+            }
+
+            @Override
+            public void onRow(int rowIndex, String[] values) {
+                rowIndexes.add(rowIndex);
+                rows.add(values);
+            }
+        };
+    }
+}
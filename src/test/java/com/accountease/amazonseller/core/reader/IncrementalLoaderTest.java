@@ -0,0 +1,171 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.NumericColumn;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the IncrementalLoader class.
+ *
+ * The tests grow report files in a temporary directory and verify that:
+ * - Rows appended to a file are added to the table without reading the whole file again.
+ * - A new loader continues from the state saved by the previous one.
+ * - A file whose loaded rows changed is loaded again completely.
+ * - Tables returned by earlier loads keep their rows.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("IncrementalLoaderTest")
+class IncrementalLoaderTest {
+
+    private static final String HEADER = "Preamble\nDatum/Uhrzeit,Typ,Gesamt\n";
+    private static final TableSchema SCHEMA = TableSchema.transactionReport();
+
+    @TempDir
+    Path tempDir;
+
+    private Path csv;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        csv = tempDir.resolve("transactions.csv");
+        Files.writeString(csv, HEADER
+                + "01.07.2024 10:00:00 UTC,Bestellung,\"10,00\"\n"
+                + "02.07.2024 11:00:00 UTC,Erstattung,\"-2,50\"\n", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Append only the rows added to a CSV file")
+    void testAppendTail() throws IOException {
+        IncrementalLoader loader = new IncrementalLoader(csv.toString(), 1, SCHEMA);
+        ColumnTable first = loader.load();
+        assertTrue(loader.isLastLoadFull());
+        assertEquals(2, loader.getHighWaterMark().getRowCount());
+        assertEquals("02.07.2024 11:00:00 UTC", loader.getHighWaterMark().getLastTimestamp());
+
+        append(csv, "03.07.2024 12:00:00 UTC,Bestellung,\"4,00\"\n");
+        ColumnTable second = loader.load();
+
+        assertFalse(loader.isLastLoadFull());
+        assertEquals(1, loader.getAppendedRowCount());
+        assertEquals(3, second.getRowCount());
+        assertEquals(4.0, ((NumericColumn) second.getColumn("Gesamt")).getDouble(2), 1e-9);
+        assertEquals(2, first.getRowCount(), "Earlier tables should keep their rows.");
+    }
+
+    @Test
+    @DisplayName("Append the rows added to a CSV file with a projected schema")
+    void testAppendTailWithProjection() throws IOException {
+        IncrementalLoader loader = new IncrementalLoader(csv.toString(), 1,
+                SCHEMA.withProjection(List.of("Datum/Uhrzeit", "Gesamt")));
+        loader.load();
+
+        append(csv, "03.07.2024 12:00:00 UTC,Bestellung,\"4,00\"\n");
+        ColumnTable table = loader.load();
+
+        assertFalse(loader.isLastLoadFull());
+        assertEquals(List.of("Datum/Uhrzeit", "Gesamt"), table.getHeaders());
+        assertEquals("4,00", table.getValue(2, "Gesamt"));
+    }
+
+    @Test
+    @DisplayName("Return the same table if the file is unchanged")
+    void testUnchangedFile() throws IOException {
+        IncrementalLoader loader = new IncrementalLoader(csv.toString(), 1, SCHEMA);
+        ColumnTable first = loader.load();
+
+        assertSame(first, loader.load());
+        assertEquals(0, loader.getAppendedRowCount());
+    }
+
+    @Test
+    @DisplayName("Continue from the state saved by a previous loader")
+    void testRestoreSavedState() throws IOException {
+        new IncrementalLoader(csv.toString(), 1, SCHEMA).load();
+        append(csv, "03.07.2024 12:00:00 UTC,Bestellung,\"4,00\"\n04.07.2024 12:00:00 UTC,Bestellung,\"1,00\"\n");
+
+        IncrementalLoader loader = new IncrementalLoader(csv.toString(), 1, SCHEMA);
+        ColumnTable table = loader.load();
+
+        assertFalse(loader.isLastLoadFull());
+        assertEquals(2, loader.getAppendedRowCount());
+        assertEquals(4, table.getRowCount());
+        assertEquals("Erstattung", table.getValue(1, "Typ"));
+    }
+
+    @Test
+    @DisplayName("Load the whole file again if loaded rows changed")
+    void testRewrittenFile() throws IOException {
+        IncrementalLoader loader = new IncrementalLoader(csv.toString(), 1, SCHEMA);
+        loader.load();
+
+        Files.writeString(csv, HEADER
+                + "01.07.2024 10:00:00 UTC,Bestellung,\"10,00\"\n"
+                + "02.07.2024 11:00:00 UTC,Erstattung,\"-9,99\"\n"
+                + "03.07.2024 12:00:00 UTC,Bestellung,\"4,00\"\n", StandardCharsets.UTF_8);
+        touch(csv);
+        ColumnTable table = loader.load();
+
+        assertTrue(loader.isLastLoadFull());
+        assertEquals(3, table.getRowCount());
+        assertEquals("-9,99", table.getValue(1, "Gesamt"));
+    }
+
+    @Test
+    @DisplayName("Append only the rows added to an Excel file")
+    void testAppendTailOfExcelFile() throws IOException {
+        Path xlsx = tempDir.resolve("transactions.xlsx");
+        writeWorkbook(xlsx, 2);
+        IncrementalLoader loader = new IncrementalLoader(xlsx.toString(), 0, SCHEMA);
+        assertEquals(2, loader.load().getRowCount());
+
+        writeWorkbook(xlsx, 5);
+        touch(xlsx);
+        ColumnTable table = loader.load();
+
+        assertFalse(loader.isLastLoadFull());
+        assertEquals(3, loader.getAppendedRowCount());
+        assertEquals(List.of("Bestellung 0", "Bestellung 4"), List.of(table.getValue(0, "Typ"), table.getValue(4, "Typ")));
+    }
+
+    private static void append(Path file, String rows) throws IOException {
+        Files.writeString(file, rows, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        touch(file);
+    }
+
+    private static void touch(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+    }
+
+    private static void writeWorkbook(Path file, int rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(file.toFile())) {
+            Sheet sheet = workbook.createSheet("Report");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Typ");
+            header.createCell(1).setCellValue("Gesamt");
+            for (int i = 0; i < rows; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue("Bestellung " + i);
+                row.createCell(1).setCellValue(i);
+            }
+            workbook.write(out);
+        }
+    }
+}
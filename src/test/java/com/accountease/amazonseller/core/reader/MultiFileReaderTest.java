@@ -0,0 +1,91 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.constants.FilterConstants;
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.NumericColumn;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MultiFileReader class.
+ *
+ * The tests write monthly report files into a temporary directory and verify that:
+ * - All files are merged into one table, in the order of the given files or of the file names.
+ * - Every row records the file it comes from in `FilterConstants.COLUMN_QUELLDATEI`.
+ * - Files with different headers are rejected.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("MultiFileReaderTest")
+class MultiFileReaderTest {
+
+    private static final TableSchema SCHEMA = TableSchema.empty().with("Gesamt", TableSchema.ColumnType.NUMERIC);
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        write("2024-02.csv", "Preamble\nTyp,Gesamt\nErstattung,\"-3,20\"\n");
+        write("2024-01.csv", "Preamble\nTyp,Gesamt\nBestellung,\"12,50\"\nBestellung,\"7,00\"\n");
+        write("notes.md", "not a report");
+    }
+
+    @Test
+    @DisplayName("Merge all report files of a directory ordered by file name")
+    void testReadDirectory() throws IOException {
+        ColumnTable table = MultiFileReader.readDirectory(tempDir.toString(), 1, SCHEMA);
+
+        assertEquals(List.of("Typ", "Gesamt", FilterConstants.COLUMN_QUELLDATEI), table.getHeaders());
+        assertEquals(3, table.getRowCount());
+        assertEquals("2024-01.csv", table.getValue(0, FilterConstants.COLUMN_QUELLDATEI));
+        assertEquals("2024-02.csv", table.getValue(2, FilterConstants.COLUMN_QUELLDATEI));
+        assertEquals("Erstattung", table.getValue(2, "Typ"));
+        assertEquals(-3.2, ((NumericColumn) table.getColumn("Gesamt")).getDouble(2), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Keep the order of the given files when reading with one thread")
+    void testReadTablesInGivenOrder() throws IOException {
+        ColumnTable table = MultiFileReader.readTables(List.of(
+                tempDir.resolve("2024-02.csv").toString(),
+                tempDir.resolve("2024-01.csv").toString()), 1, SCHEMA, 1);
+
+        assertEquals(List.of("Erstattung", "Bestellung", "Bestellung"),
+                List.of(table.getValue(0, "Typ"), table.getValue(1, "Typ"), table.getValue(2, "Typ")));
+    }
+
+    @Test
+    @DisplayName("Throw IllegalArgumentException if headers do not match")
+    void testHeadersDoNotMatch() throws IOException {
+        write("2024-03.csv", "Preamble\nTyp,Umsätze\nBestellung,\"1,00\"\n");
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> MultiFileReader.readDirectory(tempDir.toString(), 1, SCHEMA));
+
+        assertTrue(exception.getMessage().contains("2024-03.csv"));
+    }
+
+    @Test
+    @DisplayName("Throw IllegalArgumentException for a directory without report files")
+    void testEmptyDirectory() throws IOException {
+        Path empty = Files.createDirectory(tempDir.resolve("empty"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MultiFileReader.readDirectory(empty.toString(), 1, SCHEMA));
+    }
+
+    private void write(String fileName, String content) throws IOException {
+        Files.writeString(tempDir.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,150 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.NumericColumn;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParallelExcelReader class.
+ *
+ * The tests write a workbook spanning several batches into a temporary directory and verify that:
+ * - Rows, row indexes and cell values match those of {@link StreamingExcelReader}, in sheet order.
+ * - Tables built from parallel batches match tables read on a single thread, including parsed numbers.
+ * - Errors such as a missing header row or file are thrown on the calling thread.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("ParallelExcelReaderTest")
+class ParallelExcelReaderTest {
+
+    private static final int HEADER_ROW_INDEX = 1;
+    private static final int ROW_COUNT = 5000;
+
+    @TempDir
+    Path tempDir;
+
+    private String testFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        testFile = tempDir.resolve("transactions.xlsx").toString();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(testFile)) {
+            Sheet sheet = workbook.createSheet("Report");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd.mm.yyyy"));
+            sheet.createRow(0).createCell(0).setCellValue("Preamble text");
+
+            Row header = sheet.createRow(HEADER_ROW_INDEX);
+            header.createCell(0).setCellValue("Typ");
+            header.createCell(1).setCellValue("Datum");
+            header.createCell(2).setCellValue("Umsätze");
+            header.createCell(3).setCellValue(2024);
+
+            for (int i = 0; i < ROW_COUNT; i++) {
+                if (i % 100 == 7) {
+                    continue; // Missing rows
+                }
+                Row row = sheet.createRow(HEADER_ROW_INDEX + 1 + i);
+                row.createCell(0).setCellValue(i % 3 == 0 ? "Bestellung " : "Erstattung");
+                row.createCell(1).setCellValue(new Date(1_700_000_000_000L + i * 86_400_000L));
+                row.getCell(1).setCellStyle(dateStyle);
+                if (i % 5 != 0) {
+                    row.createCell(2).setCellValue(i * 1.25);
+                }
+                row.createCell(3).setCellValue(i % 2 == 0);
+            }
+            workbook.write(out);
+        }
+    }
+
+    @Test
+    @DisplayName("Pass the same rows as the streaming reader, in sheet order")
+    void testRowsMatchStreamingReader() throws IOException {
+        List<String> expectedHeaders = new ArrayList<>();
+        List<Integer> expectedIndexes = new ArrayList<>();
+        List<String[]> expectedRows = new ArrayList<>();
+        StreamingExcelReader.readExcel(testFile, HEADER_ROW_INDEX, collector(expectedHeaders, expectedIndexes, expectedRows));
+
+        List<String> headers = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
+        ParallelExcelReader.readExcel(testFile, HEADER_ROW_INDEX, 4, collector(headers, indexes, rows));
+
+        assertEquals(List.of("Typ", "Datum", "Umsätze", "2024"), headers);
+        assertEquals(expectedHeaders, headers);
+        assertEquals(expectedIndexes, indexes);
+        assertEquals(expectedRows.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertArrayEquals(expectedRows.get(i), rows.get(i), "Row " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Build the same typed table as the single-threaded reader")
+    void testReadTableMatchesSingleThreadedReader() throws IOException {
+        TableSchema schema = TableSchema.empty()
+                .with("Typ", TableSchema.ColumnType.DICTIONARY)
+                .with("Umsätze", TableSchema.ColumnType.NUMERIC)
+                .withProjection(List.of("Typ", "Umsätze"));
+
+        ColumnTable expected = ExcelReader.readTable(testFile, HEADER_ROW_INDEX, schema);
+        ColumnTable table = ParallelExcelReader.readTable(testFile, HEADER_ROW_INDEX, schema, 3);
+
+        assertEquals(List.of("Typ", "Umsätze"), table.getHeaders());
+        assertEquals(expected.getRowCount(), table.getRowCount());
+        assertEquals(expected.asRowList(), table.asRowList());
+
+        NumericColumn umsaetze = (NumericColumn) table.getColumn("Umsätze");
+        assertEquals(1.25, umsaetze.getDouble(1), 1e-9);
+        assertFalse(umsaetze.isPresent(0));
+    }
+
+    @Test
+    @DisplayName("Throw IllegalArgumentException if header row is missing")
+    void testHeaderRowIsMissing() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> ParallelExcelReader.readTable(testFile, ROW_COUNT * 2, TableSchema.empty(), 2));
+
+        assertTrue(exception.getMessage().contains("Header row not found at index"));
+    }
+
+    @Test
+    @DisplayName("Throw FileNotFoundException for a missing file")
+    void testMissingFile() {
+        assertThrows(FileNotFoundException.class,
+                () -> ParallelExcelReader.readTable(tempDir.resolve("missing.xlsx").toString(), 0, TableSchema.empty(), 2));
+    }
+
+    private static SheetRowHandler collector(List<String> headers, List<Integer> rowIndexes, List<String[]> rows) {
+        return new SheetRowHandler() {
+            @Override
+            public void onHeaders(List<String> h) {
+                headers.addAll(h);
+            }
+
+            @Override
+            public void onRow(int rowIndex, String[] values) {
+                rowIndexes.add(rowIndex);
+                rows.add(values);
+            }
+        };
+    }
+}
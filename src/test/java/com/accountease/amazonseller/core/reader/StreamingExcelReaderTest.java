@@ -0,0 +1,182 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.NumericColumn;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the StreamingExcelReader class.
+ *
+ * The tests write a small workbook into a temporary directory and verify that the streaming reader
+ * produces exactly the same rows as the DOM based {@link ExcelReader}:
+ * - Preamble rows before `headerRowIndex` are ignored.
+ * - Missing cells become empty strings and missing rows are skipped.
+ * - Numeric cells are rendered like `Cell.toString()`.
+ * - A missing header row or file results in the same exceptions as before.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("StreamingExcelReaderTest")
+class StreamingExcelReaderTest {
+
+    private static final int HEADER_ROW_INDEX = 2;
+
+    @TempDir
+    Path tempDir;
+
+    private String testFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        testFile = tempDir.resolve("transactions.xlsx").toString();
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(testFile)) {
+            Sheet sheet = workbook.createSheet("Report");
+            sheet.createRow(0).createCell(0).setCellValue("Preamble text");
+
+            Row header = sheet.createRow(HEADER_ROW_INDEX);
+            header.createCell(0).setCellValue(" Typ ");
+            header.createCell(1).setCellValue("Versand");
+            header.createCell(2).setCellValue("Umsätze");
+
+            Row first = sheet.createRow(3);
+            first.createCell(0).setCellValue("Bestellung");
+            first.createCell(1).setCellValue("Amazon");
+            first.createCell(2).setCellValue(12.5);
+
+            Row second = sheet.createRow(5);
+            second.createCell(0).setCellValue("Erstattung ");
+            second.createCell(2).setCellValue("-3,20");
+
+            workbook.write(out);
+        }
+    }
+
+    @Test
+    @DisplayName("Stream the same rows as the DOM reader")
+    void testStreamMatchesDomReader() throws IOException {
+        List<Map<String, String>> streamed = new ArrayList<>();
+        StreamingExcelReader.streamExcel(testFile, HEADER_ROW_INDEX, streamed::add);
+
+        assertEquals(ExcelReader.readExcel(testFile, HEADER_ROW_INDEX), streamed);
+    }
+
+    @Test
+    @DisplayName("Read the sheet into a column table with the same rows")
+    void testReadTableMatchesDomReader() throws IOException {
+        ColumnTable table = ExcelReader.readTable(testFile, HEADER_ROW_INDEX);
+
+        assertEquals(List.of("Typ", "Versand", "Umsätze"), table.getHeaders());
+        assertEquals(ExcelReader.readExcel(testFile, HEADER_ROW_INDEX), table.asRowList());
+    }
+
+    @Test
+    @DisplayName("Pass headers and aligned row values to the handler")
+    void testRowHandlerReceivesAlignedValues() throws IOException {
+        List<String> headers = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
+
+        StreamingExcelReader.readExcel(testFile, HEADER_ROW_INDEX, new SheetRowHandler() {
+            @Override
+            public void onHeaders(List<String> h) {
+                headers.addAll(h);
+            }
+
+            @Override
+            public void onRow(int rowIndex, String[] values) {
+                rows.add(values);
+            }
+        });
+
+        assertEquals(List.of("Typ", "Versand", "Umsätze"), headers);
+        assertEquals(2, rows.size(), "Missing rows should be skipped.");
+        assertArrayEquals(new String[]{"Bestellung", "Amazon", "12.5"}, rows.get(0));
+        assertArrayEquals(new String[]{"Erstattung", "", "-3,20"}, rows.get(1));
+    }
+
+    @Test
+    @DisplayName("Store numeric cells of numeric columns without rendering them first")
+    void testReadTableWithNumericColumn() throws IOException {
+        ColumnTable table = ExcelReader.readTable(testFile, HEADER_ROW_INDEX,
+                TableSchema.empty().with("Umsätze", TableSchema.ColumnType.NUMERIC));
+
+        NumericColumn umsaetze = (NumericColumn) table.getColumn("Umsätze");
+        assertEquals(12.5, umsaetze.getDouble(0));
+        assertEquals(-3.2, umsaetze.getDouble(1), 1e-9);
+        assertEquals(ExcelReader.readExcel(testFile, HEADER_ROW_INDEX), table.asRowList());
+    }
+
+    @Test
+    @DisplayName("Leave out columns outside the projection")
+    void testReadTableWithProjection() throws IOException {
+        ColumnTable table = ExcelReader.readTable(testFile, HEADER_ROW_INDEX,
+                TableSchema.empty().withProjection(List.of("Typ", "Umsätze")));
+
+        assertEquals(List.of("Typ", "Umsätze"), table.getHeaders());
+        assertEquals("12.5", table.getValue(0, "Umsätze"));
+        assertNull(table.getValue(0, "Versand"));
+    }
+
+    @Test
+    @DisplayName("Pass cells of rejected columns as empty strings")
+    void testRejectedColumnsAreNotConverted() throws IOException {
+        List<String[]> rows = new ArrayList<>();
+
+        StreamingExcelReader.readExcel(testFile, HEADER_ROW_INDEX, new SheetRowHandler() {
+            @Override
+            public void onHeaders(List<String> headers) {
+            }
+
+            @Override
+            public void onRow(int rowIndex, String[] values) {
+                rows.add(values);
+            }
+
+            @Override
+            public boolean acceptsColumn(String header) {
+                return !header.equals("Versand");
+            }
+        });
+
+        assertArrayEquals(new String[]{"Bestellung", "", "12.5"}, rows.get(0));
+    }
+
+    @Test
+    @DisplayName("Throw IllegalArgumentException if header row is missing")
+    void testHeaderRowIsMissing() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> StreamingExcelReader.streamExcel(testFile, 1, row -> { }));
+
+        assertTrue(exception.getMessage().contains("Header row not found at index"));
+    }
+
+    @Test
+    @DisplayName("Throw IllegalArgumentException if header row index is beyond the sheet")
+    void testHeaderRowIndexBeyondSheet() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StreamingExcelReader.streamExcel(testFile, 1000, row -> { }));
+    }
+
+    @Test
+    @DisplayName("Throw FileNotFoundException for a missing file")
+    void testMissingFile() {
+        assertThrows(FileNotFoundException.class,
+                () -> StreamingExcelReader.streamExcel(tempDir.resolve("missing.xlsx").toString(), 0, row -> { }));
+    }
+}
@@ -0,0 +1,82 @@
+package com.accountease.amazonseller.core.reader;
+
+import com.accountease.amazonseller.core.table.ColumnTable;
+import com.accountease.amazonseller.core.table.TableSchema;
+import io.qameta.allure.Epic;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TableSnapshotCache class.
+ *
+ * These tests verify that:
+ * - The first read parses the workbook and writes a snapshot next to it.
+ * - A later read of the unchanged workbook returns the same rows from the snapshot.
+ * - A changed workbook invalidates the snapshot and is parsed again.
+ */
+@Tag("unit")
+@Epic("Excel File Reader and Data Mapping")
+@DisplayName("TableSnapshotCacheTest")
+class TableSnapshotCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path testFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        testFile = tempDir.resolve("transactions.xlsx");
+        writeWorkbook("Bestellung");
+    }
+
+    private void writeWorkbook(String typ) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(testFile.toFile())) {
+            Sheet sheet = workbook.createSheet("Report");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Typ");
+            header.createCell(1).setCellValue("Gesamt");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(typ);
+            row.createCell(1).setCellValue("10,5");
+            workbook.write(out);
+        }
+    }
+
+    @Test
+    @DisplayName("Write a snapshot on first read and reuse it afterwards")
+    void testSnapshotIsWrittenAndReused() throws IOException {
+        TableSchema schema = TableSchema.transactionReport();
+
+        ColumnTable parsed = TableSnapshotCache.readTable(testFile.toString(), 0, schema);
+        Path snapshot = TableSnapshotCache.snapshotPath(testFile);
+        assertTrue(Files.isRegularFile(snapshot), "Snapshot should be written next to the source file.");
+
+        long modified = Files.getLastModifiedTime(snapshot).toMillis();
+        ColumnTable cached = TableSnapshotCache.readTable(testFile.toString(), 0, schema);
+
+        assertEquals(parsed.asRowList(), cached.asRowList());
+        assertEquals(modified, Files.getLastModifiedTime(snapshot).toMillis(), "Snapshot should not be rewritten.");
+    }
+
+    @Test
+    @DisplayName("Reparse a changed workbook")
+    void testChangedWorkbookIsReparsed() throws IOException {
+        TableSnapshotCache.readTable(testFile.toString(), 0, TableSchema.empty());
+        writeWorkbook("Erstattung");
+
+        ColumnTable table = TableSnapshotCache.readTable(testFile.toString(), 0, TableSchema.empty());
+
+        assertEquals("Erstattung", table.getValue(0, "Typ"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.accountease.amazonseller.core.table;
+
+import com.accountease.amazonseller.core.processor.DateFilter;
+import com.accountease.amazonseller.core.processor.MultiColumnFilter;
+import com.accountease.amazonseller.core.processor.SummationProcessor;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AggregateCube class.
+ *
+ * These tests verify that:
+ * - Totals answered from the cube match those of filtering and summing the rows, up to the rounding of adding
+ *   the values day by day instead of row by row.
+ * - `!exclude` filters and filters on missing columns behave as in `MultiColumnFilter`.
+ * - Queries the cube cannot answer (other columns, ranges ending within a day) return `null`.
+ * - Only days with rows are kept, however far apart they are.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("AggregateCubeTest")
+class AggregateCubeTest {
+
+    private static final String PATTERN = "dd.MM.yyyy HH:mm:ss";
+    private static final List<String> HEADERS = List.of("Datum/Uhrzeit", "Typ", "Versand", "Bestellnummer", "Umsätze", "Gesamt");
+
+    private SimpleDateFormat dateFormat;
+    private ColumnTable table;
+    private AggregateCube cube;
+
+    @BeforeEach
+    void setUp() {
+        dateFormat = new SimpleDateFormat(PATTERN);
+        ColumnTable.Builder builder = ColumnTable.builder(HEADERS, TableSchema.transactionReport());
+        builder.appendRow(new String[]{"30.06.2024 23:00:00 UTC", "Bestellung", "Amazon", "A-1", "100,00", "90,00"});
+        builder.appendRow(new String[]{"01.07.2024 08:00:00 UTC", "Bestellung", "Amazon", "A-2", "10,10", "9,00"});
+        builder.appendRow(new String[]{"01.07.2024 18:30:00 UTC", "Bestellung", "Verkäufer", "A-3", "20,20", "18,00"});
+        builder.appendRow(new String[]{"15.07.2024 12:00:00 UTC", "Erstattung", "Amazon", "A-2", "-10,10", "-9,00"});
+        builder.appendRow(new String[]{"15.07.2024 13:00:00 UTC", "Bestellung", "Amazon", "A-4", "", "5,00"});
+        builder.appendRow(new String[]{"", "Bestellung", "Amazon", "A-5", "1000,00", "1000,00"});
+        builder.appendRow(new String[]{"31.07.2024 23:59:59 UTC", "Bestellung", "Amazon", "A-6", "3,30", "3,00"});
+        builder.appendRow(new String[]{"01.08.2024 00:00:00 UTC", "Bestellung", "Amazon", "A-7", "50,00", "45,00"});
+        table = builder.build();
+        cube = AggregateCube.build(table, "Datum/Uhrzeit");
+    }
+
+    @Test
+    @DisplayName("Build one cell per group and day")
+    void testBuild() {
+        assertNotNull(cube);
+        assertTrue(cube.getDimensions().containsAll(List.of("Typ", "Versand")));
+        assertFalse(cube.getDimensions().contains("Bestellnummer"));
+        assertTrue(cube.getMeasures().containsAll(List.of("Umsätze", "Gesamt")));
+        assertEquals(7, cube.getCellCount(), "Rows without a date should not be aggregated.");
+        assertTrue(cube.isParsedWith(dateFormat));
+        assertNull(AggregateCube.build(table, "Fehlt"));
+        assertNull(AggregateCube.build(table, "Typ"));
+    }
+
+    @Test
+    @DisplayName("Match the totals of filtering and summing the rows")
+    void testSumMatchesScan() throws ParseException {
+        List<Map<String, List<String>>> filters = List.of(
+                Map.of(),
+                Map.of("Typ", List.of("Bestellung")),
+                Map.of("Typ", List.of("Bestellung"), "Versand", List.of("Amazon")),
+                Map.of("Versand", List.of("Amazon", "!exclude")),
+                Map.of("Typ", List.of("Bestellung", "Erstattung"), "Versand", List.of("Amazon"))
+        );
+        List<String> numericColumns = List.of("Umsätze", "Gesamt");
+
+        for (Map<String, List<String>> filter : filters) {
+            Double expected = scan(filter, numericColumns, "01.07.2024 00:00:00", "31.07.2024 23:59:59");
+            Double actual = cube.sum(filter, numericColumns, millis("01.07.2024 00:00:00"), millis("31.07.2024 23:59:59"));
+            assertNotNull(actual, "The cube should answer " + filter);
+            assertEquals(expected, actual, 1e-9, "Totals should match for " + filter);
+        }
+
+        assertEquals(0, cube.count(Map.of("Typ", List.of("Bestellung"), "Versand", List.of("Amazon")), "Umsätze",
+                millis("15.07.2024 00:00:00"), millis("15.07.2024 23:59:59")), "Empty values should not be counted.");
+        assertEquals(1, cube.count(Map.of("Typ", List.of("Bestellung"), "Versand", List.of("Amazon")), "Gesamt",
+                millis("15.07.2024 00:00:00"), millis("15.07.2024 23:59:59")));
+    }
+
+    @Test
+    @DisplayName("Treat filters on missing columns as columns of empty values")
+    void testMissingColumnFilter() throws ParseException {
+        long start = millis("01.07.2024 00:00:00");
+        long end = millis("31.07.2024 23:59:59");
+
+        assertEquals(0.0, cube.sum(Map.of("Fehlt", List.of("x")), List.of("Umsätze"), start, end));
+        assertEquals(scan(Map.of(), List.of("Umsätze", "Fehlt"), "01.07.2024 00:00:00", "31.07.2024 23:59:59"),
+                cube.sum(Map.of("Fehlt", List.of("x", "!exclude")), List.of("Umsätze", "Fehlt"), start, end), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Leave queries the cube cannot answer to a scan")
+    void testUnanswerableQueries() throws ParseException {
+        long start = millis("01.07.2024 00:00:00");
+        long end = millis("31.07.2024 23:59:59");
+
+        assertNull(cube.sum(Map.of("Bestellnummer", List.of("A-2")), List.of("Umsätze"), start, end),
+                "Filters on non-dictionary columns need a scan.");
+        assertNull(cube.sum(Map.of(), List.of("Bestellnummer"), start, end),
+                "Text columns need a scan.");
+        assertNull(cube.sum(Map.of(), List.of("Umsätze"), millis("01.07.2024 12:00:00"), end),
+                "Ranges starting within a day with rows on both sides need a scan.");
+        assertNotNull(cube.sum(Map.of(), List.of("Umsätze"), millis("01.07.2024 07:00:00"), end),
+                "Ranges starting before the first row of a day can be answered.");
+    }
+
+    @Test
+    @DisplayName("Keep only the days that have rows")
+    void testSparseDays() throws ParseException {
+        ColumnTable.Builder builder = ColumnTable.builder(HEADERS, TableSchema.transactionReport());
+        builder.appendRow(new String[]{"01.07.1970 10:00:00 UTC", "Bestellung", "Amazon", "A-1", "1,00", "1,00"});
+        builder.appendRow(new String[]{"01.07.9999 10:00:00 UTC", "Bestellung", "Amazon", "A-2", "2,00", "2,00"});
+        AggregateCube sparse = AggregateCube.build(builder.build(), "Datum/Uhrzeit");
+
+        assertNotNull(sparse);
+        assertEquals(2, sparse.getDayCount());
+        assertEquals(3.0, sparse.sum(Map.of(), List.of("Umsätze"), millis("01.01.1970 00:00:00"), millis("31.12.9999 23:59:59")));
+        assertEquals(2.0, sparse.sum(Map.of(), List.of("Umsätze"), millis("01.01.2024 00:00:00"), millis("31.12.9999 23:59:59")));
+
+        ColumnTable.Builder distant = ColumnTable.builder(HEADERS, TableSchema.transactionReport());
+        distant.appendRow(new String[]{"01.07.99999999 10:00:00 UTC", "Bestellung", "Amazon", "A-3", "3,00", "3,00"});
+        assertNull(AggregateCube.build(distant.build(), "Datum/Uhrzeit"), "Days beyond the range of int should not be numbered.");
+    }
+
+    private Double scan(Map<String, List<String>> filters, List<String> numericColumns, String start, String end)
+            throws ParseException {
+        RowSelection dated = new DateFilter("Datum/Uhrzeit", start, end, new SimpleDateFormat(PATTERN))
+                .filter(table, table.allRows());
+        RowSelection filtered = new MultiColumnFilter().filterByColumns(filters, table, dated);
+        return new SummationProcessor().calculateTotalSum(table, filtered, numericColumns);
+    }
+
+    private long millis(String date) throws ParseException {
+        return dateFormat.parse(date).getTime();
+    }
+}
@@ -0,0 +1,138 @@
+package com.accountease.amazonseller.core.table;
+
+import com.accountease.amazonseller.core.processor.ExactAmount;
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of the aggregation kernels on a column of eight million rows.
+ *
+ * Tagged `benchmark`, so it only runs with `mvn test -Pbenchmark`, or with `mvn test -Pbenchmark,vector` to include
+ * the Vector API kernel. For dense, half-selected and sparse bitmaps it compares the row-by-row loop over a bitmap
+ * iterator (as `SummationProcessor` used to sum) with every available kernel, prints the best time of several rounds
+ * and verifies that:
+ * - The kernel selected by `AggregationKernel.get()` computes the count, sum, minimum and maximum faster than the
+ *   row loop on all rows.
+ * - `NumericColumn.aggregateCents` sums in cents faster than converting every row with `ExactAmount.toCents`,
+ *   as `SummationProcessor.calculateExactSum` did before.
+ */
+@Tag("benchmark")
+@Epic("Columnar Dataset")
+@DisplayName("AggregationBenchmarkTest")
+class AggregationBenchmarkTest {
+
+    private static final int ROWS = 8_000_000;
+    private static final int ROUNDS = 15;
+
+    private static double[] doubles;
+    private static long[] longs;
+    private static List<RowBitmap> bitmaps;
+    private static List<String> names;
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(42);
+        doubles = new double[ROWS];
+        longs = new long[ROWS];
+        RowBitmap.Builder half = new RowBitmap.Builder();
+        RowBitmap.Builder sparse = new RowBitmap.Builder();
+        for (int row = 0; row < ROWS; row++) {
+            longs[row] = random.nextInt(2_000_000) - 1_000_000; // Amounts in cents
+            doubles[row] = longs[row] / 100.0;
+            if (random.nextBoolean()) half.add(row);
+            if (random.nextInt(100) == 0) sparse.add(row);
+        }
+        bitmaps = List.of(RowBitmap.all(ROWS), half.build(), sparse.build());
+        names = List.of("all rows", "50% of rows", "1% of rows");
+    }
+
+    @Test
+    @DisplayName("Aggregate faster than a loop over the rows")
+    void testKernels() {
+        List<AggregationKernel> kernels = new ArrayList<>(List.of(AggregationKernel.scalar(), AggregationKernel.lanes()));
+        if (AggregationKernel.vector() != null) {
+            kernels.add(AggregationKernel.vector());
+        }
+        System.out.println("Rows: " + ROWS + ", best of " + ROUNDS + " rounds, kernel selected at runtime: "
+                + AggregationKernel.get().getName());
+
+        double[] rowLoop = new double[bitmaps.size()];
+        for (int b = 0; b < bitmaps.size(); b++) {
+            RowBitmap rows = bitmaps.get(b);
+            rowLoop[b] = time(r -> rowLoop(doubles, r), rows);
+            StringBuilder doubleTimes = new StringBuilder(String.format("row loop %8.2f ms", rowLoop[b]));
+            StringBuilder longTimes = new StringBuilder();
+            for (AggregationKernel kernel : kernels) {
+                doubleTimes.append(String.format(", %s %8.2f ms", kernel.getName(), time(r -> kernel.aggregate(doubles, r).getSum(), rows)));
+                longTimes.append(String.format(", %s %8.2f ms", kernel.getName(), time(r -> kernel.aggregate(longs, r).getSum(), rows)));
+            }
+            System.out.printf("%-12s %s%n  double[]: %s%n  long[]:   %s%n", names.get(b), rows, doubleTimes, longTimes.substring(2));
+        }
+
+        double selected = time(r -> AggregationKernel.get().aggregate(doubles, r).getSum(), bitmaps.get(0));
+        assertTrue(selected < rowLoop[0], "The selected kernel should be faster than the row loop on all rows.");
+    }
+
+    @Test
+    @DisplayName("Sum a numeric column in cents faster than row by row")
+    void testNumericColumn() {
+        NumericColumn column = new NumericColumn();
+        for (double value : doubles) {
+            column.appendNumber(value);
+        }
+        RowBitmap rows = bitmaps.get(0);
+
+        double rowLoop = time(r -> {
+            long cents = 0;
+            for (RowBitmap.RowIterator it = r.iterator(); it.hasNext(); ) {
+                int row = it.next();
+                if (column.isPresent(row)) {
+                    cents = Math.addExact(cents, ExactAmount.toCents(column.getDouble(row)));
+                }
+            }
+            return cents;
+        }, rows);
+        double kernel = time(r -> column.aggregateCents(r).getSum(), rows);
+
+        System.out.printf("Numeric column in cents, all rows: row loop %8.2f ms, aggregateCents (%s) %8.2f ms%n",
+                rowLoop, AggregationKernel.get().getName(), kernel);
+        assertTrue(kernel < rowLoop, "Summing the cached cents should be faster than converting every row.");
+    }
+
+    private static double rowLoop(double[] values, RowBitmap rows) {
+        long count = 0;
+        double sum = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (RowBitmap.RowIterator it = rows.iterator(); it.hasNext(); ) {
+            double value = values[it.next()];
+            count++;
+            sum += value;
+            min = value < min ? value : min;
+            max = value > max ? value : max;
+        }
+        return sum + count + min + max;
+    }
+
+    /**
+     * Returns the best time of several rounds in milliseconds; the results are compared, which keeps them alive.
+     */
+    private static double time(ToDoubleFunction<RowBitmap> run, RowBitmap rows) {
+        double first = run.applyAsDouble(rows);
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            double result = run.applyAsDouble(rows);
+            best = Math.min(best, System.nanoTime() - start);
+            assertEquals(first, result);
+        }
+        return best / 1e6;
+    }
+}
@@ -0,0 +1,153 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AggregationKernel class.
+ *
+ * These tests compare the kernels (the Vector API kernel only if it is available, see `mvn test -Pvector`) with a
+ * plain loop over the rows of a bitmap and verify that:
+ * - Count, sum, minimum and maximum match for dense, half-selected, sparse and empty bitmaps.
+ * - The scalar kernel adds doubles in row order, so its sums are identical to the loop.
+ * - Long sums throw when they overflow, and the kernel is selected at runtime by availability or explicitly.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("AggregationKernelTest")
+class AggregationKernelTest {
+
+    private static final int ROWS = 3 * 65536 + 77;
+
+    private double[] doubles;
+    private long[] longs;
+    private List<RowBitmap> bitmaps;
+    private List<AggregationKernel> kernels;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(5);
+        doubles = new double[ROWS];
+        longs = new long[ROWS];
+        RowBitmap.Builder half = new RowBitmap.Builder();
+        RowBitmap.Builder sparse = new RowBitmap.Builder();
+        RowBitmap.Builder runs = new RowBitmap.Builder();
+        for (int row = 0; row < ROWS; row++) {
+            longs[row] = random.nextInt(2_000_000) - 1_000_000;
+            doubles[row] = longs[row] / 100.0;
+            if (random.nextBoolean()) half.add(row);
+            if (random.nextInt(100) == 0) sparse.add(row);
+            if (row % 1000 < 300) runs.add(row);
+        }
+        bitmaps = List.of(RowBitmap.all(ROWS), half.build(), sparse.build(), runs.build(), RowBitmap.of(0, 63, 64, ROWS - 1),
+                RowBitmap.empty());
+        kernels = AggregationKernel.vector() != null
+                ? List.of(AggregationKernel.scalar(), AggregationKernel.lanes(), AggregationKernel.vector())
+                : List.of(AggregationKernel.scalar(), AggregationKernel.lanes());
+    }
+
+    @Test
+    @DisplayName("Aggregate doubles like a loop over the rows")
+    void testAggregateDoubles() {
+        for (RowBitmap rows : bitmaps) {
+            long count = 0;
+            double sum = 0.0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (RowBitmap.RowIterator it = rows.iterator(); it.hasNext(); ) {
+                double value = doubles[it.next()];
+                count++;
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+
+            AggregationKernel.DoubleAggregate scalar = AggregationKernel.scalar().aggregate(doubles, rows);
+            assertEquals(count, scalar.getCount(), rows.toString());
+            assertEquals(sum, scalar.getSum(), "The scalar kernel should add in row order: " + rows);
+            assertEquals(min, scalar.getMin());
+            assertEquals(max, scalar.getMax());
+
+            for (AggregationKernel kernel : kernels.subList(1, kernels.size())) {
+                AggregationKernel.DoubleAggregate result = kernel.aggregate(doubles, rows);
+                assertEquals(count, result.getCount(), kernel + " " + rows);
+                assertEquals(sum, result.getSum(), 1e-6, kernel + " " + rows);
+                assertEquals(min, result.getMin(), kernel + " " + rows);
+                assertEquals(max, result.getMax(), kernel + " " + rows);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Aggregate longs exactly")
+    void testAggregateLongs() {
+        for (RowBitmap rows : bitmaps) {
+            long count = 0;
+            long sum = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (RowBitmap.RowIterator it = rows.iterator(); it.hasNext(); ) {
+                long value = longs[it.next()];
+                count++;
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+
+            for (AggregationKernel kernel : kernels) {
+                AggregationKernel.LongAggregate result = kernel.aggregate(longs, rows);
+                assertEquals(count, result.getCount(), kernel + " " + rows);
+                assertEquals(sum, result.getSum(), kernel + " " + rows);
+                assertEquals(min, result.getMin(), kernel + " " + rows);
+                assertEquals(max, result.getMax(), kernel + " " + rows);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Throw on overflowing long sums")
+    void testLongOverflow() {
+        long[] large = new long[128];
+        Arrays.fill(large, Long.MAX_VALUE / 10);
+        RowBitmap.Builder even = new RowBitmap.Builder();
+        for (int row = 0; row < large.length; row += 2) {
+            even.add(row);
+        }
+
+        for (AggregationKernel kernel : kernels) {
+            assertThrows(ArithmeticException.class, () -> kernel.aggregate(large, RowBitmap.all(128)), kernel.toString());
+            assertThrows(ArithmeticException.class, () -> kernel.aggregate(large, even.build()), kernel.toString());
+            assertEquals(9 * (Long.MAX_VALUE / 10), kernel.aggregate(large, RowBitmap.of(0, 1, 2, 3, 4, 5, 6, 7, 8)).getSum());
+        }
+    }
+
+    @Test
+    @DisplayName("Select the kernel at runtime")
+    void testSelection() {
+        String previous = System.getProperty(AggregationKernel.PROPERTY);
+        try {
+            System.setProperty(AggregationKernel.PROPERTY, "scalar");
+            assertSame(AggregationKernel.scalar(), AggregationKernel.get());
+            System.setProperty(AggregationKernel.PROPERTY, "lanes");
+            assertSame(AggregationKernel.lanes(), AggregationKernel.get());
+
+            AggregationKernel preferred = AggregationKernel.vector() != null ? AggregationKernel.vector() : AggregationKernel.lanes();
+            System.setProperty(AggregationKernel.PROPERTY, "vector");
+            assertSame(preferred, AggregationKernel.get(), "Falls back to lanes without the Vector API.");
+            System.clearProperty(AggregationKernel.PROPERTY);
+            assertSame(preferred, AggregationKernel.get());
+        } finally {
+            if (previous != null) {
+                System.setProperty(AggregationKernel.PROPERTY, previous);
+            } else {
+                System.clearProperty(AggregationKernel.PROPERTY);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ColumnStatistics class.
+ *
+ * These tests verify that:
+ * - Value frequencies and the distinct count of a dictionary column match the rows of the table.
+ * - The index returns the rows of the accepted values in ascending order.
+ * - Statistics of a table ignore rows appended to its columns afterwards, and are restored from snapshots.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("ColumnStatisticsTest")
+class ColumnStatisticsTest {
+
+    private static final TableSchema SCHEMA = TableSchema.empty().with("Typ", TableSchema.ColumnType.DICTIONARY);
+
+    @TempDir
+    Path tempDir;
+
+    private ColumnTable table;
+
+    @BeforeEach
+    void setUp() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Gesamt"), SCHEMA);
+        builder.appendRow(new String[]{"Bestellung", "1"});
+        builder.appendRow(new String[]{"Erstattung", "2"});
+        builder.appendRow(new String[]{"Bestellung", "3"});
+        builder.appendRow(new String[]{"Anpassung", "4"});
+        builder.appendRow(new String[]{"Bestellung", "5"});
+        table = builder.build();
+    }
+
+    @Test
+    @DisplayName("Count the rows of every value")
+    void testFrequencies() {
+        ColumnStatistics statistics = table.getStatistics("Typ");
+
+        assertEquals(5, statistics.getRowCount());
+        assertEquals(3, statistics.getDistinctCount());
+        assertEquals(3, statistics.getFrequency("Bestellung"));
+        assertEquals(1, statistics.getFrequency("Anpassung"));
+        assertEquals(0, statistics.getFrequency("Servicegebühr"));
+        assertNull(table.getStatistics("Gesamt"), "Text columns should have no statistics.");
+        assertNull(table.getStatistics("Fehlt"));
+    }
+
+    @Test
+    @DisplayName("Select the rows of accepted values from the index")
+    void testSelectCodes() {
+        DictionaryColumn column = (DictionaryColumn) table.getColumn("Typ");
+        boolean[] accepted = new boolean[column.getDictionarySize()];
+        accepted[column.codeOf("Bestellung")] = true;
+        accepted[column.codeOf("Anpassung")] = true;
+
+        ColumnStatistics statistics = table.getStatistics("Typ");
+
+        assertEquals(4, statistics.countCodes(accepted));
+        assertArrayEquals(new int[]{0, 2, 3, 4}, statistics.selectCodes(accepted).toArray());
+    }
+
+    @Test
+    @DisplayName("Ignore rows appended after the table was built")
+    void testStatisticsOfContinuedTable() throws IOException {
+        ColumnTable.Builder builder = ColumnTable.builder(table);
+        builder.appendRow(new String[]{"Bestellung", "6"});
+        builder.appendRow(new String[]{"Servicegebühr", "7"});
+        ColumnTable continued = builder.build();
+
+        assertEquals(3, table.getStatistics("Typ").getFrequency("Bestellung"));
+        assertEquals(0, table.getStatistics("Typ").getFrequency("Servicegebühr"));
+        assertEquals(4, continued.getStatistics("Typ").getFrequency("Bestellung"));
+        assertEquals(4, continued.getStatistics("Typ").getDistinctCount());
+
+        Path file = tempDir.resolve("statistics.snapshot");
+        TableSnapshot.write(continued, file, new byte[]{1});
+        ColumnTable restored = TableSnapshot.read(file, new byte[]{1});
+        assertEquals(4, restored.getStatistics("Typ").getFrequency("Bestellung"));
+    }
+}
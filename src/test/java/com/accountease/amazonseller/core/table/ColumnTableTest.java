@@ -0,0 +1,154 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ColumnTable class.
+ *
+ * These tests verify that:
+ * - Headers are resolved to column indexes and values are addressed by row index.
+ * - Row views behave like the row maps produced by the Excel reader (equality, missing keys).
+ * - Row views and row lists are read-only.
+ * - Short rows and `null` values are stored as empty strings.
+ * - Continuing a table copies its columns, so the table and others continued from it are never modified.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("ColumnTableTest")
+class ColumnTableTest {
+
+    private ColumnTable table;
+
+    @BeforeEach
+    void setUp() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Versand", "Gesamt"));
+        builder.appendRow(new String[]{"Bestellung", "Amazon", "10,5"});
+        builder.appendRow(new String[]{"Erstattung", null});
+        table = builder.build();
+    }
+
+    @Test
+    @DisplayName("Resolve columns and read values by row index")
+    void testValuesByRowIndex() {
+        assertEquals(2, table.getRowCount());
+        assertEquals(1, table.columnIndexOf("Versand"));
+        assertEquals(-1, table.columnIndexOf("Unknown"));
+        assertEquals("10,5", table.getValue(0, "Gesamt"));
+        assertEquals("Erstattung", table.getValue(1, 0));
+    }
+
+    @Test
+    @DisplayName("Store missing and null values as empty strings")
+    void testMissingValuesAreEmpty() {
+        assertEquals("", table.getValue(1, "Versand"));
+        assertEquals("", table.getValue(1, "Gesamt"));
+    }
+
+    @Test
+    @DisplayName("Row view equals the equivalent HashMap")
+    void testRowViewEqualsMap() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("Typ", "Bestellung");
+        expected.put("Versand", "Amazon");
+        expected.put("Gesamt", "10,5");
+
+        assertEquals(expected, table.rowView(0));
+        assertEquals(expected, table.asRowList().get(0));
+        assertEquals("default", table.rowView(0).getOrDefault("Unknown", "default"));
+    }
+
+    @Test
+    @DisplayName("Row views and row lists are read-only")
+    void testRowViewsAreReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> table.rowView(0).put("Typ", "x"));
+        assertThrows(UnsupportedOperationException.class, () -> table.asRowList().remove(0));
+    }
+
+    @Test
+    @DisplayName("Row list over a selection only contains the selected rows")
+    void testRowListOverSelection() {
+        RowSelection selection = RowSelection.of(new int[]{1}, 1);
+
+        List<Map<String, String>> rows = table.asRowList(selection);
+
+        assertEquals(1, rows.size());
+        assertEquals("Erstattung", rows.get(0).get("Typ"));
+    }
+
+    @Test
+    @DisplayName("Append a typed table and fill extra columns")
+    void testAppendTable() {
+        TableSchema schema = TableSchema.empty()
+                .with("Typ", TableSchema.ColumnType.DICTIONARY)
+                .with("Gesamt", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder source = ColumnTable.builder(List.of("Typ", "Versand", "Gesamt"), schema);
+        source.appendRow(new String[]{"Erstattung", "Amazon", "-2,5"});
+        source.appendRow(new String[]{"Bestellung", "", "abc"});
+        ColumnTable typed = source.build();
+
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Versand", "Gesamt", "Quelle"), schema);
+        builder.appendTable(table, "a.csv");
+        builder.appendTable(typed, "b.csv");
+        ColumnTable merged = builder.build();
+
+        assertEquals(4, merged.getRowCount());
+        assertEquals("Erstattung", merged.getValue(2, "Typ"));
+        assertEquals("b.csv", merged.getValue(3, "Quelle"));
+        assertEquals(((DictionaryColumn) merged.getColumn("Typ")).getCode(0),
+                ((DictionaryColumn) merged.getColumn("Typ")).getCode(3), "Equal values should share a code.");
+
+        NumericColumn gesamt = (NumericColumn) merged.getColumn("Gesamt");
+        assertEquals(10.5, gesamt.getDouble(0), 1e-9);
+        assertEquals(-2.5, gesamt.getDouble(2), 1e-9);
+        assertFalse(gesamt.isPresent(3));
+        assertEquals(1, gesamt.getInvalidCount());
+    }
+
+    @Test
+    @DisplayName("Reject a table with different headers")
+    void testAppendTableWithDifferentHeaders() {
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Gesamt"));
+
+        assertThrows(IllegalArgumentException.class, () -> builder.appendTable(table, ""));
+    }
+
+    @Test
+    @DisplayName("Continue a table without modifying it")
+    void testContinueTable() {
+        TableSchema schema = TableSchema.empty()
+                .with("Typ", TableSchema.ColumnType.DICTIONARY)
+                .with("Bestellnummer", TableSchema.ColumnType.UTF8)
+                .with("Gesamt", TableSchema.ColumnType.NUMERIC)
+                .withTimestamp("Datum/Uhrzeit", "dd.MM.yyyy HH:mm:ss");
+        ColumnTable.Builder source = ColumnTable.builder(List.of("Typ", "Bestellnummer", "Gesamt", "Datum/Uhrzeit"), schema);
+        source.appendRow(new String[]{"Bestellung", "302-1", "10,5", "01.07.2024 10:00:00 UTC"});
+        ColumnTable first = source.build();
+
+        ColumnTable.Builder builder = ColumnTable.builder(first);
+        builder.appendRow(new String[]{"Erstattung", "302-2", "-2,5", "02.07.2024 10:00:00 UTC"});
+        ColumnTable second = builder.build();
+        ColumnTable.Builder other = ColumnTable.builder(first);
+        other.appendRow(new String[]{"Servicegebühr", "302-3", "abc", "invalid"});
+        ColumnTable third = other.build();
+
+        assertEquals(1, first.getRowCount());
+        assertEquals(2, second.getRowCount());
+        for (int i = 0; i < first.getColumnCount(); i++) {
+            assertNotSame(first.getColumn(i), second.getColumn(i));
+        }
+        assertEquals(List.of("Erstattung", "302-2", "-2,5", "02.07.2024 10:00:00 UTC"), List.copyOf(second.rowView(1).values()));
+        assertEquals(List.of("Servicegebühr", "302-3", "abc", "invalid"), List.copyOf(third.rowView(1).values()));
+        assertEquals(List.of("Bestellung", "302-1", "10,5", "01.07.2024 10:00:00 UTC"), List.copyOf(third.rowView(0).values()));
+        assertEquals(-2.5, ((NumericColumn) second.getColumn("Gesamt")).getDouble(1), 1e-9);
+        assertEquals(0, ((NumericColumn) second.getColumn("Gesamt")).getInvalidCount());
+        assertEquals(1, ((NumericColumn) third.getColumn("Gesamt")).getInvalidCount());
+        assertEquals(-1, ((DictionaryColumn) first.getColumn("Typ")).codeOf("Erstattung"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DictionaryColumn class and its use through {@link TableSchema}.
+ *
+ * These tests verify that:
+ * - Repeated values share one dictionary entry and one code.
+ * - Values read back through the column and the table are unchanged.
+ * - Columns not mentioned in the schema remain plain text columns.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("DictionaryColumnTest")
+class DictionaryColumnTest {
+
+    private ColumnTable table;
+
+    @BeforeEach
+    void setUp() {
+        TableSchema schema = TableSchema.empty().with("Typ", TableSchema.ColumnType.DICTIONARY);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Bestellnummer"), schema);
+        builder.appendRow(new String[]{"Bestellung", "302-1"});
+        builder.appendRow(new String[]{"Erstattung", "302-2"});
+        builder.appendRow(new String[]{"Bestellung", "302-3"});
+        builder.appendRow(new String[]{null, "302-4"});
+        table = builder.build();
+    }
+
+    @Test
+    @DisplayName("Encode repeated values with the same code")
+    void testRepeatedValuesShareCode() {
+        DictionaryColumn column = (DictionaryColumn) table.getColumn("Typ");
+
+        assertEquals(3, column.getDictionarySize(), "Expected Bestellung, Erstattung and the empty value.");
+        assertEquals(column.getCode(0), column.getCode(2));
+        assertNotEquals(column.getCode(0), column.getCode(1));
+        assertEquals(column.getCode(0), column.codeOf("Bestellung"));
+        assertEquals(-1, column.codeOf("Anpassung"));
+    }
+
+    @Test
+    @DisplayName("Decode values unchanged")
+    void testDecodeValues() {
+        assertEquals("Bestellung", table.getValue(2, "Typ"));
+        assertEquals("Erstattung", table.rowView(1).get("Typ"));
+        assertEquals("", table.getValue(3, "Typ"));
+    }
+
+    @Test
+    @DisplayName("Keep columns outside the schema as text")
+    void testOtherColumnsStayText() {
+        assertInstanceOf(StringColumn.class, table.getColumn("Bestellnummer"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NumericColumn class.
+ *
+ * These tests verify that:
+ * - Values with commas, dots and surrounding spaces are parsed once into primitive numbers.
+ * - Empty cells are stored as null.
+ * - Invalid cells are stored as null, recorded once and keep their original text.
+ * - Numbers passed by a reader are stored as is and rendered as text only on demand.
+ * - Exact aggregates in cents skip empty and invalid cells and follow appended rows.
+ * - Numbers without a value in cents only fail an exact aggregate that selects them.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("NumericColumnTest")
+class NumericColumnTest {
+
+    private NumericColumn column;
+
+    @BeforeEach
+    void setUp() {
+        TableSchema schema = TableSchema.empty().with("Gesamt", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Gesamt"), schema);
+        builder.appendRow(new String[]{"10,5"});
+        builder.appendRow(new String[]{" -3.25 "});
+        builder.appendRow(new String[]{""});
+        builder.appendRow(new String[]{"invalid"});
+        builder.appendRow(new String[]{"invalid"});
+        column = (NumericColumn) builder.build().getColumn("Gesamt");
+    }
+
+    @Test
+    @DisplayName("Parse numbers with comma or dot")
+    void testParseNumbers() {
+        assertTrue(column.isPresent(0));
+        assertEquals(10.5, column.getDouble(0));
+        assertTrue(column.isPresent(1));
+        assertEquals(-3.25, column.getDouble(1));
+    }
+
+    @Test
+    @DisplayName("Store empty and invalid cells as null")
+    void testNullCells() {
+        assertFalse(column.isPresent(2));
+        assertFalse(column.isPresent(3));
+    }
+
+    @Test
+    @DisplayName("Record invalid cells once and keep their text")
+    void testInvalidCellsRecorded() {
+        assertEquals(2, column.getInvalidCount());
+        assertEquals(List.of("invalid"), column.getInvalidValues());
+        assertEquals("invalid", column.getString(3));
+        assertEquals("10,5", column.getString(0));
+    }
+
+    @Test
+    @DisplayName("Aggregate the numbers of the selected rows in cents")
+    void testAggregateCents() {
+        AggregationKernel.LongAggregate all = column.aggregateCents(RowBitmap.all(5));
+        assertEquals(2, all.getCount(), "Empty and invalid cells are skipped.");
+        assertEquals(1050 - 325, all.getSum());
+        assertEquals(-325, all.getMin());
+        assertEquals(1050, all.getMax());
+        assertEquals(1050, column.aggregateCents(RowBitmap.of(0, 2, 3)).getSum());
+        assertEquals(0, column.aggregateCents(RowBitmap.empty()).getCount());
+
+        column.appendNumber(1.005);
+        assertEquals(1050 - 325 + 101, column.aggregateCents(RowBitmap.all(6)).getSum(), "Appended rows are included.");
+    }
+
+    @Test
+    @DisplayName("Fail an aggregate in cents only if it selects a number out of range")
+    void testAggregateCentsOutOfRange() {
+        column.appendNumber(Double.NaN);
+        column.appendNumber(1e17);
+        column.appendNumber(2.5);
+
+        assertEquals(1050 - 325 + 250, column.aggregateCents(RowBitmap.of(0, 1, 7)).getSum());
+        assertThrows(ArithmeticException.class, () -> column.aggregateCents(RowBitmap.of(0, 5)));
+        assertThrows(ArithmeticException.class, () -> column.aggregateCents(RowBitmap.all(8)));
+        assertEquals(250, column.aggregateCents(RowBitmap.of(7)).getSum(), "A failed aggregate should not affect later ones.");
+    }
+
+    @Test
+    @DisplayName("Store numbers from the reader and render their text on demand")
+    void testAppendNumbers() {
+        TableSchema schema = TableSchema.empty().with("Gesamt", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Typ", "Gesamt"), schema);
+        builder.appendRow(new String[]{"Bestellung", null}, new double[]{0, 1.0E7});
+        builder.appendRow(new String[]{null, "-3,20"}, new double[]{2.5, 0});
+        ColumnTable table = builder.build();
+
+        NumericColumn gesamt = (NumericColumn) table.getColumn("Gesamt");
+        assertEquals(1.0E7, gesamt.getDouble(0));
+        assertEquals("1.0E7", gesamt.getString(0));
+        assertEquals(-3.2, gesamt.getDouble(1), 1e-9);
+        assertEquals("-3,20", gesamt.getString(1));
+        assertEquals("2.5", table.getValue(1, "Typ"), "Numbers of other columns should be rendered when appended.");
+
+        ColumnTable.Builder merged = ColumnTable.builder(List.of("Typ", "Gesamt"), schema);
+        merged.appendTable(table, "");
+        assertEquals("1.0E7", merged.build().getValue(0, "Gesamt"));
+    }
+}
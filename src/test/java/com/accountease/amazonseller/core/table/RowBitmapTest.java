@@ -0,0 +1,152 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RowBitmap class.
+ *
+ * These tests compare bitmaps with `java.util.BitSet` and verify that:
+ * - AND, OR and ANDNOT give the same rows for sparse, dense and run-shaped chunks and all their combinations.
+ * - Rows are iterated, visited as masks and converted in ascending order, and membership tests are exact.
+ * - Every chunk is stored in the smallest container.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("RowBitmapTest")
+class RowBitmapTest {
+
+    private static final int ROWS = 5 * 65536 + 123;
+
+    @Test
+    @DisplayName("Visit the rows as 64-bit masks in ascending order")
+    void testForEachWord() {
+        Random random = new Random(13);
+        for (BitSet set : new BitSet[]{sparse(random), dense(random), runs(random), mixed(random), new BitSet()}) {
+            BitSet visited = new BitSet();
+            int[] previous = {-64};
+            bitmapOf(set).forEachWord((firstRow, mask) -> {
+                assertEquals(0, firstRow % 64);
+                assertTrue(firstRow > previous[0], "Blocks should be visited once, in ascending order.");
+                assertNotEquals(0L, mask);
+                previous[0] = firstRow;
+                for (int bit = 0; bit < 64; bit++) {
+                    if ((mask & (1L << bit)) != 0) {
+                        visited.set(firstRow + bit);
+                    }
+                }
+            });
+            assertEquals(set, visited);
+        }
+    }
+
+    @Test
+    @DisplayName("Combine bitmaps like BitSets")
+    void testOperationsMatchBitSet() {
+        Random random = new Random(11);
+        BitSet[] sets = {sparse(random), dense(random), runs(random), mixed(random), new BitSet()};
+
+        for (BitSet a : sets) {
+            for (BitSet b : sets) {
+                RowBitmap left = bitmapOf(a);
+                RowBitmap right = bitmapOf(b);
+
+                BitSet and = (BitSet) a.clone();
+                and.and(b);
+                BitSet or = (BitSet) a.clone();
+                or.or(b);
+                BitSet andNot = (BitSet) a.clone();
+                andNot.andNot(b);
+
+                assertArrayEquals(and.stream().toArray(), left.and(right).toArray());
+                assertArrayEquals(or.stream().toArray(), left.or(right).toArray());
+                assertArrayEquals(andNot.stream().toArray(), left.andNot(right).toArray());
+                assertEquals(or.cardinality(), left.or(right).cardinality());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Iterate and look up rows in ascending order")
+    void testIterationAndContains() {
+        BitSet expected = mixed(new Random(5));
+        RowBitmap bitmap = bitmapOf(expected);
+
+        RowBitmap.RowIterator it = bitmap.iterator();
+        for (int row = expected.nextSetBit(0); row >= 0; row = expected.nextSetBit(row + 1)) {
+            assertTrue(it.hasNext());
+            assertEquals(row, it.next());
+        }
+        assertFalse(it.hasNext());
+
+        for (int row = 0; row < ROWS; row += 7) {
+            assertEquals(expected.get(row), bitmap.contains(row), "Row " + row);
+        }
+        assertArrayEquals(expected.stream().toArray(), RowBitmap.of(bitmap.toSelection()).toArray());
+    }
+
+    @Test
+    @DisplayName("Store chunks in the smallest container")
+    void testContainers() {
+        assertEquals("RowBitmap{rows=" + ROWS + ", array=0, bitset=0, run=6}", RowBitmap.all(ROWS).toString());
+        assertEquals("RowBitmap{rows=3, array=2, bitset=0, run=0}", RowBitmap.of(70000, 5, 70002).toString());
+
+        RowBitmap.Builder builder = new RowBitmap.Builder();
+        for (int row = 0; row < 65536; row += 2) {
+            builder.add(row);
+        }
+        assertEquals("RowBitmap{rows=32768, array=0, bitset=1, run=0}", builder.build().toString());
+        assertTrue(RowBitmap.empty().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> {
+            RowBitmap.Builder unordered = new RowBitmap.Builder();
+            unordered.add(5);
+            unordered.add(3);
+        });
+    }
+
+    private static RowBitmap bitmapOf(BitSet set) {
+        return RowBitmap.of(set.stream().toArray());
+    }
+
+    private static BitSet sparse(Random random) {
+        BitSet set = new BitSet();
+        for (int i = 0; i < 3000; i++) {
+            set.set(random.nextInt(ROWS));
+        }
+        return set;
+    }
+
+    private static BitSet dense(Random random) {
+        BitSet set = new BitSet();
+        for (int row = 0; row < ROWS; row++) {
+            if (random.nextInt(3) == 0) {
+                set.set(row);
+            }
+        }
+        return set;
+    }
+
+    private static BitSet runs(Random random) {
+        BitSet set = new BitSet();
+        for (int i = 0; i < 40; i++) {
+            int start = random.nextInt(ROWS);
+            set.set(start, Math.min(ROWS, start + random.nextInt(20000)));
+        }
+        return set;
+    }
+
+    private static BitSet mixed(Random random) {
+        BitSet set = sparse(random);
+        set.set(65536, 2 * 65536);
+        BitSet dense = dense(random);
+        for (int row = dense.nextSetBit(3 * 65536); row >= 0 && row < 4 * 65536; row = dense.nextSetBit(row + 1)) {
+            set.set(row);
+        }
+        return set;
+    }
+}
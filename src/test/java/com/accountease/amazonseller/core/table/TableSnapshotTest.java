@@ -0,0 +1,172 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TableSnapshot class.
+ *
+ * These tests verify that:
+ * - A table with text, dictionary, numeric, timestamp and UTF-8 columns survives a write/read round trip,
+ *   including the parsed values and null bitmaps.
+ * - Timestamps keep the time zone and leniency they were parsed with when read in another default time zone.
+ * - A snapshot written for a different key, a missing file or a truncated file yields `null`.
+ * - A failed write leaves no temporary file behind.
+ * - A corrupt length field anywhere in the file yields `null` or a table, but never an exception.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("TableSnapshotTest")
+class TableSnapshotTest {
+
+    private static final byte[] KEY = {1, 2, 3};
+
+    @TempDir
+    Path tempDir;
+
+    private ColumnTable table;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TableSchema schema = TableSchema.empty()
+                .with("Typ", TableSchema.ColumnType.DICTIONARY)
+                .with("Gesamt", TableSchema.ColumnType.NUMERIC)
+                .with("Bestellnummer", TableSchema.ColumnType.UTF8)
+                .withTimestamp("Datum/Uhrzeit", "dd.MM.yyyy HH:mm:ss");
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Datum/Uhrzeit", "Typ", "Beschreibung", "Gesamt", "Bestellnummer"), schema);
+        builder.appendRow(new String[]{"01.07.2024 10:00:00 UTC", "Bestellung", "Verkäufe", "10,5", "302-1"});
+        builder.appendRow(new String[]{"invalid", "Erstattung", "", "invalid", "302-Ü"});
+        builder.appendRow(new String[]{"", "Bestellung", "Werbekosten", ""});
+        table = builder.build();
+
+        snapshot = tempDir.resolve("table.snapshot");
+        TableSnapshot.write(table, snapshot, KEY);
+    }
+
+    @Test
+    @DisplayName("Round trip all column types")
+    void testRoundTrip() throws IOException {
+        ColumnTable restored = TableSnapshot.read(snapshot, KEY);
+
+        assertNotNull(restored);
+        assertEquals(table.getHeaders(), restored.getHeaders());
+        assertEquals(table.asRowList(), restored.asRowList());
+
+        DictionaryColumn typ = (DictionaryColumn) restored.getColumn("Typ");
+        assertEquals(2, typ.getDictionarySize());
+
+        NumericColumn gesamt = (NumericColumn) restored.getColumn("Gesamt");
+        assertTrue(gesamt.isPresent(0));
+        assertEquals(10.5, gesamt.getDouble(0));
+        assertFalse(gesamt.isPresent(1));
+        assertEquals(List.of("invalid"), gesamt.getInvalidValues());
+
+        TimestampColumn datum = (TimestampColumn) restored.getColumn("Datum/Uhrzeit");
+        TimestampColumn original = (TimestampColumn) table.getColumn("Datum/Uhrzeit");
+        assertEquals(original.getMillis(0), datum.getMillis(0));
+        assertFalse(datum.isPresent(1));
+        assertEquals(1, datum.getInvalidCount());
+
+        assertInstanceOf(Utf8Column.class, restored.getColumn("Bestellnummer"));
+    }
+
+    @Test
+    @DisplayName("Round trip numbers whose text is rendered on demand")
+    void testRoundTripNumbers() throws IOException {
+        TableSchema schema = TableSchema.empty().with("Gesamt", TableSchema.ColumnType.NUMERIC);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Gesamt"), schema);
+        builder.appendRow(new String[]{null}, new double[]{12.5});
+        builder.appendRow(new String[]{"-3,20"}, new double[]{0});
+        Path file = tempDir.resolve("numbers.snapshot");
+        TableSnapshot.write(builder.build(), file, KEY);
+
+        ColumnTable restored = TableSnapshot.read(file, KEY);
+
+        assertNotNull(restored);
+        assertEquals("12.5", restored.getValue(0, "Gesamt"));
+        assertEquals("-3,20", restored.getValue(1, "Gesamt"));
+        assertTrue(((NumericColumn) restored.getColumn("Gesamt")).renderedRows().get(0));
+    }
+
+    @Test
+    @DisplayName("Round trip timestamps in another default time zone")
+    void testRoundTripTimeZone() throws IOException {
+        TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+        try {
+            TableSchema schema = TableSchema.empty().withTimestamp("Datum/Uhrzeit", "dd.MM.yyyy HH:mm:ss");
+            ColumnTable.Builder builder = ColumnTable.builder(List.of("Datum/Uhrzeit"), schema);
+            builder.appendRow(new String[]{"01.07.2024 10:00:00"});
+            Path file = tempDir.resolve("berlin.snapshot");
+            TableSnapshot.write(builder.build(), file, KEY);
+            SimpleDateFormat berlinFormat = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss");
+
+            TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+            ColumnTable restored = TableSnapshot.read(file, KEY);
+
+            assertNotNull(restored);
+            TimestampColumn datum = (TimestampColumn) restored.getColumn("Datum/Uhrzeit");
+            assertEquals("01.07.2024 10:00:00", datum.getString(0));
+            assertTrue(datum.isParsedWith(berlinFormat));
+            assertFalse(datum.isParsedWith(new SimpleDateFormat("dd.MM.yyyy HH:mm:ss")));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    @Test
+    @DisplayName("Remove the temporary file if writing fails")
+    void testFailedWrite() throws IOException {
+        Path directory = Files.createDirectories(tempDir.resolve("occupied.snapshot"));
+        Files.writeString(directory.resolve("file"), "x");
+
+        assertThrows(IOException.class, () -> TableSnapshot.write(table, directory, KEY), "A non-empty directory cannot be replaced.");
+        assertFalse(Files.exists(tempDir.resolve("occupied.snapshot.tmp")));
+    }
+
+    @Test
+    @DisplayName("Return null for a different key")
+    void testKeyMismatch() throws IOException {
+        assertNull(TableSnapshot.read(snapshot, new byte[]{9}));
+    }
+
+    @Test
+    @DisplayName("Return null for missing or truncated files")
+    void testMissingOrTruncatedFile() throws IOException {
+        assertNull(TableSnapshot.read(tempDir.resolve("missing.snapshot"), KEY));
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Path truncated = tempDir.resolve("truncated.snapshot");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 10));
+        assertNull(TableSnapshot.read(truncated, KEY));
+    }
+
+    @Test
+    @DisplayName("Return null instead of throwing for corrupt lengths")
+    void testCorruptLengths() throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Path corrupt = tempDir.resolve("corrupt.snapshot");
+        for (int offset = 12; offset + Integer.BYTES <= bytes.length; offset++) {
+            for (int length : new int[]{-1, Integer.MAX_VALUE}) {
+                byte[] copy = bytes.clone();
+                ByteBuffer.wrap(copy).putInt(offset, length);
+                Files.write(corrupt, copy);
+                int position = offset;
+                assertDoesNotThrow(() -> TableSnapshot.read(corrupt, KEY), "Length " + length + " at " + position);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TimestampColumn class.
+ *
+ * These tests verify that:
+ * - Dates (with or without the ` UTC` suffix) are parsed once into epoch milliseconds.
+ * - Empty and invalid cells are stored as null.
+ * - Only the text of cells that the date pattern would not format back to is stored; all others are rendered on demand.
+ * - Range scans return exactly the rows inside `[start, end]`, in row order, also for unsorted data.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("TimestampColumnTest")
+class TimestampColumnTest {
+
+    private static final String PATTERN = "dd.MM.yyyy HH:mm:ss";
+
+    private final SimpleDateFormat format = new SimpleDateFormat(PATTERN);
+    private TimestampColumn column;
+
+    @BeforeEach
+    void setUp() {
+        TableSchema schema = TableSchema.empty().withTimestamp("Datum/Uhrzeit", PATTERN);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Datum/Uhrzeit"), schema);
+        builder.appendRow(new String[]{"15.01.2025 08:45:00 UTC"});
+        builder.appendRow(new String[]{"01.01.2025 00:00:00 UTC"});
+        builder.appendRow(new String[]{""});
+        builder.appendRow(new String[]{"invalid"});
+        builder.appendRow(new String[]{"10.01.2025 23:59:59"});
+        builder.appendRow(new String[]{"31.12.2024 23:59:59 UTC"});
+        column = (TimestampColumn) builder.build().getColumn("Datum/Uhrzeit");
+    }
+
+    @Test
+    @DisplayName("Parse dates once into epoch milliseconds")
+    void testParseDates() throws ParseException {
+        assertTrue(column.isPresent(0));
+        assertEquals(format.parse("15.01.2025 08:45:00").getTime(), column.getMillis(0));
+        assertEquals("15.01.2025 08:45:00 UTC", column.getString(0));
+    }
+
+    @Test
+    @DisplayName("Store empty and invalid dates as null")
+    void testNullDates() {
+        assertFalse(column.isPresent(2));
+        assertFalse(column.isPresent(3));
+        assertEquals(1, column.getInvalidCount());
+    }
+
+    @Test
+    @DisplayName("Store only the text that cannot be rendered from the timestamp")
+    void testRenderedText() {
+        TableSchema schema = TableSchema.empty().withTimestamp("Datum/Uhrzeit", PATTERN);
+        ColumnTable.Builder builder = ColumnTable.builder(List.of("Datum/Uhrzeit"), schema);
+        builder.appendRow(new String[]{"1.1.2025 8:00:00"});
+        builder.appendRow(new String[]{"01.01.2025 08:00:00 UTC "});
+        TimestampColumn other = (TimestampColumn) builder.build().getColumn("Datum/Uhrzeit");
+
+        assertEquals(List.of(0, 1, 4, 5), column.renderedRows().stream().boxed().toList());
+        assertEquals("", column.text().getString(0));
+        assertEquals("invalid", column.text().getString(3));
+        assertEquals(List.of("15.01.2025 08:45:00 UTC", "01.01.2025 00:00:00 UTC", "", "invalid", "10.01.2025 23:59:59",
+                "31.12.2024 23:59:59 UTC"), List.of(column.getString(0), column.getString(1), column.getString(2),
+                column.getString(3), column.getString(4), column.getString(5)));
+
+        assertTrue(other.renderedRows().isEmpty());
+        assertEquals("1.1.2025 8:00:00", other.getString(0));
+        assertEquals("01.01.2025 08:00:00 UTC ", other.getString(1));
+        assertEquals(other.getMillis(0), other.getMillis(1));
+    }
+
+    @Test
+    @DisplayName("Select rows inside an inclusive range in row order")
+    void testSelectRange() throws ParseException {
+        long start = format.parse("01.01.2025 00:00:00").getTime();
+        long end = format.parse("10.01.2025 23:59:59").getTime();
+
+        RowSelection result = column.selectRange(start, end, 6);
+
+        assertArrayEquals(new int[]{1, 4}, result.toArray());
+    }
+
+    @Test
+    @DisplayName("Ignore rows beyond the requested row count")
+    void testSelectRangeRespectsRowCount() throws ParseException {
+        long start = format.parse("01.01.2024 00:00:00").getTime();
+        long end = format.parse("31.12.2025 23:59:59").getTime();
+
+        RowSelection result = column.selectRange(start, end, 2);
+
+        assertArrayEquals(new int[]{0, 1}, result.toArray());
+    }
+
+    @Test
+    @DisplayName("Recognize a compatible date format")
+    void testIsParsedWith() {
+        assertTrue(column.isParsedWith(new SimpleDateFormat(PATTERN)));
+        assertFalse(column.isParsedWith(new SimpleDateFormat("yyyy-MM-dd")));
+    }
+}
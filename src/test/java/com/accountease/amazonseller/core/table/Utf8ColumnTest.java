@@ -0,0 +1,104 @@
+package com.accountease.amazonseller.core.table;
+
+import io.qameta.allure.Epic;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Utf8Column and Utf8Set classes.
+ *
+ * These tests verify that:
+ * - Values are decoded unchanged, including non-ASCII characters and values larger than a page.
+ * - Byte comparisons, hashing and set lookups ignore surrounding whitespace like `String.trim()`.
+ * - Distinct rows are found in the order of first occurrence, without blank values.
+ * - Appending from another arena column copies the raw bytes.
+ */
+@Tag("unit")
+@Epic("Columnar Dataset")
+@DisplayName("Utf8ColumnTest")
+class Utf8ColumnTest {
+
+    private Utf8Column column;
+
+    @BeforeEach
+    void setUp() {
+        column = new Utf8Column();
+        column.append("302-1234567-Ä");
+        column.append(" 302-1234567-Ä ");
+        column.append(null);
+        column.append("028-7654321");
+        column.append("   ");
+    }
+
+    @Test
+    @DisplayName("Decode values unchanged")
+    void testDecodeValues() {
+        assertEquals("302-1234567-Ä", column.getString(0));
+        assertEquals(" 302-1234567-Ä ", column.getString(1));
+        assertEquals("", column.getString(2));
+        assertEquals(5, column.size());
+    }
+
+    @Test
+    @DisplayName("Compare and hash trimmed raw bytes")
+    void testCompareTrimmedBytes() {
+        byte[] value = "302-1234567-Ä".getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(column.equalsBytes(0, value));
+        assertTrue(column.equalsBytes(1, value));
+        assertFalse(column.equalsBytes(3, value));
+        assertEquals(column.hash(0), column.hash(1));
+        assertTrue(column.sameValue(0, 1));
+        assertTrue(column.isBlank(4));
+    }
+
+    @Test
+    @DisplayName("Look up values in a Utf8Set")
+    void testUtf8Set() {
+        Utf8Set set = Utf8Set.of(List.of("028-7654321", "302-1234567-Ä", ""));
+
+        assertTrue(set.contains(column, 1));
+        assertTrue(set.contains(column, 3));
+        assertTrue(set.contains(column, 4), "Blank cells should match the empty filter value.");
+        assertFalse(Utf8Set.of(List.of("028")).contains(column, 3));
+    }
+
+    @Test
+    @DisplayName("Return the first row of every distinct value")
+    void testDistinctRows() {
+        assertArrayEquals(new int[]{0, 3}, column.distinctRows(RowSelection.all(5)));
+    }
+
+    @Test
+    @DisplayName("Store values across several pages and larger than a page")
+    void testPages() {
+        Utf8Column large = new Utf8Column();
+        String big = "x".repeat(3 << 20);
+        for (int i = 0; i < 10_000; i++) {
+            large.append("302-" + i);
+        }
+        large.append(big);
+        large.append("after");
+
+        assertEquals("302-0", large.getString(0));
+        assertEquals("302-9999", large.getString(9_999));
+        assertEquals(big, large.getString(10_000));
+        assertEquals("after", large.getString(10_001));
+    }
+
+    @Test
+    @DisplayName("Copy raw bytes when appending from another column")
+    void testAppendFrom() {
+        Utf8Column copy = new Utf8Column();
+        copy.append("first");
+        copy.appendFrom(column, 4);
+
+        assertEquals(5, copy.size());
+        assertEquals("302-1234567-Ä", copy.getString(1));
+        assertEquals("028-7654321", copy.getString(4));
+    }
+}